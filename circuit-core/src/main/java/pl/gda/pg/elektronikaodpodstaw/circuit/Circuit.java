@@ -0,0 +1,794 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.Arrays;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.CircuitNetlist;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.NodeAssigner;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
+
+/**
+ * Stores a circuit as an arena of elements kept in parallel primitive arrays.
+ * Every element is identified by a stable integer handle in the range {@code 0..handleLimit()-1};
+ * the handles of removed elements go to a free list and are reused by later additions, so the arrays
+ * never grow beyond the largest number of elements present at once. Iterating the handles in order
+ * visits the elements without any allocation, which keeps node assignment, netlist stamping and
+ * verification cache-friendly even for circuits of a hundred thousand elements.
+ * <p>
+ * Elements are named by their kind prefix and a per-kind number assigned on addition, e.g. "R1".
+ * Node numbers are only reassigned after elements were added or removed; while the topology is unchanged
+ * the same netlist is reused with only its values updated, so that the backends can reuse their factorization.
+ * <p>
+ * Simulation results are kept in an immutable {@link CircuitResults} swapped in as a whole, so a reader never sees
+ * a half-written solution. A copy of the circuit can be solved on another thread and its results published
+ * back as long as the circuit was not modified in the meantime, as tracked by its revision.
+ * An instance is not thread-safe, but circuits share no state, so separate instances can be used concurrently.
+ */
+public final class Circuit {
+
+    /** Marks the kind of a free handle. */
+    private static final byte FREE = -1;
+
+    /** The element kinds indexed by ordinal. */
+    private static final ElementKind[] KINDS = ElementKind.values();
+
+    /** Seeds the element hashes, so that an all-zero element does not hash to zero. */
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    /** The kind ordinal of each handle, or {@link #FREE}. */
+    private byte[] kinds;
+
+    /** The horizontal coordinate of the starting point of each element. */
+    private int[] startX;
+
+    /** The vertical coordinate of the starting point of each element. */
+    private int[] startY;
+
+    /** The horizontal coordinate of the ending point of each element. */
+    private int[] endX;
+
+    /** The vertical coordinate of the ending point of each element. */
+    private int[] endY;
+
+    /** The per-kind number of each element, forming its name together with the kind prefix. */
+    private int[] numbers;
+
+    /** The value of each element (resistance, capacitance, source value, ...). */
+    private double[] values;
+
+    /** The generation of each handle, incremented whenever the handle is given to a new element. */
+    private int[] generations;
+
+    /** The node number at the positive (ending) point of each element. */
+    private int[] nodePlus;
+
+    /** The node number at the negative (starting) point of each element. */
+    private int[] nodeMinus;
+
+    /** The index of each element in the netlist, or -1 for wires. */
+    private int[] netlistIndices;
+
+    /** The terminals of each element, two per handle, reused by node assignment. */
+    private int[] terminals;
+
+    /** The stack of free handles below {@link #limit}. */
+    private int[] freeHandles;
+
+    /** The number of free handles on the stack. */
+    private int freeCount = 0;
+
+    /** One past the largest handle ever used. */
+    private int limit = 0;
+
+    /** The number of live elements. */
+    private int size = 0;
+
+    /** The last number assigned to an element of each kind. */
+    private final int[] counters = new int[KINDS.length];
+
+    /** Assigns node numbers to the element terminals. */
+    private final NodeAssigner nodeAssigner = new NodeAssigner(64);
+
+    /** The number of nodes touching components, valid after node assignment. */
+    private int nodeCount = 0;
+
+    /** Indicates whether elements were added or removed since the last node assignment. */
+    private boolean isTopologyChanged = true;
+
+    /** The netlist of the last node assignment, reused while the topology is unchanged. */
+    private CircuitNetlist netlist = null;
+
+    /** The number of modifications of the circuit, including value changes. */
+    private long revision = 0;
+
+    /** The number of modifications of the element set, which require new node numbers. */
+    private long topologyRevision = 0;
+
+    /** The results of the last simulation. */
+    private CircuitResults results = CircuitResults.EMPTY;
+
+    /**
+     * The rank of each end point coordinate among the distinct coordinates on its axis, four per handle
+     * in the order start x, start y, end x, end y, valid for {@link #rankedTopology}.
+     */
+    private int[] ranks = new int[0];
+
+    /** The topology revision {@link #ranks} were computed for, or -1. */
+    private long rankedTopology = -1;
+
+    /**
+     * Constructs an empty circuit.
+     */
+    public Circuit() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty circuit able to hold the specified number of elements without growing.
+     *
+     * @param capacity the initial capacity.
+     */
+    public Circuit(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Constructs an independent copy of the specified circuit, including its numbering, free handles,
+     * revisions and results, so that it can be solved on another thread while the original keeps changing.
+     * Nodes of the copy are assigned anew.
+     *
+     * @param other the circuit to copy.
+     */
+    public Circuit(Circuit other) {
+        allocate(Math.max(other.limit, 1));
+        System.arraycopy(other.kinds, 0, kinds, 0, other.limit);
+        System.arraycopy(other.startX, 0, startX, 0, other.limit);
+        System.arraycopy(other.startY, 0, startY, 0, other.limit);
+        System.arraycopy(other.endX, 0, endX, 0, other.limit);
+        System.arraycopy(other.endY, 0, endY, 0, other.limit);
+        System.arraycopy(other.numbers, 0, numbers, 0, other.limit);
+        System.arraycopy(other.values, 0, values, 0, other.limit);
+        System.arraycopy(other.generations, 0, generations, 0, other.limit);
+        System.arraycopy(other.freeHandles, 0, freeHandles, 0, other.freeCount);
+        System.arraycopy(other.counters, 0, counters, 0, counters.length);
+        freeCount = other.freeCount;
+        limit = other.limit;
+        size = other.size;
+        revision = other.revision;
+        topologyRevision = other.topologyRevision;
+        results = other.results;
+    }
+
+    /**
+     * Takes over the values and revision of a copy with the same topology, keeping the node assignment
+     * and netlist of this circuit so that the backends can reuse their factorization.
+     *
+     * @param other a circuit with the same topology revision.
+     * @throws IllegalArgumentException if the topology of the circuits differs.
+     */
+    public void copyValues(Circuit other) {
+        if (other.topologyRevision != topologyRevision || other.limit != limit)
+            throw new IllegalArgumentException("Circuit topology differs!");
+        System.arraycopy(other.values, 0, values, 0, limit);
+        revision = other.revision;
+    }
+
+    /**
+     * Resizes all arrays to the specified capacity, keeping their contents.
+     *
+     * @param capacity the new capacity.
+     */
+    private void allocate(int capacity) {
+        kinds = kinds == null ? new byte[capacity] : Arrays.copyOf(kinds, capacity);
+        startX = startX == null ? new int[capacity] : Arrays.copyOf(startX, capacity);
+        startY = startY == null ? new int[capacity] : Arrays.copyOf(startY, capacity);
+        endX = endX == null ? new int[capacity] : Arrays.copyOf(endX, capacity);
+        endY = endY == null ? new int[capacity] : Arrays.copyOf(endY, capacity);
+        numbers = numbers == null ? new int[capacity] : Arrays.copyOf(numbers, capacity);
+        values = values == null ? new double[capacity] : Arrays.copyOf(values, capacity);
+        generations = generations == null ? new int[capacity] : Arrays.copyOf(generations, capacity);
+        nodePlus = nodePlus == null ? new int[capacity] : Arrays.copyOf(nodePlus, capacity);
+        nodeMinus = nodeMinus == null ? new int[capacity] : Arrays.copyOf(nodeMinus, capacity);
+        netlistIndices = netlistIndices == null ? new int[capacity] : Arrays.copyOf(netlistIndices, capacity);
+        terminals = terminals == null ? new int[2 * capacity] : Arrays.copyOf(terminals, 2 * capacity);
+        freeHandles = freeHandles == null ? new int[capacity] : Arrays.copyOf(freeHandles, capacity);
+    }
+
+    /**
+     * Adds an element of the specified kind between two grid points and numbers it within its kind.
+     * The value of the new element is zero and it has no simulation results.
+     *
+     * @param kind the kind of the element.
+     * @param startX the horizontal coordinate of the starting point.
+     * @param startY the vertical coordinate of the starting point.
+     * @param endX the horizontal coordinate of the ending point.
+     * @param endY the vertical coordinate of the ending point.
+     * @return the handle of the new element.
+     */
+    public int add(ElementKind kind, int startX, int startY, int endX, int endY) {
+        int handle;
+        if (freeCount > 0)
+            handle = freeHandles[--freeCount];
+        else {
+            if (limit == kinds.length)
+                allocate(2 * limit);
+            handle = limit++;
+        }
+        kinds[handle] = (byte) kind.ordinal();
+        this.startX[handle] = startX;
+        this.startY[handle] = startY;
+        this.endX[handle] = endX;
+        this.endY[handle] = endY;
+        numbers[handle] = kind == ElementKind.WIRE ? 0 : ++counters[kind.ordinal()];
+        values[handle] = 0;
+        nodePlus[handle] = 0;
+        nodeMinus[handle] = 0;
+        generations[handle]++;
+        size++;
+        changeTopology();
+        return handle;
+    }
+
+    /**
+     * Removes an element and puts its handle on the free list.
+     *
+     * @param handle the handle of the element.
+     * @throws IllegalArgumentException if the handle does not belong to a live element.
+     */
+    public void remove(int handle) {
+        check(handle);
+        kinds[handle] = FREE;
+        freeHandles[freeCount++] = handle;
+        size--;
+        changeTopology();
+    }
+
+    /**
+     * Removes all elements and restarts the numbering of every kind.
+     */
+    public void clear() {
+        Arrays.fill(kinds, 0, limit, FREE);
+        Arrays.fill(counters, 0);
+        freeCount = 0;
+        limit = 0;
+        size = 0;
+        changeTopology();
+    }
+
+    /**
+     * Records a modification of the element set.
+     */
+    private void changeTopology() {
+        isTopologyChanged = true;
+        revision++;
+        topologyRevision++;
+    }
+
+    /**
+     * Returns the number of modifications of the circuit so far, including value changes.
+     * Results computed for an older revision can no longer be published.
+     *
+     * @return the revision.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    /**
+     * Returns the number of modifications of the element set so far.
+     *
+     * @return the topology revision.
+     */
+    public long topologyRevision() {
+        return topologyRevision;
+    }
+
+    /**
+     * Returns the number of live elements.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns one past the largest handle in use; all live handles are smaller.
+     *
+     * @return the handle limit.
+     */
+    public int handleLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks whether the specified handle belongs to a live element.
+     *
+     * @param handle the handle to check.
+     * @return {@code true} if the element exists.
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < limit && kinds[handle] != FREE;
+    }
+
+    /**
+     * Validates a handle.
+     *
+     * @param handle the handle to check.
+     * @throws IllegalArgumentException if the handle does not belong to a live element.
+     */
+    private void check(int handle) {
+        if (!contains(handle))
+            throw new IllegalArgumentException("Invalid element handle!");
+    }
+
+    /**
+     * Returns the kind of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the kind, or {@code null} if the handle is free.
+     */
+    public ElementKind kind(int handle) {
+        byte kind = kinds[handle];
+        return kind == FREE ? null : KINDS[kind];
+    }
+
+    /**
+     * Returns the horizontal coordinate of the starting point of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the coordinate.
+     */
+    public int startX(int handle) {
+        return startX[handle];
+    }
+
+    /**
+     * Returns the vertical coordinate of the starting point of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the coordinate.
+     */
+    public int startY(int handle) {
+        return startY[handle];
+    }
+
+    /**
+     * Returns the horizontal coordinate of the ending point of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the coordinate.
+     */
+    public int endX(int handle) {
+        return endX[handle];
+    }
+
+    /**
+     * Returns the vertical coordinate of the ending point of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the coordinate.
+     */
+    public int endY(int handle) {
+        return endY[handle];
+    }
+
+    /**
+     * Returns the per-kind number of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the number, or 0 for wires.
+     */
+    public int number(int handle) {
+        return numbers[handle];
+    }
+
+    /**
+     * Changes the per-kind number of an element, e.g. to restore the name of an element added back by redo.
+     *
+     * @param handle the handle of the element.
+     * @param number the new number.
+     */
+    public void setNumber(int handle, int number) {
+        check(handle);
+        numbers[handle] = number;
+        netlist = null;
+        revision++;
+    }
+
+    /**
+     * Returns the name of an element, made of its kind prefix and number.
+     *
+     * @param handle the handle of the element.
+     * @return the name, e.g. "R1", or an empty string for wires.
+     */
+    public String name(int handle) {
+        ElementKind kind = kind(handle);
+        return kind == null || kind == ElementKind.WIRE ? "" : kind.prefix() + numbers[handle];
+    }
+
+    /**
+     * Returns the value of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the value.
+     */
+    public double value(int handle) {
+        return values[handle];
+    }
+
+    /**
+     * Changes the value of an element. The topology is unchanged, so the next netlist only updates its values.
+     *
+     * @param handle the handle of the element.
+     * @param value the new value.
+     */
+    public void setValue(int handle, double value) {
+        check(handle);
+        values[handle] = value;
+        revision++;
+    }
+
+    /**
+     * Returns the voltage across an element after the last simulation, rounded to 0.01 V.
+     *
+     * @param handle the handle of the element.
+     * @return the voltage in volts, or 0 if the element was not simulated yet.
+     */
+    public float voltage(int handle) {
+        CircuitResults results = this.results;
+        return results.covers(handle, generations[handle]) ? results.voltage(handle) : 0;
+    }
+
+    /**
+     * Checks whether the results of the last simulation cover an element.
+     * An element added after that simulation, possibly under a reused handle, is not covered.
+     *
+     * @param handle the handle of the element.
+     * @return {@code true} if the element was simulated.
+     */
+    public boolean isSolved(int handle) {
+        return results.covers(handle, generations[handle]);
+    }
+
+    /**
+     * Returns the current through an element after the last simulation, rounded to 0.001 A.
+     *
+     * @param handle the handle of the element.
+     * @return the current in amps, or 0 if the element was not simulated yet.
+     */
+    public float current(int handle) {
+        CircuitResults results = this.results;
+        return results.covers(handle, generations[handle]) ? results.current(handle) : 0;
+    }
+
+    /**
+     * Returns the results of the last simulation.
+     *
+     * @return the results, never {@code null}.
+     */
+    public CircuitResults results() {
+        return results;
+    }
+
+    /**
+     * Publishes results computed for this circuit, possibly on a copy solved on another thread.
+     * Results computed for an older revision are rejected, as elements may have been added or changed since.
+     *
+     * @param results the results to publish.
+     * @return {@code true} if the results were published.
+     */
+    public boolean publish(CircuitResults results) {
+        if (results.revision() != revision)
+            return false;
+        this.results = results;
+        return true;
+    }
+
+    /**
+     * Publishes results computed for an older revision of this circuit as a preview, as long as no element
+     * was added or removed since and the results are newer than the published ones. Only values may differ,
+     * so every element keeps its node numbers; the preview is replaced by the results of the current revision
+     * once they are available.
+     *
+     * @param results the results to publish.
+     * @param topologyRevision the topology revision of the circuit the results were computed for.
+     * @return {@code true} if the results were published.
+     */
+    public boolean publishPreview(CircuitResults results, long topologyRevision) {
+        if (topologyRevision != this.topologyRevision || results.revision() > revision || results.revision() <= this.results.revision())
+            return false;
+        this.results = results;
+        return true;
+    }
+
+    /**
+     * Returns the node at the positive (ending) point of an element, valid after node assignment.
+     *
+     * @param handle the handle of the element.
+     * @return the node number.
+     */
+    public int nodePlus(int handle) {
+        return nodePlus[handle];
+    }
+
+    /**
+     * Returns the node at the negative (starting) point of an element, valid after node assignment.
+     *
+     * @param handle the handle of the element.
+     * @return the node number.
+     */
+    public int nodeMinus(int handle) {
+        return nodeMinus[handle];
+    }
+
+    /**
+     * Checks whether elements were added or removed since the last node assignment.
+     *
+     * @return {@code true} if the nodes have to be reassigned.
+     */
+    public boolean isTopologyChanged() {
+        return isTopologyChanged;
+    }
+
+    /**
+     * Returns the number of elements of the specified kind.
+     *
+     * @param kind the kind to count.
+     * @return the number of elements.
+     */
+    public int count(ElementKind kind) {
+        byte ordinal = (byte) kind.ordinal();
+        int count = 0;
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == ordinal)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Assigns unique node numbers to all points in the circuit based on their connectivity.
+     * Points are merged through wires with a disjoint-set structure over packed grid coordinates,
+     * then renumbered densely so that nodes touching components form the range {@code 0..nodeCount-1}
+     * with the ground pinned to 0.
+     *
+     * @return the number of nodes touching components.
+     */
+    public int assignNodes() {
+        nodeAssigner.clear();
+        byte wire = (byte) ElementKind.WIRE.ordinal();
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == FREE)
+                continue;
+            int start = nodeAssigner.terminal(startX[h], startY[h]);
+            int end = nodeAssigner.terminal(endX[h], endY[h]);
+            terminals[2 * h] = start;
+            terminals[2 * h + 1] = end;
+            if (kinds[h] == wire)
+                nodeAssigner.connect(start, end);
+            else
+                nodeAssigner.attachComponent(start, end);
+        }
+        nodeCount = nodeAssigner.assign();
+
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == FREE)
+                continue;
+            nodeMinus[h] = nodeAssigner.node(terminals[2 * h]);
+            nodePlus[h] = nodeAssigner.node(terminals[2 * h + 1]);
+        }
+        isTopologyChanged = false;
+        netlist = null;
+        return nodeCount;
+    }
+
+    /**
+     * Returns the netlist of the circuit, assigning the nodes first if the topology changed.
+     * Wires are skipped as they only join nodes, so the netlist holds the remaining elements
+     * in handle order. While the topology is unchanged, the previous netlist is returned with
+     * only its values updated.
+     *
+     * @return the netlist of the circuit.
+     */
+    public CircuitNetlist netlist() {
+        if (isTopologyChanged)
+            assignNodes();
+        byte wire = (byte) ElementKind.WIRE.ordinal();
+        if (netlist == null) {
+            netlist = new CircuitNetlist(nodeCount, size);
+            for (int h = 0; h < limit; h++) {
+                if (kinds[h] == FREE || kinds[h] == wire) {
+                    netlistIndices[h] = -1;
+                    continue;
+                }
+                netlistIndices[h] = netlist.size();
+                netlist.add(KINDS[kinds[h]].componentType(), name(h), nodePlus[h], nodeMinus[h], values[h]);
+            }
+            return netlist;
+        }
+        for (int h = 0; h < limit; h++) {
+            if (netlistIndices[h] >= 0)
+                netlist.setValue(netlistIndices[h], values[h]);
+        }
+        return netlist;
+    }
+
+    /**
+     * Computes the key of the circuit for caching its solution. The key depends on the kind, end points and value
+     * of every element, but not on handles, names or the order of addition. End points are taken by their rank
+     * among the coordinates of the circuit, so the same drawing on a grid with another spacing or offset has
+     * the same key, and resistors, capacitors, inductors and wires are hashed regardless of their direction.
+     *
+     * @return the key.
+     */
+    public CircuitKey key() {
+        long hash = 0;
+        long check = 0;
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == FREE)
+                continue;
+            long element = elementHash(h);
+            hash += element;
+            check += mix(element ^ HASH_SEED);
+        }
+        return new CircuitKey(hash, check, size);
+    }
+
+    /**
+     * Hashes the kind, ranked end points and value of an element. The end points of elements that work the same
+     * both ways round are hashed in the order given by {@link #isHashReversed(int)}.
+     *
+     * @param handle the handle of the element.
+     * @return the hash.
+     */
+    long elementHash(int handle) {
+        rankCoordinates();
+        int first = isHashReversed(handle) ? 4 * handle + 2 : 4 * handle;
+        int second = 8 * handle + 2 - first;
+        long hash = mix(kinds[handle] + HASH_SEED);
+        hash = mix(hash ^ ((long) ranks[first] << 32 | ranks[first + 1]));
+        hash = mix(hash ^ ((long) ranks[second] << 32 | ranks[second + 1]));
+        return mix(hash ^ Double.doubleToLongBits(values[handle] + 0.0));
+    }
+
+    /**
+     * Checks whether an element is hashed from its ending point to its starting point. This is the case for
+     * resistors, capacitors, inductors and wires whose ending point ranks before the starting point, so that
+     * an element drawn the other way round has the same hash, while its voltage and current change their sign.
+     *
+     * @param handle the handle of the element.
+     * @return {@code true} if the element is hashed in reverse.
+     */
+    boolean isHashReversed(int handle) {
+        rankCoordinates();
+        ElementKind kind = KINDS[kinds[handle]];
+        if (kind != ElementKind.WIRE && kind != ElementKind.RESISTOR && kind != ElementKind.CAPACITOR
+                && kind != ElementKind.INDUCTOR)
+            return false;
+        int i = 4 * handle;
+        return ranks[i + 2] < ranks[i] || ranks[i + 2] == ranks[i] && ranks[i + 3] < ranks[i + 1];
+    }
+
+    /**
+     * Ranks the end point coordinates of the elements among the distinct coordinates on each axis,
+     * unless they are ranked for the current topology already.
+     */
+    private void rankCoordinates() {
+        if (rankedTopology == topologyRevision)
+            return;
+        if (ranks.length < 4 * limit)
+            ranks = new int[4 * kinds.length];
+        int[] xs = new int[2 * size];
+        int[] ys = new int[2 * size];
+        int n = 0;
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == FREE)
+                continue;
+            xs[n] = startX[h];
+            ys[n++] = startY[h];
+            xs[n] = endX[h];
+            ys[n++] = endY[h];
+        }
+        int distinctX = sortDistinct(xs);
+        int distinctY = sortDistinct(ys);
+        for (int h = 0; h < limit; h++) {
+            if (kinds[h] == FREE)
+                continue;
+            ranks[4 * h] = Arrays.binarySearch(xs, 0, distinctX, startX[h]);
+            ranks[4 * h + 1] = Arrays.binarySearch(ys, 0, distinctY, startY[h]);
+            ranks[4 * h + 2] = Arrays.binarySearch(xs, 0, distinctX, endX[h]);
+            ranks[4 * h + 3] = Arrays.binarySearch(ys, 0, distinctY, endY[h]);
+        }
+        rankedTopology = topologyRevision;
+    }
+
+    /**
+     * Sorts an array and moves its distinct values to the front.
+     *
+     * @param values the values.
+     * @return the number of distinct values.
+     */
+    private static int sortDistinct(int[] values) {
+        Arrays.sort(values);
+        int n = 0;
+        for (int value : values) {
+            if (n == 0 || values[n - 1] != value)
+                values[n++] = value;
+        }
+        return n;
+    }
+
+    /**
+     * Mixes the bits of a value (the finalizer of SplitMix64).
+     *
+     * @param z the value.
+     * @return the mixed value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the index of an element in the netlist, valid after {@link #netlist()}.
+     *
+     * @param handle the handle of the element.
+     * @return the netlist index, or -1 for wires.
+     */
+    public int netlistIndex(int handle) {
+        return netlistIndices[handle];
+    }
+
+    /**
+     * Solves the circuit with the specified backend and publishes the results.
+     *
+     * @param backend the backend computing the operating point.
+     * @return the results.
+     * @throws IllegalArgumentException if the circuit cannot be solved.
+     */
+    public CircuitResults solve(SimulationBackend backend) {
+        CircuitNetlist netlist = netlist();
+        CircuitResults results = applySolution(backend.solveDc(netlist));
+        this.results = results;
+        return results;
+    }
+
+    /**
+     * Computes the results of the elements from the provided solution, without publishing them.
+     * The solution is indexed like the netlist built by {@link #netlist()}.
+     * Resistor and inductor values are reported as magnitudes and all values are rounded for display and verification:
+     * voltages to 0.01 V and currents to 0.001 A.
+     *
+     * @param solution the DC solution of the circuit.
+     * @return the results for the current revision.
+     */
+    public CircuitResults applySolution(DcSolution solution) {
+        float[] voltages = new float[limit];
+        float[] currents = new float[limit];
+        for (int h = 0; h < limit; h++) {
+            int index = netlistIndices[h];
+            if (kinds[h] == FREE || index < 0)
+                continue;
+            ElementKind kind = KINDS[kinds[h]];
+            float value;
+
+            if (kind == ElementKind.RESISTOR)
+                value = Math.abs((float) solution.voltage(index));
+            else
+                value = (float) solution.voltage(index);
+            voltages[h] = Math.round(value * 100) / 100f;
+
+            if (kind == ElementKind.RESISTOR || kind == ElementKind.INDUCTOR)
+                value = Math.abs((float) solution.current(index));
+            else if (kind == ElementKind.CAPACITOR)
+                value = 0;
+            else
+                value = (float) solution.current(index);
+            currents[h] = Math.round(value * 1000) / 1000f;
+        }
+        return new CircuitResults(revision, Arrays.copyOf(generations, limit), Arrays.copyOf(nodePlus, limit),
+                Arrays.copyOf(nodeMinus, limit), voltages, currents, solution);
+    }
+
+}
@@ -0,0 +1,15 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+/**
+ * Identifies a drawn circuit regardless of the order its elements were added in, of their names, of the spacing
+ * of the grid it is drawn on and of the direction of resistors, capacitors, inductors and wires.
+ * Every element is hashed from its kind, the ranks of its end point coordinates and its value, and the element hashes
+ * are summed twice with independent mixing, so equal multisets of elements give equal keys and two different circuits
+ * collide with a probability of about 2^-128.
+ *
+ * @param hash the sum of the element hashes.
+ * @param check the sum of the element hashes mixed once more, guarding against collisions of {@code hash}.
+ * @param size the number of elements.
+ */
+public record CircuitKey(long hash, long check, int size) {
+}
@@ -0,0 +1,128 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+
+/**
+ * Holds the results of one simulation of a circuit, indexed by element handle: the node assignment
+ * and the rounded voltage and current of every element. An instance is immutable once created, so it can be
+ * computed on a background thread and published to a circuit by swapping a single reference.
+ * Every handle remembers the generation it was solved for; an element added later under a reused
+ * handle has a new generation and therefore no results until the next simulation.
+ */
+public final class CircuitResults {
+
+    /** The results of a circuit that was never simulated. */
+    static final CircuitResults EMPTY = new CircuitResults(-1, new int[0], new int[0], new int[0], new float[0], new float[0], null);
+
+    /** The revision of the circuit the results were computed for. */
+    private final long revision;
+
+    /** The generation of each handle when it was solved. */
+    private final int[] generations;
+
+    /** The node at the positive end of each element. */
+    private final int[] nodePlus;
+
+    /** The node at the negative end of each element. */
+    private final int[] nodeMinus;
+
+    /** The rounded voltage across each element. */
+    private final float[] voltages;
+
+    /** The rounded current through each element. */
+    private final float[] currents;
+
+    /** The unrounded solution indexed like the netlist, or {@code null}. */
+    private final DcSolution solution;
+
+    /**
+     * Constructs results from arrays that are not modified afterwards.
+     *
+     * @param revision the revision of the circuit the results were computed for.
+     * @param generations the generation of each handle when it was solved.
+     * @param nodePlus the node at the positive end of each element.
+     * @param nodeMinus the node at the negative end of each element.
+     * @param voltages the rounded voltage across each element.
+     * @param currents the rounded current through each element.
+     * @param solution the unrounded solution indexed like the netlist.
+     */
+    CircuitResults(long revision, int[] generations, int[] nodePlus, int[] nodeMinus, float[] voltages, float[] currents, DcSolution solution) {
+        this.revision = revision;
+        this.generations = generations;
+        this.nodePlus = nodePlus;
+        this.nodeMinus = nodeMinus;
+        this.voltages = voltages;
+        this.currents = currents;
+        this.solution = solution;
+    }
+
+    /**
+     * Returns the revision of the circuit the results were computed for.
+     *
+     * @return the circuit revision.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    /**
+     * Checks whether the results cover the specified handle in the specified generation.
+     *
+     * @param handle the handle of the element.
+     * @param generation the current generation of the handle.
+     * @return {@code true} if the element was solved.
+     */
+    boolean covers(int handle, int generation) {
+        return handle < generations.length && generations[handle] == generation;
+    }
+
+    /**
+     * Returns the node at the positive end of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the node number.
+     */
+    public int nodePlus(int handle) {
+        return nodePlus[handle];
+    }
+
+    /**
+     * Returns the node at the negative end of an element.
+     *
+     * @param handle the handle of the element.
+     * @return the node number.
+     */
+    public int nodeMinus(int handle) {
+        return nodeMinus[handle];
+    }
+
+    /**
+     * Returns the rounded voltage across an element.
+     *
+     * @param handle the handle of the element.
+     * @return the voltage in volts.
+     */
+    public float voltage(int handle) {
+        return voltages[handle];
+    }
+
+    /**
+     * Returns the rounded current through an element.
+     *
+     * @param handle the handle of the element.
+     * @return the current in amps.
+     */
+    public float current(int handle) {
+        return currents[handle];
+    }
+
+    /**
+     * Returns the unrounded solution.
+     *
+     * @return the solution indexed like the netlist of the circuit, or {@code null} if there is none.
+     */
+    public DcSolution solution() {
+        return solution;
+    }
+
+}
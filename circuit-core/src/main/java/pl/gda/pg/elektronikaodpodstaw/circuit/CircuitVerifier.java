@@ -0,0 +1,262 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.Arrays;
+
+/**
+ * Verifies a circuit against the requirements of a task.
+ * The requirements are given as one group per line, either an element count ("Capacitor: 3")
+ * or a count followed by the required results of each instance ("Resistor: 2(V=5,I=0.01)(V=10,I=0.02)").
+ * They are compiled once into a plan of primitive arrays: the required count of every element kind and,
+ * for every required instance, its kind and expected voltage and current. A value is matched within
+ * {@link #VOLTAGE_TOLERANCE} or {@link #CURRENT_TOLERANCE}, half the rounding steps of {@link CircuitResults},
+ * so a requirement given with more digits than displayed still matches the rounded result.
+ * <p>
+ * The plan is immutable and can be shared by any number of threads. Checking a circuit does not allocate:
+ * it uses scratch arrays sized when compiling, so concurrent checks of one verifier are serialized.
+ */
+public final class CircuitVerifier {
+
+    /** The voltage difference still accepted as a match. */
+    public static final float VOLTAGE_TOLERANCE = 0.005f;
+
+    /** The current difference still accepted as a match. */
+    public static final float CURRENT_TOLERANCE = 0.0005f;
+
+    /** The slack absorbing the representation error of the decimal values as floats. */
+    private static final float SLACK = 1e-6f;
+
+    /** The largest number of elements of one kind that can be matched against instances. */
+    private static final int MAX_MATCHED = Long.SIZE;
+
+    /** The element kinds indexed by ordinal. */
+    private static final ElementKind[] KINDS = ElementKind.values();
+
+    /** The required number of elements of each kind indexed by ordinal, or -1 if the kind is not allowed. */
+    private final int[] requiredCounts = new int[KINDS.length];
+
+    /** The index of the first instance of each kind, with the end of the last kind at the end. */
+    private final int[] instanceStarts = new int[KINDS.length + 1];
+
+    /** The expected voltage of each instance, or {@code NaN} if it is not checked. */
+    private final float[] voltages;
+
+    /** The expected current of each instance, or {@code NaN} if it is not checked. */
+    private final float[] currents;
+
+    /** The index of the first element slot of each kind in the scratch arrays. */
+    private final int[] slotStarts = new int[KINDS.length + 1];
+
+    /** The handles of the elements of each kind, grouped by {@link #slotStarts}; scratch. */
+    private final int[] slotHandles;
+
+    /** The instance matched to each element slot, or -1; scratch. */
+    private final int[] slotInstances;
+
+    /** The number of elements collected for each kind; scratch. */
+    private final int[] slotCounts = new int[KINDS.length];
+
+    /** The element slots visited by the current augmenting path search, relative to the kind; scratch. */
+    private long visited;
+
+    /**
+     * Compiles the specified requirements.
+     *
+     * @param correctParams a string representing the required elements and their properties or counts.
+     * @throws IllegalArgumentException if the input format is invalid.
+     */
+    public CircuitVerifier(String correctParams) {
+        Arrays.fill(requiredCounts, -1);
+        float[][] parsedVoltages = new float[KINDS.length][];
+        float[][] parsedCurrents = new float[KINDS.length][];
+        int instanceCount = 0;
+
+        for (String group : correctParams.split("\n")) {
+            if (group.isBlank())
+                continue;
+            int colon = group.indexOf(':');
+            if (colon < 0 || group.indexOf(':', colon + 1) >= 0)
+                throw new IllegalArgumentException("Nieprawidłowy format w correctParams: \"" + group.trim() + "\". Oczekiwano dwukropka (:).");
+            String type = group.substring(0, colon).trim();
+            ElementKind kind = ElementKind.forTypeName(type);
+            if (kind == null || kind == ElementKind.WIRE)
+                throw new IllegalArgumentException("Nieznany typ elementu w correctParams: \"" + type + "\".");
+
+            String details = group.substring(colon + 1).trim();
+            int open = details.indexOf('(');
+            String count = open < 0 ? details : details.substring(0, open).trim();
+            try {
+                requiredCounts[kind.ordinal()] = Integer.parseInt(count);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Nieprawidłowy format liczby elementów w correctParams: \"" + details + "\".");
+            }
+
+            int instances = open < 0 ? 0 : parseInstances(details.substring(open), kind, parsedVoltages, parsedCurrents);
+            if (instances > requiredCounts[kind.ordinal()] || instances > 0 && requiredCounts[kind.ordinal()] > MAX_MATCHED)
+                throw new IllegalArgumentException("Nieprawidłowa liczba instancji w correctParams: \"" + group.trim() + "\".");
+            instanceCount += instances;
+        }
+
+        voltages = new float[instanceCount];
+        currents = new float[instanceCount];
+        int slotCount = 0;
+        for (int k = 0; k < KINDS.length; k++) {
+            int start = instanceStarts[k];
+            int instances = parsedVoltages[k] == null ? 0 : parsedVoltages[k].length;
+            if (instances > 0) {
+                System.arraycopy(parsedVoltages[k], 0, voltages, start, instances);
+                System.arraycopy(parsedCurrents[k], 0, currents, start, instances);
+            }
+            instanceStarts[k + 1] = start + instances;
+            slotStarts[k] = slotCount;
+            if (instances > 0)
+                slotCount += requiredCounts[k];
+        }
+        slotStarts[KINDS.length] = slotCount;
+        slotHandles = new int[slotCount];
+        slotInstances = new int[slotCount];
+    }
+
+    /**
+     * Parses the instances of a group, e.g. "(V=5,I=0.01)(V=10,I=0.02)". Digits in the quantity names
+     * are ignored, so "V1" is the same as "V".
+     *
+     * @param text the instances.
+     * @param kind the kind of the group.
+     * @param parsedVoltages receives the expected voltages of the kind.
+     * @param parsedCurrents receives the expected currents of the kind.
+     * @return the number of instances.
+     * @throws IllegalArgumentException if the format of an instance is invalid.
+     */
+    private static int parseInstances(String text, ElementKind kind, float[][] parsedVoltages, float[][] parsedCurrents) {
+        float[] kindVoltages = new float[4];
+        float[] kindCurrents = new float[4];
+        int count = 0;
+        int position = 0;
+        while (position < text.length()) {
+            int close = text.indexOf(')', position);
+            if (text.charAt(position) != '(' || close < 0)
+                throw new IllegalArgumentException("Nieprawidłowy format parametrów dla elementów w correctParams");
+            if (count == kindVoltages.length) {
+                kindVoltages = Arrays.copyOf(kindVoltages, 2 * count);
+                kindCurrents = Arrays.copyOf(kindCurrents, 2 * count);
+            }
+            kindVoltages[count] = Float.NaN;
+            kindCurrents[count] = Float.NaN;
+            for (String property : text.substring(position + 1, close).split(",")) {
+                int equals = property.indexOf('=');
+                if (equals < 0)
+                    throw new IllegalArgumentException("Nieprawidłowy format parametrów dla elementów w correctParams");
+                String quantity = property.substring(0, equals).replaceAll("\\d+", "").trim();
+                float value;
+                try {
+                    value = Float.parseFloat(property.substring(equals + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Nieprawidłowy format parametrów dla elementów w correctParams");
+                }
+                switch (quantity) {
+                    case "V" -> kindVoltages[count] = value;
+                    case "I" -> kindCurrents[count] = value;
+                    default -> throw new IllegalArgumentException("Nieznana wielkość w correctParams: \"" + quantity + "\".");
+                }
+            }
+            count++;
+            position = close + 1;
+            while (position < text.length() && Character.isWhitespace(text.charAt(position)))
+                position++;
+        }
+        parsedVoltages[kind.ordinal()] = Arrays.copyOf(kindVoltages, count);
+        parsedCurrents[kind.ordinal()] = Arrays.copyOf(kindCurrents, count);
+        return count;
+    }
+
+    /**
+     * Verifies whether the circuit contains the correct number and types of elements.
+     *
+     * @param circuit the circuit to verify.
+     * @return {@link VerificationResult#CORRECT}, {@link VerificationResult#WRONG_ELEMENT_COUNT}
+     *         or {@link VerificationResult#UNEXPECTED_ELEMENT}.
+     */
+    public VerificationResult verifyElementCounts(Circuit circuit) {
+        for (int k = 0; k < KINDS.length; k++) {
+            if (requiredCounts[k] >= 0 && circuit.count(KINDS[k]) != requiredCounts[k])
+                return VerificationResult.WRONG_ELEMENT_COUNT;
+        }
+        for (int k = 0; k < KINDS.length; k++) {
+            if (requiredCounts[k] < 0 && KINDS[k] != ElementKind.WIRE && circuit.count(KINDS[k]) > 0)
+                return VerificationResult.UNEXPECTED_ELEMENT;
+        }
+        return VerificationResult.CORRECT;
+    }
+
+    /**
+     * Verifies whether the simulated results of the elements match the required ones.
+     * Every required instance must be matched by a distinct element of its kind. The instances and the elements
+     * satisfying them form a bipartite graph, and a maximum matching is found with augmenting paths, so the order
+     * of the elements does not matter. The counts are expected to be verified first; a kind with more elements
+     * than required is reported as {@link VerificationResult#WRONG_ELEMENT_COUNT}.
+     *
+     * @param circuit the solved circuit to verify.
+     * @return {@link VerificationResult#CORRECT}, {@link VerificationResult#WRONG_PARAMETERS}
+     *         or {@link VerificationResult#WRONG_ELEMENT_COUNT}.
+     */
+    public synchronized VerificationResult verifyElementParameters(Circuit circuit) {
+        Arrays.fill(slotCounts, 0);
+        for (int h = 0; h < circuit.handleLimit(); h++) {
+            if (!circuit.contains(h))
+                continue;
+            int k = circuit.kind(h).ordinal();
+            if (instanceStarts[k] == instanceStarts[k + 1])
+                continue;
+            if (slotCounts[k] == slotStarts[k + 1] - slotStarts[k])
+                return VerificationResult.WRONG_ELEMENT_COUNT;
+            slotHandles[slotStarts[k] + slotCounts[k]] = h;
+            slotInstances[slotStarts[k] + slotCounts[k]] = -1;
+            slotCounts[k]++;
+        }
+
+        for (int k = 0; k < KINDS.length; k++) {
+            for (int i = instanceStarts[k]; i < instanceStarts[k + 1]; i++) {
+                visited = 0;
+                if (!augment(circuit, k, i))
+                    return VerificationResult.WRONG_PARAMETERS;
+            }
+        }
+        return VerificationResult.CORRECT;
+    }
+
+    /**
+     * Tries to match an instance to an element of its kind, rematching the instances along an augmenting path.
+     *
+     * @param circuit the solved circuit.
+     * @param kind the ordinal of the kind.
+     * @param instance the instance to match.
+     * @return {@code true} if the instance was matched.
+     */
+    private boolean augment(Circuit circuit, int kind, int instance) {
+        for (int s = 0; s < slotCounts[kind]; s++) {
+            int slot = slotStarts[kind] + s;
+            if ((visited & 1L << s) != 0 || !satisfies(circuit, slotHandles[slot], instance))
+                continue;
+            visited |= 1L << s;
+            if (slotInstances[slot] < 0 || augment(circuit, kind, slotInstances[slot])) {
+                slotInstances[slot] = instance;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the results of an element match an instance within the tolerances.
+     *
+     * @param circuit the solved circuit.
+     * @param handle the handle of the element.
+     * @param instance the instance.
+     * @return {@code true} if every checked value matches.
+     */
+    private boolean satisfies(Circuit circuit, int handle, int instance) {
+        return (Float.isNaN(voltages[instance]) || Math.abs(circuit.voltage(handle) - voltages[instance]) <= VOLTAGE_TOLERANCE + SLACK)
+                && (Float.isNaN(currents[instance]) || Math.abs(circuit.current(handle) - currents[instance]) <= CURRENT_TOLERANCE + SLACK);
+    }
+
+}
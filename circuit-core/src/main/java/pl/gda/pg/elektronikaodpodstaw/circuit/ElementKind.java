@@ -0,0 +1,97 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.ComponentType;
+
+/**
+ * Enumerates the kinds of elements that can be placed in a circuit, including wires.
+ */
+public enum ElementKind {
+
+    /** A wire joining two grid points into one node. */
+    WIRE("Wire", "", null),
+
+    /** A resistor. */
+    RESISTOR("Resistor", "R", ComponentType.RESISTOR),
+
+    /** A capacitor. */
+    CAPACITOR("Capacitor", "C", ComponentType.CAPACITOR),
+
+    /** An inductor. */
+    INDUCTOR("Inductor", "L", ComponentType.INDUCTOR),
+
+    /** A DC voltage source. */
+    VOLTAGE_SOURCE("VoltageSource", "V", ComponentType.VOLTAGE_SOURCE),
+
+    /** A DC current source. */
+    CURRENT_SOURCE("CurrentSource", "I", ComponentType.CURRENT_SOURCE),
+
+    /** A voltmeter. */
+    VOLTMETER("Voltmeter", "VM", ComponentType.VOLTMETER),
+
+    /** An ammeter. */
+    AMMETER("Ammeter", "AM", ComponentType.AMMETER);
+
+    /** The name of the kind used in the task requirements. */
+    private final String typeName;
+
+    /** The prefix of the names of elements of this kind. */
+    private final String prefix;
+
+    /** The component type used by the solvers, or {@code null} for wires. */
+    private final ComponentType componentType;
+
+    /**
+     * Constructs a kind with the specified requirement name and solver type.
+     *
+     * @param typeName the name of the kind used in the task requirements.
+     * @param prefix the prefix of the names of elements of this kind.
+     * @param componentType the component type used by the solvers, or {@code null} for wires.
+     */
+    ElementKind(String typeName, String prefix, ComponentType componentType) {
+        this.typeName = typeName;
+        this.prefix = prefix;
+        this.componentType = componentType;
+    }
+
+    /**
+     * Returns the name of the kind used in the task requirements, e.g. "Resistor".
+     *
+     * @return the requirement name.
+     */
+    public String typeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the prefix of the names of elements of this kind, e.g. "R" for resistors.
+     *
+     * @return the name prefix, empty for wires.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the component type used by the solvers.
+     *
+     * @return the component type, or {@code null} for wires.
+     */
+    public ComponentType componentType() {
+        return componentType;
+    }
+
+    /**
+     * Finds the kind with the specified requirement name.
+     *
+     * @param typeName the requirement name, e.g. "Resistor".
+     * @return the matching kind, or {@code null} if there is none.
+     */
+    public static ElementKind forTypeName(String typeName) {
+        for (ElementKind kind : values()) {
+            if (kind.typeName.equals(typeName))
+                return kind;
+        }
+        return null;
+    }
+
+}
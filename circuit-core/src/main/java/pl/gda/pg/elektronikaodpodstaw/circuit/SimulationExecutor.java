@@ -0,0 +1,266 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
+
+/**
+ * Runs simulations of one circuit in the background on a virtual thread.
+ * Submitting takes a copy of the circuit, so the caller may keep editing it at once. Jobs are coalesced with
+ * latest-wins semantics: at most one job waits, and submitting a new one cancels both the waiting job and the
+ * running one, whose outcome is then never published. Jobs run one at a time on a private working circuit that
+ * keeps its node assignment while only values change, so the backends can reuse their factorization.
+ * A running solve is not interrupted; cancellation takes effect between verification, solving and publication.
+ * The topology is validated before solving, so structurally bad circuits are rejected with the elements at fault
+ * and without running the solver. With a {@link SolutionCache}, circuits solved before, also by other executors sharing the cache, skip the solver.
+ */
+public final class SimulationExecutor implements AutoCloseable {
+
+    /** Starts a virtual thread for every drain of the queue. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** The job waiting to run, or {@code null}. */
+    private final AtomicReference<Job> pending = new AtomicReference<>();
+
+    /** Indicates whether a virtual thread is draining the queue. */
+    private final AtomicBoolean isDraining = new AtomicBoolean(false);
+
+    /** The job being run, or {@code null}. */
+    private volatile Job running = null;
+
+    /** The working copy of the circuit, only accessed by the draining thread. */
+    private Circuit working = null;
+
+    /** The backend of the last job, only accessed by the draining thread. */
+    private SimulationBackend backend = null;
+
+    /** The configuration name of {@link #backend}. */
+    private String backendName = null;
+
+    /** The topology revision of {@link #working} that passed validation, or -1. */
+    private long validatedTopology = -1;
+
+    /** The cache of solutions, or {@code null}. */
+    private final SolutionCache cache;
+
+    /**
+     * Constructs an executor without a solution cache.
+     */
+    public SimulationExecutor() {
+        this(null);
+    }
+
+    /**
+     * Constructs an executor looking up and storing solutions in a cache.
+     *
+     * @param cache the cache of solutions, or {@code null} to always solve.
+     */
+    public SimulationExecutor(SolutionCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Submits a simulation of the current state of a circuit, superseding all earlier jobs.
+     * The publisher is called on the background thread, so it has to hand the outcome over to the
+     * thread owning the circuit, which should publish the results only if the circuit revision still matches.
+     *
+     * @param circuit the circuit to simulate; it is copied before this method returns.
+     * @param backendName the configuration name of the backend to solve with.
+     * @param verifier the requirements to verify, or {@code null} for free simulation.
+     * @param publisher receives the outcome unless the job is cancelled.
+     */
+    public void submit(Circuit circuit, String backendName, CircuitVerifier verifier, Consumer<SimulationOutcome> publisher) {
+        Job job = new Job(new Circuit(circuit), backendName, verifier, publisher);
+        cancel(pending.getAndSet(job));
+        cancel(running);
+        if (isDraining.compareAndSet(false, true))
+            executor.execute(this::drain);
+    }
+
+    /**
+     * Cancels the waiting and the running job.
+     */
+    public void cancel() {
+        cancel(pending.getAndSet(null));
+        cancel(running);
+    }
+
+    /**
+     * Cancels the executor; the running job finishes in the background without being published.
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdown();
+    }
+
+    /**
+     * Marks a job as cancelled.
+     *
+     * @param job the job to cancel, or {@code null}.
+     */
+    private static void cancel(Job job) {
+        if (job != null)
+            job.isCancelled = true;
+    }
+
+    /**
+     * Runs waiting jobs until none is left, then releases the draining flag. A job submitted
+     * just before the flag is released is picked up by rechecking the queue. A job failing with an
+     * unexpected exception anywhere, also in its publisher, is reported as such and does not stop the queue.
+     */
+    private void drain() {
+        do {
+            Job job;
+            while ((job = pending.getAndSet(null)) != null) {
+                running = job;
+                try {
+                    run(job);
+                } catch (RuntimeException _) {
+                    fail(job);
+                } finally {
+                    running = null;
+                }
+            }
+            isDraining.set(false);
+        } while (pending.get() != null && isDraining.compareAndSet(false, true));
+    }
+
+    /**
+     * Forgets the working circuit and the backend after an unexpected exception, so that the next job starts
+     * afresh, and reports the failure unless the job was cancelled. An exception thrown by the publisher
+     * while reporting is dropped, as there is nobody left to report it to.
+     *
+     * @param job the failed job.
+     */
+    private void fail(Job job) {
+        working = null;
+        backend = null;
+        backendName = null;
+        validatedTopology = -1;
+        try {
+            publish(job, new SimulationOutcome(job.circuit, null, null, null, null, true, 0, false));
+        } catch (RuntimeException _) {
+        }
+    }
+
+    /**
+     * Verifies and solves the circuit of a job and publishes the outcome unless the job was cancelled.
+     *
+     * @param job the job to run.
+     */
+    private void run(Job job) {
+        Circuit snapshot = job.circuit;
+        VerificationResult countResult = job.verifier == null ? null : job.verifier.verifyElementCounts(snapshot);
+        if (countResult != null && countResult != VerificationResult.CORRECT) {
+            publish(job, new SimulationOutcome(snapshot, countResult, null, null, null, false, 0, false));
+            return;
+        }
+        if (job.isCancelled)
+            return;
+
+        if (working == null || working.topologyRevision() != snapshot.topologyRevision())
+            working = new Circuit(snapshot);
+        else
+            working.copyValues(snapshot);
+        if (backend == null || !job.backendName.equals(backendName)) {
+            backend = SimulationBackend.forName(job.backendName);
+            backendName = job.backendName;
+        }
+
+        long start = System.nanoTime();
+        if (working.topologyRevision() != validatedTopology) {
+            TopologyFault fault = TopologyValidator.validate(working);
+            if (fault != null) {
+                publish(job, new SimulationOutcome(snapshot, countResult, null, fault.problem().message(), fault, false, System.nanoTime() - start, false));
+                return;
+            }
+            validatedTopology = working.topologyRevision();
+        }
+        CircuitKey key = cache == null ? null : snapshot.key();
+        SolutionCache.Entry entry = key == null ? null : cache.get(key, job.backendName);
+        try {
+            if (entry == null) {
+                DcSolution solution = backend.solveDc(working.netlist());
+                snapshot.publish(working.applySolution(solution));
+                if (key != null)
+                    cache.put(key, SolutionCache.Entry.solved(working, solution, job.backendName));
+            } else if (entry.error() == null) {
+                snapshot.publish(working.applySolution(entry.toSolution(working)));
+            } else {
+                publish(job, new SimulationOutcome(snapshot, countResult, null, entry.error(), null, false, System.nanoTime() - start, true));
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            String error = String.valueOf(e.getMessage());
+            if (key != null)
+                cache.put(key, SolutionCache.Entry.failed(error, job.backendName));
+            publish(job, new SimulationOutcome(snapshot, countResult, null, error, null, false, System.nanoTime() - start, false));
+            return;
+        } catch (RuntimeException e) {
+            working = null;
+            backend = null;
+            publish(job, new SimulationOutcome(snapshot, countResult, null, null, null, true, System.nanoTime() - start, false));
+            return;
+        }
+        long solveNanos = System.nanoTime() - start;
+        if (job.isCancelled)
+            return;
+
+        VerificationResult parameterResult = job.verifier == null ? null : job.verifier.verifyElementParameters(snapshot);
+        publish(job, new SimulationOutcome(snapshot, countResult, parameterResult, null, null, false, solveNanos, entry != null));
+    }
+
+    /**
+     * Hands an outcome to the publisher of its job unless the job was cancelled.
+     *
+     * @param job the job.
+     * @param outcome the outcome of the job.
+     */
+    private static void publish(Job job, SimulationOutcome outcome) {
+        if (!job.isCancelled)
+            job.publisher.accept(outcome);
+    }
+
+    /**
+     * Describes a submitted simulation.
+     */
+    private static final class Job {
+
+        /** The copy of the circuit to simulate. */
+        private final Circuit circuit;
+
+        /** The configuration name of the backend. */
+        private final String backendName;
+
+        /** The requirements to verify, or {@code null}. */
+        private final CircuitVerifier verifier;
+
+        /** Receives the outcome. */
+        private final Consumer<SimulationOutcome> publisher;
+
+        /** Indicates whether the job was superseded or cancelled. */
+        private volatile boolean isCancelled = false;
+
+        /**
+         * Constructs a job.
+         *
+         * @param circuit the copy of the circuit to simulate.
+         * @param backendName the configuration name of the backend.
+         * @param verifier the requirements to verify, or {@code null}.
+         * @param publisher receives the outcome.
+         */
+        private Job(Circuit circuit, String backendName, CircuitVerifier verifier, Consumer<SimulationOutcome> publisher) {
+            this.circuit = circuit;
+            this.backendName = backendName;
+            this.verifier = verifier;
+            this.publisher = publisher;
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+/**
+ * Holds the immutable outcome of a background simulation job: the verified and solved copy of the circuit,
+ * its results or the error that prevented them, and the time spent solving.
+ */
+public final class SimulationOutcome {
+
+    /** The copy of the circuit that was simulated, with the results published. */
+    private final Circuit circuit;
+
+    /** The result of verifying the element counts, or {@code null} without requirements. */
+    private final VerificationResult countResult;
+
+    /** The result of verifying the element parameters, or {@code null} if it was not reached. */
+    private final VerificationResult parameterResult;
+
+    /** The message of the error that prevented the solution, or {@code null}. */
+    private final String error;
+
+    /** The structural problem found before solving, or {@code null}. */
+    private final TopologyFault topologyFault;
+
+    /** Indicates whether the solution failed with an unexpected exception. */
+    private final boolean isUnexpectedError;
+
+    /** The time spent solving in nanoseconds. */
+    private final long solveNanos;
+
+    /** Indicates whether the solution or error was taken from a {@link SolutionCache}. */
+    private final boolean isCached;
+
+    /**
+     * Constructs an outcome.
+     *
+     * @param circuit the copy of the circuit that was simulated.
+     * @param countResult the result of verifying the element counts, or {@code null}.
+     * @param parameterResult the result of verifying the element parameters, or {@code null}.
+     * @param error the message of the error that prevented the solution, or {@code null}.
+     * @param topologyFault the structural problem found before solving, or {@code null}.
+     * @param isUnexpectedError whether the solution failed with an unexpected exception.
+     * @param solveNanos the time spent solving in nanoseconds.
+     * @param isCached whether the solution or error was taken from a cache.
+     */
+    SimulationOutcome(Circuit circuit, VerificationResult countResult, VerificationResult parameterResult,
+                      String error, TopologyFault topologyFault, boolean isUnexpectedError, long solveNanos, boolean isCached) {
+        this.circuit = circuit;
+        this.countResult = countResult;
+        this.parameterResult = parameterResult;
+        this.error = error;
+        this.topologyFault = topologyFault;
+        this.isUnexpectedError = isUnexpectedError;
+        this.solveNanos = solveNanos;
+        this.isCached = isCached;
+    }
+
+    /**
+     * Returns the copy of the circuit that was simulated. It is never modified afterwards, so it can be read
+     * from any thread, e.g. to log the node assignment and results.
+     *
+     * @return the simulated circuit.
+     */
+    public Circuit circuit() {
+        return circuit;
+    }
+
+    /**
+     * Returns the revision of the original circuit the outcome belongs to.
+     *
+     * @return the circuit revision.
+     */
+    public long revision() {
+        return circuit.revision();
+    }
+
+    /**
+     * Returns the results of the simulation.
+     *
+     * @return the results, or {@code null} if the circuit was not solved.
+     */
+    public CircuitResults results() {
+        return isSolved() ? circuit.results() : null;
+    }
+
+    /**
+     * Checks whether the circuit was solved.
+     *
+     * @return {@code true} if results are available.
+     */
+    public boolean isSolved() {
+        return error == null && !isUnexpectedError && (countResult == null || countResult == VerificationResult.CORRECT);
+    }
+
+    /**
+     * Returns the result of verifying the element counts, checked before solving.
+     *
+     * @return the verification result, or {@code null} if the circuit has no requirements.
+     */
+    public VerificationResult countResult() {
+        return countResult;
+    }
+
+    /**
+     * Returns the result of verifying the simulated voltages and currents.
+     *
+     * @return the verification result, or {@code null} if there are no requirements or the circuit was not solved.
+     */
+    public VerificationResult parameterResult() {
+        return parameterResult;
+    }
+
+    /**
+     * Returns the message of the solver error that prevented the solution.
+     *
+     * @return the message, or {@code null} if there was no such error.
+     */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * Returns the structural problem that prevented solving and the elements causing it.
+     * The {@link #error()} is then the message of the problem.
+     *
+     * @return the fault, or {@code null} if the circuit passed validation or was not validated.
+     */
+    public TopologyFault topologyFault() {
+        return topologyFault;
+    }
+
+    /**
+     * Checks whether the solution failed with an unexpected exception.
+     *
+     * @return {@code true} for unexpected failures.
+     */
+    public boolean isUnexpectedError() {
+        return isUnexpectedError;
+    }
+
+    /**
+     * Returns the time spent assigning nodes and solving the circuit.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long solveNanos() {
+        return solveNanos;
+    }
+
+    /**
+     * Checks whether the solution or error was taken from a cache instead of running the solver.
+     *
+     * @return {@code true} for cache hits.
+     */
+    public boolean isCached() {
+        return isCached;
+    }
+
+}
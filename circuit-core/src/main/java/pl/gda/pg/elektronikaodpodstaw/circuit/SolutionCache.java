@@ -0,0 +1,309 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.CircuitNetlist;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+
+/**
+ * Keeps the solutions of recently simulated circuits, so that simulating a circuit again, e.g. after undoing back
+ * to it, skips the solver. Entries are keyed by {@link CircuitKey}, which ignores element names and the order
+ * of addition, and store the voltage and current of every element by its hash. Node voltages are not stored, since
+ * the ground node depends on the order of addition; a hit computes them anew against the ground of the circuit
+ * at hand. Errors are cached as well. The cache is bounded both by the number of entries and by the total
+ * number of cached elements, evicting the least recently used entries first. It is thread-safe and may be shared
+ * by several executors.
+ */
+public final class SolutionCache {
+
+    /** The entries in access order, the least recently used first. */
+    private final LinkedHashMap<CircuitKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The largest number of entries. */
+    private final int maxEntries;
+
+    /** The largest total number of cached elements. */
+    private final long maxElements;
+
+    /** The total number of cached elements. */
+    private long elements = 0;
+
+    /** The number of lookups that found a solution. */
+    private long hits = 0;
+
+    /** The number of lookups that found none. */
+    private long misses = 0;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxEntries the largest number of entries.
+     * @param maxElements the largest total number of cached elements.
+     * @throws IllegalArgumentException if a bound is not positive.
+     */
+    public SolutionCache(int maxEntries, long maxElements) {
+        if (maxEntries <= 0 || maxElements <= 0)
+            throw new IllegalArgumentException("Cache bounds must be positive!");
+        this.maxEntries = maxEntries;
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * Looks up the solution of a circuit computed with a backend and counts a hit or a miss.
+     *
+     * @param key the key of the circuit.
+     * @param backendName the configuration name of the backend.
+     * @return the cached entry, or {@code null} if there is none.
+     */
+    synchronized Entry get(CircuitKey key, String backendName) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.backendName.equals(backendName)) {
+            hits++;
+            return entry;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores the solution of a circuit, evicting the least recently used entries beyond the bounds.
+     * A solution larger than the whole cache is not stored.
+     *
+     * @param key the key of the circuit.
+     * @param entry the solution.
+     */
+    synchronized void put(CircuitKey key, Entry entry) {
+        if (entry.weight() > maxElements)
+            return;
+        Entry previous = entries.put(key, entry);
+        if (previous != null)
+            elements -= previous.weight();
+        elements += entry.weight();
+
+        Iterator<Map.Entry<CircuitKey, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || elements > maxElements) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            elements -= eldest.weight();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a solution.
+     *
+     * @return the number of hits.
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that found none.
+     *
+     * @return the number of misses.
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of cached solutions.
+     *
+     * @return the number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all solutions and resets the counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        elements = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Holds the solution of one circuit in a hash table keyed by element hash, or the error that prevented it.
+     * Voltages and currents are stored in the direction the element is hashed in. Entries are immutable
+     * once created.
+     */
+    static final class Entry {
+
+        /** The configuration name of the backend that computed the solution. */
+        private final String backendName;
+
+        /** The message of the error that prevented the solution, or {@code null}. */
+        private final String error;
+
+        /** The element hash in each slot, or 0 for an empty slot. */
+        private final long[] hashes;
+
+        /** The voltage across the element in each slot. */
+        private final double[] voltages;
+
+        /** The current through the element in each slot. */
+        private final double[] currents;
+
+        /**
+         * Constructs an entry with empty slots.
+         *
+         * @param backendName the configuration name of the backend.
+         * @param error the error message, or {@code null}.
+         * @param capacity the number of slots, a power of two.
+         */
+        private Entry(String backendName, String error, int capacity) {
+            this.backendName = backendName;
+            this.error = error;
+            hashes = new long[capacity];
+            voltages = new double[capacity];
+            currents = new double[capacity];
+        }
+
+        /**
+         * Creates an entry for a solved circuit.
+         *
+         * @param circuit the circuit, with the netlist the solution is indexed by.
+         * @param solution the solution of the circuit.
+         * @param backendName the configuration name of the backend.
+         * @return the entry.
+         */
+        static Entry solved(Circuit circuit, DcSolution solution, String backendName) {
+            Entry entry = new Entry(backendName, null, Integer.highestOneBit(Math.max(2 * circuit.size(), 1)) << 1);
+            for (int h = 0; h < circuit.handleLimit(); h++) {
+                int index = circuit.contains(h) ? circuit.netlistIndex(h) : -1;
+                if (index < 0)
+                    continue;
+                int slot = entry.slot(circuit.elementHash(h));
+                double sign = circuit.isHashReversed(h) ? -1 : 1;
+                entry.voltages[slot] = sign * solution.voltage(index);
+                entry.currents[slot] = sign * solution.current(index);
+            }
+            return entry;
+        }
+
+        /**
+         * Creates an entry for a circuit that could not be solved.
+         *
+         * @param error the error message.
+         * @param backendName the configuration name of the backend.
+         * @return the entry.
+         */
+        static Entry failed(String error, String backendName) {
+            return new Entry(backendName, error, 0);
+        }
+
+        /**
+         * Finds the slot of an element hash, claiming an empty one if the hash is not stored yet.
+         * Equal elements share a slot, which is correct since they also share their solution.
+         *
+         * @param hash the element hash.
+         * @return the slot.
+         */
+        private int slot(long hash) {
+            long stored = hash == 0 ? 1 : hash;
+            int mask = hashes.length - 1;
+            int slot = (int) (stored ^ (stored >>> 32)) & mask;
+            while (hashes[slot] != 0 && hashes[slot] != stored)
+                slot = (slot + 1) & mask;
+            hashes[slot] = stored;
+            return slot;
+        }
+
+        /**
+         * Returns the error that prevented the solution.
+         *
+         * @return the error message, or {@code null} if the circuit was solved.
+         */
+        String error() {
+            return error;
+        }
+
+        /**
+         * Rebuilds the solution for a circuit with the same key, indexed by its own netlist, with the node voltages
+         * measured from its own ground.
+         *
+         * @param circuit the circuit; its nodes are assigned if needed.
+         * @return the solution.
+         */
+        DcSolution toSolution(Circuit circuit) {
+            CircuitNetlist netlist = circuit.netlist();
+            double[] elementVoltages = new double[netlist.size()];
+            double[] elementCurrents = new double[netlist.size()];
+            for (int h = 0; h < circuit.handleLimit(); h++) {
+                int index = circuit.contains(h) ? circuit.netlistIndex(h) : -1;
+                if (index < 0)
+                    continue;
+                int slot = slot(circuit.elementHash(h));
+                double sign = circuit.isHashReversed(h) ? -1 : 1;
+                elementVoltages[index] = sign * voltages[slot];
+                elementCurrents[index] = sign * currents[slot];
+            }
+            return new DcSolution(nodeVoltages(netlist, elementVoltages), elementVoltages, elementCurrents);
+        }
+
+        /**
+         * Computes the node voltages of a netlist from the voltages of its components, walking from the ground
+         * over the components. Nodes the ground cannot reach are left at 0 V; validated circuits have none.
+         *
+         * @param netlist the netlist.
+         * @param elementVoltages the voltage across each component, indexed like the netlist.
+         * @return the node voltages, indexed by node number.
+         */
+        private static double[] nodeVoltages(CircuitNetlist netlist, double[] elementVoltages) {
+            int nodeCount = netlist.nodeCount();
+            double[] nodeVoltages = new double[nodeCount];
+            if (nodeCount == 0)
+                return nodeVoltages;
+
+            int[] offsets = new int[nodeCount + 1];
+            for (int e = 0; e < netlist.size(); e++) {
+                offsets[netlist.nodePlus(e) + 1]++;
+                offsets[netlist.nodeMinus(e) + 1]++;
+            }
+            for (int node = 0; node < nodeCount; node++)
+                offsets[node + 1] += offsets[node];
+            int[] incident = new int[offsets[nodeCount]];
+            int[] filled = Arrays.copyOf(offsets, nodeCount);
+            for (int e = 0; e < netlist.size(); e++) {
+                incident[filled[netlist.nodePlus(e)]++] = e;
+                incident[filled[netlist.nodeMinus(e)]++] = e;
+            }
+
+            boolean[] isReached = new boolean[nodeCount];
+            int[] queue = new int[nodeCount];
+            int tail = 1;
+            isReached[0] = true;
+            for (int head = 0; head < tail; head++) {
+                int node = queue[head];
+                for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                    int e = incident[i];
+                    int plus = netlist.nodePlus(e);
+                    int minus = netlist.nodeMinus(e);
+                    int other = plus == node ? minus : plus;
+                    if (isReached[other])
+                        continue;
+                    nodeVoltages[other] = other == plus ? nodeVoltages[minus] + elementVoltages[e] : nodeVoltages[plus] - elementVoltages[e];
+                    isReached[other] = true;
+                    queue[tail++] = other;
+                }
+            }
+            return nodeVoltages;
+        }
+
+        /**
+         * Returns the weight of the entry against the element bound of the cache.
+         *
+         * @return the number of slots plus one.
+         */
+        private long weight() {
+            return hashes.length + 1L;
+        }
+
+    }
+
+}
@@ -0,0 +1,11 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+/**
+ * Describes the first structural problem found in a circuit and the elements causing it, so that they can
+ * be highlighted. The handles refer to the validated circuit and to every copy of it made before the next edit.
+ *
+ * @param problem the problem.
+ * @param elements the handles of the elements at fault in ascending order; the array must not be modified.
+ */
+public record TopologyFault(TopologyProblem problem, int[] elements) {
+}
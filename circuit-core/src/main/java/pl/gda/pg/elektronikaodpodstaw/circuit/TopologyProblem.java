@@ -0,0 +1,48 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+/**
+ * Enumerates the structural problems that make the DC operating point of a circuit impossible to compute.
+ * The problems are listed in the order {@link TopologyValidator} checks them.
+ */
+public enum TopologyProblem {
+
+    /** The circuit has fewer than two components. */
+    TOO_FEW_ELEMENTS("Must have at least 2 NetListParts!"),
+
+    /** A component has both ends on the same node. */
+    SHORTED_ELEMENT("A component cannot be connected to the same node twice!"),
+
+    /** A component has an end on a node no other component touches. */
+    DANGLING_ELEMENT("Must have at least 2 Connections for node"),
+
+    /** Current sources are the only components carrying current into a part of the circuit. */
+    CURRENT_SOURCE_CUTSET("Current sources cannot be in series!"),
+
+    /** Voltage sources, which are ideal shorts in DC, form a loop. */
+    VOLTAGE_LOOP("Voltage sources cannot be in parallel!"),
+
+    /** A part of the circuit is not connected to the ground in any way. */
+    DISCONNECTED_SUBCIRCUIT("Circuit is not connected!");
+
+    /** The message of the problem, matching the solver messages for the same problem. */
+    private final String message;
+
+    /**
+     * Constructs a problem.
+     *
+     * @param message the message of the problem.
+     */
+    TopologyProblem(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the message of the problem, the same one the solvers report for it.
+     *
+     * @return the message.
+     */
+    public String message() {
+        return message;
+    }
+
+}
@@ -0,0 +1,287 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.Arrays;
+
+/**
+ * Checks the node graph of a circuit for structural problems before it is solved, so that a bad circuit is
+ * rejected without paying for a failed solve and the elements at fault can be shown to the user.
+ * Every check is a pass over the components with a disjoint-set structure or a spanning forest over the nodes,
+ * so validation runs in near-linear time. Components are treated as in the DC analysis: resistors, ammeters and
+ * inductors conduct, the latter two through the tiny series resistance both backends give them, voltage sources
+ * are ideal shorts, and capacitors and voltmeters are open.
+ */
+public final class TopologyValidator {
+
+    /**
+     * Prevents instantiation.
+     */
+    private TopologyValidator() {
+    }
+
+    /**
+     * Validates a circuit, assigning its nodes first if the topology changed.
+     * The checks run in the order of {@link TopologyProblem} and the first problem found is reported with
+     * all the elements causing it:
+     * <ul>
+     *     <li>a dangling element has an end on a floating node, touched by no other component;</li>
+     *     <li>a current source joins two parts of the circuit that are connected by nothing but current sources,
+     *     capacitors and voltmeters, so one of them cannot carry its current;</li>
+     *     <li>a loop of voltage sources is reported with all its elements;</li>
+     *     <li>a disconnected subcircuit is reported with all the elements not connected to the ground.</li>
+     * </ul>
+     *
+     * @param circuit the circuit to validate.
+     * @return the fault, or {@code null} if the circuit can be solved.
+     */
+    public static TopologyFault validate(Circuit circuit) {
+        int nodeCount = circuit.netlist().nodeCount();
+        int limit = circuit.handleLimit();
+        boolean[] faulty = new boolean[limit];
+
+        int components = 0;
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h)) {
+                faulty[h] = true;
+                components++;
+            }
+        }
+        if (components < 2)
+            return fault(TopologyProblem.TOO_FEW_ELEMENTS, faulty);
+        Arrays.fill(faulty, false);
+
+        boolean isFound = false;
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && circuit.nodePlus(h) == circuit.nodeMinus(h)) {
+                faulty[h] = true;
+                isFound = true;
+            }
+        }
+        if (isFound)
+            return fault(TopologyProblem.SHORTED_ELEMENT, faulty);
+
+        int[] degrees = new int[nodeCount];
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h)) {
+                degrees[circuit.nodePlus(h)]++;
+                degrees[circuit.nodeMinus(h)]++;
+            }
+        }
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && (degrees[circuit.nodePlus(h)] < 2 || degrees[circuit.nodeMinus(h)] < 2)) {
+                faulty[h] = true;
+                isFound = true;
+            }
+        }
+        if (isFound)
+            return fault(TopologyProblem.DANGLING_ELEMENT, faulty);
+
+        int[] sets = newSets(nodeCount);
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && isConducting(circuit.kind(h)))
+                union(sets, circuit.nodePlus(h), circuit.nodeMinus(h));
+        }
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && circuit.kind(h) == ElementKind.CURRENT_SOURCE
+                    && find(sets, circuit.nodePlus(h)) != find(sets, circuit.nodeMinus(h))) {
+                faulty[h] = true;
+                isFound = true;
+            }
+        }
+        if (isFound)
+            return fault(TopologyProblem.CURRENT_SOURCE_CUTSET, faulty);
+
+        if (markVoltageLoops(circuit, nodeCount, faulty))
+            return fault(TopologyProblem.VOLTAGE_LOOP, faulty);
+
+        sets = newSets(nodeCount);
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h))
+                union(sets, circuit.nodePlus(h), circuit.nodeMinus(h));
+        }
+        int ground = find(sets, 0);
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && find(sets, circuit.nodePlus(h)) != ground) {
+                faulty[h] = true;
+                isFound = true;
+            }
+        }
+        return isFound ? fault(TopologyProblem.DISCONNECTED_SUBCIRCUIT, faulty) : null;
+    }
+
+    /**
+     * Marks all loops of voltage sources. A spanning forest of the sources is grown with a disjoint-set structure;
+     * every source closing a cycle is marked together with the forest path between its ends, found by walking
+     * both ends up to their common ancestor.
+     *
+     * @param circuit the circuit with assigned nodes.
+     * @param nodeCount the number of nodes touching components.
+     * @param faulty receives the elements of the loops.
+     * @return {@code true} if a loop was found.
+     */
+    private static boolean markVoltageLoops(Circuit circuit, int nodeCount, boolean[] faulty) {
+        int limit = circuit.handleLimit();
+        int[] sets = newSets(nodeCount);
+        boolean[] isClosing = new boolean[limit];
+        int[] offsets = new int[nodeCount + 1];
+        boolean isFound = false;
+        for (int h = 0; h < limit; h++) {
+            if (!isComponent(circuit, h) || circuit.kind(h) != ElementKind.VOLTAGE_SOURCE)
+                continue;
+            if (union(sets, circuit.nodePlus(h), circuit.nodeMinus(h))) {
+                offsets[circuit.nodePlus(h) + 1]++;
+                offsets[circuit.nodeMinus(h) + 1]++;
+            } else {
+                isClosing[h] = true;
+                isFound = true;
+            }
+        }
+        if (!isFound)
+            return false;
+
+        for (int node = 0; node < nodeCount; node++)
+            offsets[node + 1] += offsets[node];
+        int[] fill = Arrays.copyOf(offsets, nodeCount);
+        int[] edges = new int[offsets[nodeCount]];
+        for (int h = 0; h < limit; h++) {
+            if (isComponent(circuit, h) && circuit.kind(h) == ElementKind.VOLTAGE_SOURCE && !isClosing[h]) {
+                edges[fill[circuit.nodePlus(h)]++] = h;
+                edges[fill[circuit.nodeMinus(h)]++] = h;
+            }
+        }
+
+        int[] parents = new int[nodeCount];
+        int[] parentEdges = new int[nodeCount];
+        int[] depths = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        Arrays.fill(parents, -2);
+        for (int root = 0; root < nodeCount; root++) {
+            if (parents[root] != -2)
+                continue;
+            parents[root] = -1;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                    int h = edges[i];
+                    int other = circuit.nodePlus(h) == node ? circuit.nodeMinus(h) : circuit.nodePlus(h);
+                    if (parents[other] != -2)
+                        continue;
+                    parents[other] = node;
+                    parentEdges[other] = h;
+                    depths[other] = depths[node] + 1;
+                    queue[tail++] = other;
+                }
+            }
+        }
+
+        for (int h = 0; h < limit; h++) {
+            if (!isClosing[h])
+                continue;
+            faulty[h] = true;
+            int u = circuit.nodePlus(h);
+            int v = circuit.nodeMinus(h);
+            while (u != v) {
+                if (depths[u] >= depths[v]) {
+                    faulty[parentEdges[u]] = true;
+                    u = parents[u];
+                } else {
+                    faulty[parentEdges[v]] = true;
+                    v = parents[v];
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a handle refers to a placed element other than a wire.
+     *
+     * @param circuit the circuit.
+     * @param handle the handle.
+     * @return {@code true} for components.
+     */
+    private static boolean isComponent(Circuit circuit, int handle) {
+        return circuit.contains(handle) && circuit.kind(handle) != ElementKind.WIRE;
+    }
+
+    /**
+     * Checks whether an element kind carries a DC current determined by the rest of the circuit.
+     *
+     * @param kind the element kind.
+     * @return {@code true} for resistors, voltage sources, ammeters and inductors.
+     */
+    private static boolean isConducting(ElementKind kind) {
+        return kind == ElementKind.RESISTOR || kind == ElementKind.VOLTAGE_SOURCE
+                || kind == ElementKind.AMMETER || kind == ElementKind.INDUCTOR;
+    }
+
+    /**
+     * Creates a fault from the marked elements.
+     *
+     * @param problem the problem.
+     * @param faulty the marked elements by handle.
+     * @return the fault.
+     */
+    private static TopologyFault fault(TopologyProblem problem, boolean[] faulty) {
+        int count = 0;
+        for (boolean isFaulty : faulty) {
+            if (isFaulty)
+                count++;
+        }
+        int[] elements = new int[count];
+        count = 0;
+        for (int h = 0; h < faulty.length; h++) {
+            if (faulty[h])
+                elements[count++] = h;
+        }
+        return new TopologyFault(problem, elements);
+    }
+
+    /**
+     * Creates a disjoint-set structure with every node in a set of its own.
+     *
+     * @param nodeCount the number of nodes.
+     * @return the parent of each node.
+     */
+    private static int[] newSets(int nodeCount) {
+        int[] sets = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++)
+            sets[node] = node;
+        return sets;
+    }
+
+    /**
+     * Finds the representative of the set of a node, halving the path on the way.
+     *
+     * @param sets the parent of each node.
+     * @param node the node.
+     * @return the representative.
+     */
+    private static int find(int[] sets, int node) {
+        while (sets[node] != node) {
+            sets[node] = sets[sets[node]];
+            node = sets[node];
+        }
+        return node;
+    }
+
+    /**
+     * Merges the sets of two nodes.
+     *
+     * @param sets the parent of each node.
+     * @param a the first node.
+     * @param b the second node.
+     * @return {@code true} if the nodes were in different sets.
+     */
+    private static boolean union(int[] sets, int a, int b) {
+        int rootA = find(sets, a);
+        int rootB = find(sets, b);
+        if (rootA == rootB)
+            return false;
+        sets[rootA] = rootB;
+        return true;
+    }
+
+}
@@ -0,0 +1,20 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+/**
+ * Enumerates the outcomes of verifying a circuit against the requirements of a task.
+ */
+public enum VerificationResult {
+
+    /** The circuit satisfies the requirements. */
+    CORRECT,
+
+    /** A required element type is present in the wrong number. */
+    WRONG_ELEMENT_COUNT,
+
+    /** The circuit contains an element type that is not required. */
+    UNEXPECTED_ELEMENT,
+
+    /** The simulated voltages or currents do not match the required ones. */
+    WRONG_PARAMETERS
+
+}
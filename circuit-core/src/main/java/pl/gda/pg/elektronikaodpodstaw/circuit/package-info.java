@@ -0,0 +1,7 @@
+/**
+ * Contains the pure-data circuit model shared by the game and headless tools.
+ * Elements live in an arena of primitive arrays addressed by integer handles, node assignment turns them
+ * into netlists for the solvers, and task requirements are verified against the solved circuit. Nothing in this package
+ * depends on AWT or on global state, so any number of circuits can be built and solved concurrently.
+ */
+package pl.gda.pg.elektronikaodpodstaw.circuit;
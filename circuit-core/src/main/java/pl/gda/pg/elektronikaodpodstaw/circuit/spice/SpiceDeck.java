@@ -0,0 +1,317 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+
+/**
+ * Holds the components of a SPICE deck in parallel primitive arrays.
+ * Nodes are numbered densely in order of appearance, with the ground ({@code 0} or {@code gnd}) as node 0.
+ * Resistors, capacitors, inductors and independent voltage and current sources are read with their DC value;
+ * a zero-volt source named {@code VAM...} is read as an ammeter and a resistor named {@code RVM...} as a voltmeter,
+ * as written by {@link SpiceWriter}. Fields after the value, such as AC or transient specifications, are ignored,
+ * and reading stops at the {@code .end} card.
+ */
+public final class SpiceDeck {
+
+    /** The element kinds indexed by ordinal. */
+    private static final ElementKind[] KINDS = ElementKind.values();
+
+    /** The element kind ordinal of each component. */
+    private byte[] kinds = new byte[64];
+
+    /** The positive node of each component. */
+    private int[] plus = new int[64];
+
+    /** The negative node of each component. */
+    private int[] minus = new int[64];
+
+    /** The value of each component. */
+    private double[] values = new double[64];
+
+    /** The number of components. */
+    private int size = 0;
+
+    /** Numbers the node names. */
+    private final NodeTable nodes = new NodeTable();
+
+    /**
+     * Constructs an empty deck.
+     */
+    private SpiceDeck() {
+    }
+
+    /**
+     * Reads a SPICE deck from a file.
+     *
+     * @param path the file to read.
+     * @return the deck.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the deck contains an unsupported or malformed card.
+     */
+    public static SpiceDeck read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Reads a SPICE deck from a channel, streaming it through a fixed buffer. The first line is the title and is skipped.
+     *
+     * @param channel the channel to read from; it is not closed.
+     * @return the deck.
+     * @throws IOException if the channel cannot be read.
+     * @throws IllegalArgumentException if the deck contains an unsupported or malformed card.
+     */
+    public static SpiceDeck read(ReadableByteChannel channel) throws IOException {
+        SpiceDeck deck = new SpiceDeck();
+        SpiceTokenizer tokenizer = new SpiceTokenizer(channel);
+        tokenizer.skipTitle();
+
+        ElementKind kind = null;
+        int field = 0;
+        int cardLine = 0;
+        boolean isControl = false;
+        while (tokenizer.next()) {
+            if (tokenizer.isCardStart()) {
+                if (kind != null)
+                    deck.finishCard(kind, field, cardLine);
+                kind = null;
+                field = 0;
+                cardLine = tokenizer.line();
+                isControl = tokenizer.byteAt(0) == '.';
+                if (isControl) {
+                    if (tokenizer.is(".end"))
+                        return deck;
+                    continue;
+                }
+                kind = kindOf(tokenizer);
+                deck.startCard(kind);
+            } else if (isControl || kind == null) {
+                continue;
+            }
+
+            switch (field) {
+                case 0 -> field++;
+                case 1 -> {
+                    deck.plus[deck.size] = deck.nodes.number(tokenizer);
+                    field++;
+                }
+                case 2 -> {
+                    deck.minus[deck.size] = deck.nodes.number(tokenizer);
+                    field++;
+                }
+                case 3 -> {
+                    if (tokenizer.is("dc"))
+                        continue;
+                    deck.values[deck.size] = tokenizer.number();
+                    field++;
+                }
+                default -> {
+                }
+            }
+        }
+        if (kind != null)
+            deck.finishCard(kind, field, cardLine);
+        return deck;
+    }
+
+    /**
+     * Determines the element kind from the name of a component.
+     *
+     * @param tokenizer the tokenizer positioned at the name.
+     * @return the kind.
+     * @throws IllegalArgumentException if the component type is not supported.
+     */
+    private static ElementKind kindOf(SpiceTokenizer tokenizer) {
+        boolean isMeter = tokenizer.length() > 2 && (tokenizer.byteAt(1) == 'a' && tokenizer.byteAt(2) == 'm'
+                || tokenizer.byteAt(1) == 'v' && tokenizer.byteAt(2) == 'm');
+        return switch (tokenizer.byteAt(0)) {
+            case 'r' -> isMeter && tokenizer.byteAt(1) == 'v' ? ElementKind.VOLTMETER : ElementKind.RESISTOR;
+            case 'c' -> ElementKind.CAPACITOR;
+            case 'l' -> ElementKind.INDUCTOR;
+            case 'v' -> isMeter && tokenizer.byteAt(1) == 'a' ? ElementKind.AMMETER : ElementKind.VOLTAGE_SOURCE;
+            case 'i' -> ElementKind.CURRENT_SOURCE;
+            default -> throw new IllegalArgumentException("Unsupported SPICE element " + tokenizer.text() + " on line " + tokenizer.line() + "!");
+        };
+    }
+
+    /**
+     * Reserves a component for a new card.
+     *
+     * @param kind the kind of the component.
+     */
+    private void startCard(ElementKind kind) {
+        if (size == kinds.length) {
+            int capacity = 2 * size;
+            kinds = Arrays.copyOf(kinds, capacity);
+            plus = Arrays.copyOf(plus, capacity);
+            minus = Arrays.copyOf(minus, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        kinds[size] = (byte) kind.ordinal();
+        values[size] = 0;
+    }
+
+    /**
+     * Completes the component of a card once all its fields were read.
+     *
+     * @param kind the kind of the component.
+     * @param fields the number of fields read.
+     * @param line the line of the card.
+     * @throws IllegalArgumentException if a node or a required value is missing.
+     */
+    private void finishCard(ElementKind kind, int fields, int line) {
+        boolean isSource = kind == ElementKind.VOLTAGE_SOURCE || kind == ElementKind.CURRENT_SOURCE
+                || kind == ElementKind.AMMETER || kind == ElementKind.VOLTMETER;
+        if (fields < 3 || fields < 4 && !isSource)
+            throw new IllegalArgumentException("Incomplete SPICE card on line " + line + "!");
+        size++;
+    }
+
+    /**
+     * Returns the number of components.
+     *
+     * @return the number of components.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of nodes, including the ground.
+     *
+     * @return the number of nodes.
+     */
+    public int nodeCount() {
+        return nodes.count;
+    }
+
+    /**
+     * Returns the kind of a component.
+     *
+     * @param index the index of the component.
+     * @return the kind.
+     */
+    public ElementKind kind(int index) {
+        return KINDS[kinds[index]];
+    }
+
+    /**
+     * Returns the positive node of a component.
+     *
+     * @param index the index of the component.
+     * @return the node number.
+     */
+    public int plus(int index) {
+        return plus[index];
+    }
+
+    /**
+     * Returns the negative node of a component.
+     *
+     * @param index the index of the component.
+     * @return the node number.
+     */
+    public int minus(int index) {
+        return minus[index];
+    }
+
+    /**
+     * Returns the DC value of a component.
+     *
+     * @param index the index of the component.
+     * @return the value.
+     */
+    public double value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Numbers node names with an open-addressing hash table over a byte arena, so that a name is only copied
+     * the first time it appears.
+     */
+    private static final class NodeTable {
+
+        /** The names of all nodes, one after another. */
+        private byte[] names = new byte[256];
+
+        /** The offset of each node name in {@link #names}. */
+        private int[] offsets = new int[64];
+
+        /** The length of each node name. */
+        private int[] lengths = new int[64];
+
+        /** The node number plus one in each hash table slot, or 0 if the slot is empty. */
+        private int[] slots = new int[128];
+
+        /** The number of bytes used in {@link #names}. */
+        private int used = 0;
+
+        /** The number of nodes, starting with the ground. */
+        private int count = 1;
+
+        /**
+         * Returns the number of the node named by the current field, numbering it if it is new.
+         *
+         * @param tokenizer the tokenizer positioned at the node name.
+         * @return the node number.
+         */
+        private int number(SpiceTokenizer tokenizer) {
+            if (tokenizer.is("0") || tokenizer.is("gnd"))
+                return 0;
+            byte[] name = tokenizer.bytes();
+            int length = tokenizer.length();
+            int hash = 0x811C9DC5;
+            for (int i = 0; i < length; i++)
+                hash = (hash ^ name[i]) * 0x01000193;
+
+            int mask = slots.length - 1;
+            int slot = hash & mask;
+            while (slots[slot] != 0) {
+                int node = slots[slot] - 1;
+                if (lengths[node] == length && Arrays.equals(names, offsets[node], offsets[node] + length, name, 0, length))
+                    return node;
+                slot = (slot + 1) & mask;
+            }
+
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * count);
+                lengths = Arrays.copyOf(lengths, 2 * count);
+            }
+            if (used + length > names.length)
+                names = Arrays.copyOf(names, Math.max(2 * names.length, used + length));
+            System.arraycopy(name, 0, names, used, length);
+            offsets[count] = used;
+            lengths[count] = length;
+            used += length;
+            slots[slot] = count + 1;
+            if (2 * count >= slots.length)
+                rehash();
+            return count++;
+        }
+
+        /**
+         * Doubles the hash table and reinserts all names.
+         */
+        private void rehash() {
+            slots = new int[2 * slots.length];
+            int mask = slots.length - 1;
+            for (int node = 1; node <= count; node++) {
+                int hash = 0x811C9DC5;
+                for (int i = offsets[node]; i < offsets[node] + lengths[node]; i++)
+                    hash = (hash ^ names[i]) * 0x01000193;
+                int slot = hash & mask;
+                while (slots[slot] != 0)
+                    slot = (slot + 1) & mask;
+                slots[slot] = node + 1;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+
+/**
+ * Places the components of a SPICE deck onto a grid of unit steps as vertical elements joined by wires.
+ * Every node gets a row, with the ground at the bottom. A component spans the rows from its negative to its positive
+ * node; components whose spans do not overlap share a column, so a deck needs as many columns as there are spans
+ * over the busiest row rather than one per component. A component is drawn from the row of its negative node
+ * one step towards its positive node, and a wire completes the rest of the way; the components on each node are then
+ * joined by a horizontal bus of wires between the consecutive columns touching the node.
+ * <p>
+ * Elements are only connected where their ends meet, so a wire crossing a bus of another node in the middle
+ * does not connect to it. Components sharing a column only meet at the row of a node both are connected to,
+ * so the ends in a column only ever meet the buses of the nodes of their components, and the placement reproduces
+ * the connectivity of any deck. The inner end of a component can however land on the row of another node, and if
+ * the bus of that node passes the column there, the drawing shows a junction that is not connected. When a deck
+ * has such a component, an empty row is left between every two node rows, so that the inner ends of the components
+ * lie on rows without buses.
+ */
+public final class SpicePlacement {
+
+    /** The element kinds indexed by ordinal. */
+    private static final ElementKind[] KINDS = ElementKind.values();
+
+    /** The element kind ordinal of each placed element. */
+    private final byte[] kinds;
+
+    /** The column of the starting point of each element. */
+    private final int[] startColumns;
+
+    /** The row of the starting point of each element. */
+    private final int[] startRows;
+
+    /** The column of the ending point of each element. */
+    private final int[] endColumns;
+
+    /** The row of the ending point of each element. */
+    private final int[] endRows;
+
+    /** The value of each element. */
+    private final double[] values;
+
+    /** The number of placed elements. */
+    private int size = 0;
+
+    /** The number of columns used. */
+    private final int columns;
+
+    /** The number of rows used. */
+    private final int rows;
+
+    /** The distance between the rows of two consecutive nodes, 2 if empty rows separate them. */
+    private final int rowStep;
+
+    /**
+     * Places the components of a deck.
+     *
+     * @param deck the deck to place.
+     * @throws IllegalArgumentException if a component is connected to the same node twice.
+     */
+    public SpicePlacement(SpiceDeck deck) {
+        int capacity = 4 * deck.size();
+        kinds = new byte[capacity];
+        startColumns = new int[capacity];
+        startRows = new int[capacity];
+        endColumns = new int[capacity];
+        endRows = new int[capacity];
+        values = new double[capacity];
+        int[] componentColumns = packColumns(deck);
+        int[] nodeOffsets = new int[deck.nodeCount() + 1];
+        int[] nodeColumns = nodeColumns(deck, componentColumns, nodeOffsets);
+        int columnCount = 0;
+        for (int column : componentColumns)
+            columnCount = Math.max(columnCount, column + 1);
+        columns = columnCount;
+        rowStep = hasHiddenJunction(deck, componentColumns, nodeColumns, nodeOffsets) ? 2 : 1;
+        rows = (deck.nodeCount() - 1) * rowStep + 1;
+
+        for (int k = 0; k < deck.size(); k++) {
+            int column = componentColumns[k];
+            int minusRow = row(deck.minus(k));
+            int plusRow = row(deck.plus(k));
+            int elementEnd = minusRow + Integer.signum(plusRow - minusRow);
+            add(deck.kind(k), column, minusRow, column, elementEnd, deck.value(k));
+            if (elementEnd != plusRow)
+                add(ElementKind.WIRE, column, elementEnd, column, plusRow, 0);
+        }
+        for (int node = 0; node < deck.nodeCount(); node++) {
+            for (int i = nodeOffsets[node] + 1; i < nodeOffsets[node + 1]; i++)
+                add(ElementKind.WIRE, nodeColumns[i - 1], row(node), nodeColumns[i], row(node), 0);
+        }
+    }
+
+    /**
+     * Returns the index of the row of a node among the node rows: the ground last, the other nodes from the top
+     * in order of appearance.
+     *
+     * @param deck the deck.
+     * @param node the node number.
+     * @return the row index.
+     */
+    private static int rowIndex(SpiceDeck deck, int node) {
+        return node == 0 ? deck.nodeCount() - 1 : node - 1;
+    }
+
+    /**
+     * Assigns the components to columns, taking them by their top row and putting each into the column that became
+     * free first, if its last component ends at or above the top of the new one. This needs the least possible number
+     * of columns, since every new column is opened only while all the others are busy at the top row of a component.
+     *
+     * @param deck the deck to place.
+     * @return the column of each component.
+     * @throws IllegalArgumentException if a component is connected to the same node twice.
+     */
+    private static int[] packColumns(SpiceDeck deck) {
+        long[] order = new long[deck.size()];
+        for (int k = 0; k < deck.size(); k++) {
+            if (deck.minus(k) == deck.plus(k))
+                throw new IllegalArgumentException("A component cannot be connected to the same node twice!");
+            int top = Math.min(rowIndex(deck, deck.minus(k)), rowIndex(deck, deck.plus(k)));
+            order[k] = (long) top << 32 | k;
+        }
+        Arrays.sort(order);
+
+        int[] componentColumns = new int[deck.size()];
+        PriorityQueue<Long> freeColumns = new PriorityQueue<>();
+        int columnCount = 0;
+        for (long entry : order) {
+            int k = (int) entry;
+            int top = (int) (entry >>> 32);
+            int bottom = Math.max(rowIndex(deck, deck.minus(k)), rowIndex(deck, deck.plus(k)));
+            Long earliest = freeColumns.peek();
+            int column;
+            if (earliest != null && (int) (earliest >>> 32) <= top) {
+                freeColumns.poll();
+                column = (int) (long) earliest;
+            } else
+                column = columnCount++;
+            componentColumns[k] = column;
+            freeColumns.add((long) bottom << 32 | column);
+        }
+        return componentColumns;
+    }
+
+    /**
+     * Lists the distinct columns of the components connected to each node in increasing order.
+     *
+     * @param deck the deck to place.
+     * @param componentColumns the column of each component.
+     * @param offsets receives where the columns of each node start, with the end of the last node at the end.
+     * @return the columns of all nodes, node by node.
+     */
+    private static int[] nodeColumns(SpiceDeck deck, int[] componentColumns, int[] offsets) {
+        int nodeCount = deck.nodeCount();
+        int[] counts = new int[nodeCount + 1];
+        for (int k = 0; k < deck.size(); k++) {
+            counts[deck.minus(k) + 1]++;
+            counts[deck.plus(k) + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++)
+            counts[node + 1] += counts[node];
+        int[] columns = new int[counts[nodeCount]];
+        int[] filled = Arrays.copyOf(counts, nodeCount);
+        for (int k = 0; k < deck.size(); k++) {
+            columns[filled[deck.minus(k)]++] = componentColumns[k];
+            columns[filled[deck.plus(k)]++] = componentColumns[k];
+        }
+
+        int n = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            Arrays.sort(columns, counts[node], counts[node + 1]);
+            offsets[node] = n;
+            for (int i = counts[node]; i < counts[node + 1]; i++) {
+                if (n == offsets[node] || columns[n - 1] != columns[i])
+                    columns[n++] = columns[i];
+            }
+        }
+        offsets[nodeCount] = n;
+        return columns;
+    }
+
+    /**
+     * Checks whether placing the deck with adjacent node rows would put the inner end of a component on the bus
+     * of another node, i.e. on the row of a node whose first column is before the component and whose last one after.
+     *
+     * @param deck the deck to place.
+     * @param componentColumns the column of each component.
+     * @param nodeColumns the columns of each node in increasing order.
+     * @param nodeOffsets where the columns of each node start.
+     * @return {@code true} if empty rows are needed between the node rows.
+     */
+    private static boolean hasHiddenJunction(SpiceDeck deck, int[] componentColumns, int[] nodeColumns, int[] nodeOffsets) {
+        int nodeCount = deck.nodeCount();
+        int[] rowNodes = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++)
+            rowNodes[rowIndex(deck, node)] = node;
+        for (int k = 0; k < deck.size(); k++) {
+            int minusRow = rowIndex(deck, deck.minus(k));
+            int plusRow = rowIndex(deck, deck.plus(k));
+            int elementEnd = minusRow + Integer.signum(plusRow - minusRow);
+            int node = rowNodes[elementEnd];
+            if (elementEnd != plusRow && nodeOffsets[node] < nodeOffsets[node + 1]
+                    && nodeColumns[nodeOffsets[node]] < componentColumns[k]
+                    && nodeColumns[nodeOffsets[node + 1] - 1] > componentColumns[k])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the row of a node: the ground at the bottom, the other nodes from the top in order of appearance.
+     *
+     * @param node the node number.
+     * @return the row.
+     */
+    private int row(int node) {
+        return node == 0 ? rows - 1 : (node - 1) * rowStep;
+    }
+
+    /**
+     * Appends a placed element.
+     *
+     * @param kind the kind of the element.
+     * @param startColumn the column of the starting point.
+     * @param startRow the row of the starting point.
+     * @param endColumn the column of the ending point.
+     * @param endRow the row of the ending point.
+     * @param value the value of the element.
+     */
+    private void add(ElementKind kind, int startColumn, int startRow, int endColumn, int endRow, double value) {
+        kinds[size] = (byte) kind.ordinal();
+        startColumns[size] = startColumn;
+        startRows[size] = startRow;
+        endColumns[size] = endColumn;
+        endRows[size] = endRow;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * Adds all placed elements to a circuit, mapping the grid onto coordinates.
+     *
+     * @param circuit the circuit to add to.
+     * @param originX the horizontal coordinate of column 0.
+     * @param originY the vertical coordinate of row 0.
+     * @param stepX the distance between columns.
+     * @param stepY the distance between rows.
+     */
+    public void addTo(Circuit circuit, int originX, int originY, int stepX, int stepY) {
+        for (int i = 0; i < size; i++) {
+            int handle = circuit.add(KINDS[kinds[i]], originX + startColumns[i] * stepX, originY + startRows[i] * stepY,
+                    originX + endColumns[i] * stepX, originY + endRows[i] * stepY);
+            circuit.setValue(handle, values[i]);
+        }
+    }
+
+    /**
+     * Returns the number of placed elements, including wires.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of grid columns used.
+     *
+     * @return the number of columns.
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of grid rows used.
+     *
+     * @return the number of rows.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the kind of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the kind.
+     */
+    public ElementKind kind(int index) {
+        return KINDS[kinds[index]];
+    }
+
+    /**
+     * Returns the column of the starting point of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the column.
+     */
+    public int startColumn(int index) {
+        return startColumns[index];
+    }
+
+    /**
+     * Returns the row of the starting point of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the row.
+     */
+    public int startRow(int index) {
+        return startRows[index];
+    }
+
+    /**
+     * Returns the column of the ending point of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the column.
+     */
+    public int endColumn(int index) {
+        return endColumns[index];
+    }
+
+    /**
+     * Returns the row of the ending point of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the row.
+     */
+    public int endRow(int index) {
+        return endRows[index];
+    }
+
+    /**
+     * Returns the value of a placed element.
+     *
+     * @param index the index of the element.
+     * @return the value.
+     */
+    public double value(int index) {
+        return values[index];
+    }
+
+}
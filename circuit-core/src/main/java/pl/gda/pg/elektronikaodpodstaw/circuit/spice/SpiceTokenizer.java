@@ -0,0 +1,347 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a SPICE deck read from a channel into fields, one at a time.
+ * The deck is read through a single fixed buffer and the current field is copied into a reusable byte array,
+ * so reading allocates nothing per line or per field. Comment lines starting with {@code *}, inline comments after
+ * {@code ;} or {@code $}, and the delimiters {@code , = ( )} are skipped; a line starting with {@code +} continues
+ * the previous card. Fields are compared case-insensitively, as SPICE is not case-sensitive.
+ */
+final class SpiceTokenizer {
+
+    /** The size of the read buffer in bytes. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The powers of ten that are exactly representable as doubles. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** The largest mantissa that is converted exactly with {@link #POWERS_OF_TEN}, below 2^53. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 49;
+
+    /** The channel the deck is read from. */
+    private final ReadableByteChannel channel;
+
+    /** The read buffer. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /** The bytes of the current field. */
+    private byte[] field = new byte[64];
+
+    /** The length of the current field. */
+    private int length = 0;
+
+    /** The line of the current field, starting at 1. */
+    private int line = 1;
+
+    /** Indicates whether the current field starts a new card. */
+    private boolean isCardStart = false;
+
+    /** The byte read ahead, or -2 if none. */
+    private int peeked = -2;
+
+    /** Indicates whether the next byte read is the first one of a line. */
+    private boolean isLineStart = true;
+
+    /** Indicates whether the end of the channel was reached. */
+    private boolean isEnd = false;
+
+    /**
+     * Constructs a tokenizer reading from a channel.
+     *
+     * @param channel the channel to read the deck from.
+     */
+    SpiceTokenizer(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    /**
+     * Advances to the next field.
+     *
+     * @return {@code true} if a field was read, {@code false} at the end of the deck.
+     * @throws IOException if the channel cannot be read.
+     */
+    boolean next() throws IOException {
+        length = 0;
+        isCardStart = false;
+        int c;
+        while (true) {
+            boolean wasLineStart = isLineStart;
+            c = read();
+            if (c < 0)
+                return false;
+            if (c == '\n') {
+                line++;
+                isLineStart = true;
+                isCardStart = false;
+                continue;
+            }
+            isLineStart = false;
+            if (wasLineStart) {
+                if (c == '*') {
+                    skipLine();
+                    continue;
+                }
+                if (c == '+')
+                    continue;
+                isCardStart = true;
+            }
+            if (c == ';' || c == '$') {
+                skipLine();
+                continue;
+            }
+            if (!isDelimiter(c))
+                break;
+        }
+        do {
+            if (length == field.length)
+                field = Arrays.copyOf(field, 2 * length);
+            field[length++] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+            c = read();
+        } while (c >= 0 && c != '\n' && c != ';' && c != '$' && !isDelimiter(c));
+        if (c >= 0)
+            peeked = c;
+        return true;
+    }
+
+    /**
+     * Skips the title line, which SPICE requires as the first line of every deck.
+     *
+     * @throws IOException if the channel cannot be read.
+     */
+    void skipTitle() throws IOException {
+        skipLine();
+    }
+
+    /**
+     * Returns the line of the current field.
+     *
+     * @return the line number, starting at 1.
+     */
+    int line() {
+        return line;
+    }
+
+    /**
+     * Checks whether the current field is the first one of a card.
+     *
+     * @return {@code true} if the field starts a new card.
+     */
+    boolean isCardStart() {
+        return isCardStart;
+    }
+
+    /**
+     * Returns the length of the current field.
+     *
+     * @return the number of bytes.
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns a byte of the current field, in lower case.
+     *
+     * @param index the index of the byte.
+     * @return the byte.
+     */
+    byte byteAt(int index) {
+        return field[index];
+    }
+
+    /**
+     * Returns the bytes of the current field, in lower case. The array is reused by the next field.
+     *
+     * @return the field bytes; only the first {@link #length()} are valid.
+     */
+    byte[] bytes() {
+        return field;
+    }
+
+    /**
+     * Checks whether the current field equals a lower-case ASCII word.
+     *
+     * @param word the word.
+     * @return {@code true} if the field equals the word.
+     */
+    boolean is(String word) {
+        if (length != word.length())
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (field[i] != word.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current field as a string, for error messages.
+     *
+     * @return the field.
+     */
+    String text() {
+        return new String(field, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the current field as a SPICE number: a decimal number with an optional exponent, followed by
+     * an optional scale factor ({@code t g meg k mil m u n p f}) and unit letters, which are ignored.
+     *
+     * @return the value.
+     * @throws IllegalArgumentException if the field is not a number.
+     */
+    double number() {
+        int i = 0;
+        boolean isNegative = false;
+        if (i < length && (field[i] == '+' || field[i] == '-'))
+            isNegative = field[i++] == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean isExact = true;
+        int start = i;
+        for (; i < length && isDigit(field[i]); i++, digits++) {
+            if (mantissa < MAX_EXACT_MANTISSA)
+                mantissa = mantissa * 10 + field[i] - '0';
+            else
+                isExact = false;
+        }
+        if (i < length && field[i] == '.') {
+            for (i++; i < length && isDigit(field[i]); i++, digits++) {
+                if (mantissa < MAX_EXACT_MANTISSA) {
+                    mantissa = mantissa * 10 + field[i] - '0';
+                    exponent--;
+                } else
+                    isExact = false;
+            }
+        }
+        if (digits == 0)
+            throw new IllegalArgumentException("Invalid SPICE number " + text() + " on line " + line + "!");
+        int numberEnd = i;
+        if (i + 1 < length && field[i] == 'e' && (isDigit(field[i + 1])
+                || i + 2 < length && (field[i + 1] == '+' || field[i + 1] == '-') && isDigit(field[i + 2]))) {
+            i++;
+            boolean isNegativeExponent = false;
+            if (field[i] == '+' || field[i] == '-')
+                isNegativeExponent = field[i++] == '-';
+            int value = 0;
+            for (; i < length && isDigit(field[i]); i++)
+                value = Math.min(value * 10 + field[i] - '0', 10000);
+            exponent += isNegativeExponent ? -value : value;
+            numberEnd = i;
+        }
+
+        boolean isMil = i + 2 < length && field[i] == 'm' && field[i + 1] == 'i' && field[i + 2] == 'l';
+        int scale = isMil ? -6 : scaleExponent(i);
+        double value;
+        if (isExact && Math.abs(exponent + scale) < POWERS_OF_TEN.length)
+            value = pow10(mantissa, exponent + scale);
+        else
+            value = pow10(Double.parseDouble(new String(field, start, numberEnd - start, StandardCharsets.US_ASCII)), scale);
+        if (isMil)
+            value *= 25.4;
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Scales a value by a power of ten, dividing for negative exponents so that exact decimal
+     * values such as {@code 10u} are rounded only once.
+     *
+     * @param value the value to scale.
+     * @param exponent the decimal exponent, at most 22 in magnitude.
+     * @return the scaled value.
+     */
+    private static double pow10(double value, int exponent) {
+        return exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Returns the decimal exponent of the scale factor starting at a position of the current field.
+     *
+     * @param i the position after the number.
+     * @return the exponent, or 0 if there is no scale factor.
+     */
+    private int scaleExponent(int i) {
+        if (i >= length)
+            return 0;
+        return switch (field[i]) {
+            case 't' -> 12;
+            case 'g' -> 9;
+            case 'k' -> 3;
+            case 'm' -> i + 2 < length && field[i + 1] == 'e' && field[i + 2] == 'g' ? 6 : -3;
+            case 'u' -> -6;
+            case 'n' -> -9;
+            case 'p' -> -12;
+            case 'f' -> -15;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Skips the rest of the current line, leaving the line break to be read next.
+     *
+     * @throws IOException if the channel cannot be read.
+     */
+    private void skipLine() throws IOException {
+        int c;
+        do
+            c = read();
+        while (c >= 0 && c != '\n');
+        if (c >= 0)
+            peeked = c;
+    }
+
+    /**
+     * Reads the next byte of the deck.
+     *
+     * @return the byte, or -1 at the end of the channel.
+     * @throws IOException if the channel cannot be read.
+     */
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        while (!buffer.hasRemaining()) {
+            if (isEnd)
+                return -1;
+            buffer.clear();
+            if (channel.read(buffer) < 0)
+                isEnd = true;
+            buffer.flip();
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Checks whether a byte separates fields.
+     *
+     * @param c the byte.
+     * @return {@code true} for white space (except line breaks) and {@code , = ( )}.
+     */
+    private static boolean isDelimiter(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == ',' || c == '=' || c == '(' || c == ')';
+    }
+
+    /**
+     * Checks whether a byte is a decimal digit.
+     *
+     * @param c the byte.
+     * @return {@code true} for {@code 0-9}.
+     */
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
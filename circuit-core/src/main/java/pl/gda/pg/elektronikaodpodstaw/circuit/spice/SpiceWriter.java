@@ -0,0 +1,55 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.io.IOException;
+import java.io.Writer;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.CircuitNetlist;
+
+/**
+ * Writes circuits as SPICE decks for a DC operating point analysis.
+ * Nodes are numbered as in the netlist of the circuit, with the ground as node {@code 0}. Meters have no SPICE
+ * counterpart, so an ammeter is written as a zero-volt source named {@code VAM...} and a voltmeter as a
+ * {@value #VOLTMETER_RESISTANCE} ohm resistor named {@code RVM...}; {@link SpiceDeck} reads both back as meters.
+ */
+public final class SpiceWriter {
+
+    /** The resistance standing in for an ideal voltmeter. */
+    private static final String VOLTMETER_RESISTANCE = "1e12";
+
+    /**
+     * Prevents instantiation.
+     */
+    private SpiceWriter() {
+    }
+
+    /**
+     * Writes a circuit as a SPICE deck. Nodes are assigned first if the topology changed.
+     *
+     * @param circuit the circuit to write.
+     * @param writer the writer to write to; it is not closed.
+     * @throws IOException if writing fails.
+     */
+    public static void write(Circuit circuit, Writer writer) throws IOException {
+        CircuitNetlist netlist = circuit.netlist();
+        StringBuilder line = new StringBuilder("* Elektronika od podstaw\n");
+        writer.write(line.toString());
+        for (int e = 0; e < netlist.size(); e++) {
+            line.setLength(0);
+            switch (netlist.type(e)) {
+                case VOLTMETER -> line.append('R');
+                case AMMETER -> line.append('V');
+                default -> { }
+            }
+            line.append(netlist.name(e)).append(' ').append(netlist.nodePlus(e)).append(' ').append(netlist.nodeMinus(e));
+            switch (netlist.type(e)) {
+                case VOLTAGE_SOURCE, CURRENT_SOURCE -> line.append(" DC ").append(netlist.value(e));
+                case AMMETER -> line.append(" DC 0");
+                case VOLTMETER -> line.append(' ').append(VOLTMETER_RESISTANCE);
+                default -> line.append(' ').append(netlist.value(e));
+            }
+            writer.write(line.append('\n').toString());
+        }
+        writer.write(".op\n.end\n");
+    }
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Reads and writes circuits as SPICE decks.
+ * Decks are parsed by a streaming tokenizer over NIO channels, so generated netlists of many megabytes are read
+ * without building a string per line or per field, and are placed onto a grid of unit steps for drawing.
+ */
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
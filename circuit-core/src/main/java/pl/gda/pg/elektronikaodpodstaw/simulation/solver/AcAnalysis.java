@@ -0,0 +1,272 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Small-signal AC analysis sweeping a logarithmic frequency range.
+ * Every source drives the circuit with an amplitude equal to its value and zero phase.
+ * The complex admittance matrix {@code G + jωB} is built once per topology, restamped with the
+ * current component values at the start of every sweep, and solved through its
+ * real equivalent {@code [[G, -ωB], [ωB, G]]}, so the sparse LU of the DC solver is reused unchanged.
+ * Frequency points are independent and are solved in parallel on the common ForkJoin pool,
+ * every task working on its own copy of the factorization. Sweeps of one instance must not overlap.
+ */
+public final class AcAnalysis {
+
+    /** The smallest number of frequency points solved by one task. */
+    private static final int MIN_CHUNK = 32;
+
+    /** The netlist being analysed. */
+    private final CircuitNetlist netlist;
+
+    /** The equations of the netlist, used for stamping. */
+    private final MnaSystem system;
+
+    /** The number of complex unknowns. */
+    private final int n;
+
+    /** The number of stored entries of the complex matrix. */
+    private final int entries;
+
+    /** The frequency-independent real part of each complex matrix entry. */
+    private final double[] conductance;
+
+    /** The imaginary part of each complex matrix entry per unit angular frequency. */
+    private final double[] susceptance;
+
+    /**
+     * The slots of each complex matrix entry in the real-equivalent matrix:
+     * {@code (r, c)}, {@code (r + n, c)}, {@code (r, c + n)} and {@code (r + n, c + n)}.
+     */
+    private final int[] slots;
+
+    /** The right-hand side of the real-equivalent system. */
+    private final double[] rhs;
+
+    /** The node or branch unknowns read by each probe: positive and negative node for voltmeters, branch for ammeters. */
+    private final int[] probeUnknowns;
+
+    /** The component index of each probe. */
+    private final int[] probes;
+
+    /** The factorization of the real-equivalent pattern, copied by every task. */
+    private final SparseLu prototype;
+
+    /**
+     * Builds the AC equations for the specified netlist.
+     *
+     * @param netlist the circuit to analyse; its topology must not change afterwards.
+     * @throws IllegalArgumentException if the circuit is invalid.
+     */
+    public AcAnalysis(CircuitNetlist netlist) {
+        MnaSolver.validate(netlist);
+        this.netlist = netlist;
+        system = new MnaSystem(netlist);
+        n = system.size();
+        int[] colPtr = system.colPtr();
+        int[] rowIdx = system.rowIdx();
+        entries = colPtr[n];
+        conductance = new double[entries];
+        susceptance = new double[entries];
+        rhs = new double[2 * n];
+
+        int[] realColPtr = new int[2 * n + 1];
+        int[] realRowIdx = new int[4 * entries];
+        slots = new int[4 * entries];
+        for (int c = 0; c < n; c++) {
+            int count = colPtr[c + 1] - colPtr[c];
+            int left = 2 * colPtr[c];
+            int right = 2 * entries + 2 * colPtr[c];
+            realColPtr[c + 1] = left + 2 * count;
+            realColPtr[n + c + 1] = right + 2 * count;
+            for (int p = colPtr[c]; p < colPtr[c + 1]; p++) {
+                int offset = p - colPtr[c];
+                int r = rowIdx[p];
+                slots[4 * p] = left + offset;
+                slots[4 * p + 1] = left + count + offset;
+                slots[4 * p + 2] = right + offset;
+                slots[4 * p + 3] = right + count + offset;
+                realRowIdx[left + offset] = r;
+                realRowIdx[left + count + offset] = r + n;
+                realRowIdx[right + offset] = r;
+                realRowIdx[right + count + offset] = r + n;
+            }
+        }
+        prototype = new SparseLu(2 * n, realColPtr, realRowIdx);
+
+        int count = 0;
+        for (int e = 0; e < netlist.size(); e++) {
+            if (netlist.type(e) == ComponentType.VOLTMETER || netlist.type(e) == ComponentType.AMMETER)
+                count++;
+        }
+        probes = new int[count];
+        probeUnknowns = new int[2 * count];
+        count = 0;
+        for (int e = 0; e < netlist.size(); e++) {
+            if (netlist.type(e) == ComponentType.VOLTMETER) {
+                probeUnknowns[2 * count] = netlist.nodePlus(e) - 1;
+                probeUnknowns[2 * count + 1] = netlist.nodeMinus(e) - 1;
+                probes[count++] = e;
+            } else if (netlist.type(e) == ComponentType.AMMETER) {
+                probeUnknowns[2 * count] = system.branch(e);
+                probeUnknowns[2 * count + 1] = -1;
+                probes[count++] = e;
+            }
+        }
+    }
+
+    /**
+     * Returns the netlist the analysis was built for.
+     *
+     * @return the circuit netlist.
+     */
+    public CircuitNetlist netlist() {
+        return netlist;
+    }
+
+    /**
+     * Returns the number of probes (voltmeters and ammeters) in the netlist.
+     *
+     * @return the number of probes.
+     */
+    public int probeCount() {
+        return probes.length;
+    }
+
+    /**
+     * Sweeps a logarithmically spaced frequency range, solving the points in parallel.
+     *
+     * @param startFrequency the first frequency in hertz.
+     * @param stopFrequency the last frequency in hertz.
+     * @param points the number of frequency points.
+     * @return the readings of all probes at all frequencies.
+     * @throws IllegalArgumentException if the range is invalid or the matrix is singular at some frequency.
+     */
+    public AcSweep sweep(double startFrequency, double stopFrequency, int points) {
+        if (!(startFrequency > 0) || !(stopFrequency >= startFrequency) || points < 1)
+            throw new IllegalArgumentException("Invalid frequency range!");
+        double[] frequencies = new double[points];
+        double ratio = points == 1 ? 1 : Math.pow(stopFrequency / startFrequency, 1.0 / (points - 1));
+        for (int k = 0; k < points; k++)
+            frequencies[k] = startFrequency * Math.pow(ratio, k);
+
+        stamp();
+        AcSweep sweep = new AcSweep(frequencies, probes);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunk = Math.max(MIN_CHUNK, points / (4 * pool.getParallelism()) + 1);
+        pool.invoke(new SweepTask(sweep, 0, points, chunk));
+        return sweep;
+    }
+
+    /**
+     * Stamps the real and imaginary parts of the matrix and the source amplitudes with the current component values.
+     */
+    private void stamp() {
+        system.stampDcMatrix();
+        System.arraycopy(system.values(), 0, conductance, 0, entries);
+        system.clearMatrix();
+        for (int e = 0; e < netlist.size(); e++) {
+            switch (netlist.type(e)) {
+                case CAPACITOR -> system.stampConductance(e, netlist.value(e));
+                case INDUCTOR -> system.stampBranchResistance(e, netlist.value(e));
+                default -> { }
+            }
+        }
+        System.arraycopy(system.values(), 0, susceptance, 0, entries);
+        system.stampDcSources();
+        System.arraycopy(system.rhs(), 0, rhs, 0, n);
+    }
+
+    /**
+     * Solves a contiguous range of frequency points with a private copy of the factorization.
+     * After the first point only numeric refactorizations are needed, as the pattern never changes.
+     *
+     * @param sweep the sweep receiving the readings.
+     * @param from the first point, inclusive.
+     * @param to the last point, exclusive.
+     * @throws IllegalArgumentException if the matrix is singular at some frequency.
+     */
+    private void solveRange(AcSweep sweep, int from, int to) {
+        SparseLu lu = new SparseLu(prototype);
+        double[] values = new double[4 * entries];
+        double[] solution = new double[2 * n];
+        for (int k = from; k < to; k++) {
+            double omega = 2 * Math.PI * sweep.frequency(k);
+            for (int p = 0; p < entries; p++) {
+                double g = conductance[p];
+                double b = omega * susceptance[p];
+                values[slots[4 * p]] = g;
+                values[slots[4 * p + 1]] = b;
+                values[slots[4 * p + 2]] = -b;
+                values[slots[4 * p + 3]] = g;
+            }
+            boolean factored = k == from ? lu.factor(values) : lu.refactor(values) || lu.factor(values);
+            if (!factored)
+                throw new IllegalArgumentException("Singular circuit matrix!");
+            lu.solve(rhs, solution);
+
+            for (int probe = 0; probe < probes.length; probe++) {
+                int plus = probeUnknowns[2 * probe];
+                int minus = probeUnknowns[2 * probe + 1];
+                double re = plus < 0 ? 0 : solution[plus];
+                double im = plus < 0 ? 0 : solution[plus + n];
+                if (minus >= 0) {
+                    re -= solution[minus];
+                    im -= solution[minus + n];
+                }
+                sweep.set(probe, k, re, im);
+            }
+        }
+    }
+
+    /**
+     * Splits a range of frequency points into halves until it is small enough to be solved directly.
+     */
+    private final class SweepTask extends RecursiveAction {
+
+        /** The version of the serialized form inherited from {@link RecursiveAction}; tasks are never serialized. */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** The sweep receiving the readings. */
+        private final transient AcSweep sweep;
+
+        /** The first point, inclusive. */
+        private final int from;
+
+        /** The last point, exclusive. */
+        private final int to;
+
+        /** The largest range solved without splitting. */
+        private final int chunk;
+
+        /**
+         * Constructs a task for the specified range of points.
+         *
+         * @param sweep the sweep receiving the readings.
+         * @param from the first point, inclusive.
+         * @param to the last point, exclusive.
+         * @param chunk the largest range solved without splitting.
+         */
+        SweepTask(AcSweep sweep, int from, int to, int chunk) {
+            this.sweep = sweep;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                solveRange(sweep, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(sweep, from, middle, chunk), new SweepTask(sweep, middle, to, chunk));
+        }
+
+    }
+
+}
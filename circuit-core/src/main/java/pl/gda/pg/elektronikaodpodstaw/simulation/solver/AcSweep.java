@@ -0,0 +1,141 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Holds the result of an AC frequency sweep: the complex reading of every voltmeter and ammeter
+ * at every frequency point. Real and imaginary parts are stored in flat primitive arrays,
+ * {@code pointCount()} consecutive values per probe.
+ */
+public final class AcSweep {
+
+    /** The frequency of each point in hertz. */
+    private final double[] frequencies;
+
+    /** The component index of each probe. */
+    private final int[] probes;
+
+    /** The real part of each probe reading. */
+    private final double[] real;
+
+    /** The imaginary part of each probe reading. */
+    private final double[] imag;
+
+    /**
+     * Constructs an empty sweep result.
+     *
+     * @param frequencies the frequency of each point in hertz.
+     * @param probes the component index of each probe.
+     */
+    AcSweep(double[] frequencies, int[] probes) {
+        this.frequencies = frequencies;
+        this.probes = probes;
+        real = new double[probes.length * frequencies.length];
+        imag = new double[probes.length * frequencies.length];
+    }
+
+    /**
+     * Returns the number of frequency points.
+     *
+     * @return the number of points.
+     */
+    public int pointCount() {
+        return frequencies.length;
+    }
+
+    /**
+     * Returns the number of probes (voltmeters and ammeters).
+     *
+     * @return the number of probes.
+     */
+    public int probeCount() {
+        return probes.length;
+    }
+
+    /**
+     * Returns the netlist component measured by the specified probe.
+     *
+     * @param probe the probe index.
+     * @return the component index.
+     */
+    public int probe(int probe) {
+        return probes[probe];
+    }
+
+    /**
+     * Returns the frequency of the specified point.
+     *
+     * @param point the point index.
+     * @return the frequency in hertz.
+     */
+    public double frequency(int point) {
+        return frequencies[point];
+    }
+
+    /**
+     * Returns the real part of a probe reading.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @return the real part in volts or amps.
+     */
+    public double real(int probe, int point) {
+        return real[probe * frequencies.length + point];
+    }
+
+    /**
+     * Returns the imaginary part of a probe reading.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @return the imaginary part in volts or amps.
+     */
+    public double imag(int probe, int point) {
+        return imag[probe * frequencies.length + point];
+    }
+
+    /**
+     * Returns the magnitude of a probe reading.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @return the magnitude in volts or amps.
+     */
+    public double magnitude(int probe, int point) {
+        return Math.hypot(real(probe, point), imag(probe, point));
+    }
+
+    /**
+     * Returns the magnitude of a probe reading in decibels relative to 1 V or 1 A.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @return the magnitude in decibels.
+     */
+    public double magnitudeDb(int probe, int point) {
+        return 20 * Math.log10(magnitude(probe, point));
+    }
+
+    /**
+     * Returns the phase of a probe reading.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @return the phase in degrees, between -180 and 180.
+     */
+    public double phase(int probe, int point) {
+        return Math.toDegrees(Math.atan2(imag(probe, point), real(probe, point)));
+    }
+
+    /**
+     * Stores a probe reading.
+     *
+     * @param probe the probe index.
+     * @param point the point index.
+     * @param re the real part.
+     * @param im the imaginary part.
+     */
+    void set(int probe, int point, double re, double im) {
+        real[probe * frequencies.length + point] = re;
+        imag[probe * frequencies.length + point] = im;
+    }
+
+}
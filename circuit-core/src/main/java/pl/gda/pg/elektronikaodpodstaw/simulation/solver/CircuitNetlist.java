@@ -0,0 +1,183 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.Arrays;
+
+/**
+ * Represents a circuit after node assignment as a compact netlist.
+ * Components are stored in parallel primitive arrays, indexed in insertion order.
+ * Nodes are numbered densely from 0 to {@code nodeCount - 1}, where node 0 is the ground.
+ */
+public final class CircuitNetlist {
+
+    /** The number of nodes in the circuit, including the ground node. */
+    private final int nodeCount;
+
+    /** The type of each component. */
+    private ComponentType[] types;
+
+    /** The name of each component, used by backends that need labels. */
+    private String[] names;
+
+    /** The node at the positive end of each component. */
+    private int[] nodePlus;
+
+    /** The node at the negative end of each component. */
+    private int[] nodeMinus;
+
+    /** The value of each component (resistance, capacitance, source value, ...). */
+    private double[] values;
+
+    /** The number of components in the netlist. */
+    private int size = 0;
+
+    /**
+     * Constructs an empty netlist with the specified number of nodes.
+     *
+     * @param nodeCount the number of nodes, including the ground node 0.
+     */
+    public CircuitNetlist(int nodeCount) {
+        this(nodeCount, 16);
+    }
+
+    /**
+     * Constructs an empty netlist with the specified number of nodes and initial component capacity.
+     *
+     * @param nodeCount the number of nodes, including the ground node 0.
+     * @param capacity the initial number of components the netlist can hold without growing.
+     */
+    public CircuitNetlist(int nodeCount, int capacity) {
+        this.nodeCount = nodeCount;
+        capacity = Math.max(capacity, 1);
+        types = new ComponentType[capacity];
+        names = new String[capacity];
+        nodePlus = new int[capacity];
+        nodeMinus = new int[capacity];
+        values = new double[capacity];
+    }
+
+    /**
+     * Constructs an independent copy of the specified netlist, so that its values can be changed
+     * without affecting the original.
+     *
+     * @param other the netlist to copy.
+     */
+    public CircuitNetlist(CircuitNetlist other) {
+        nodeCount = other.nodeCount;
+        size = other.size;
+        int capacity = Math.max(size, 1);
+        types = Arrays.copyOf(other.types, capacity);
+        names = Arrays.copyOf(other.names, capacity);
+        nodePlus = Arrays.copyOf(other.nodePlus, capacity);
+        nodeMinus = Arrays.copyOf(other.nodeMinus, capacity);
+        values = Arrays.copyOf(other.values, capacity);
+    }
+
+    /**
+     * Adds a component to the netlist.
+     *
+     * @param type the type of the component.
+     * @param name the name of the component.
+     * @param plus the node at the positive end.
+     * @param minus the node at the negative end.
+     * @param value the value of the component.
+     * @return the index of the added component.
+     * @throws IllegalArgumentException if a node lies outside the netlist node range.
+     */
+    public int add(ComponentType type, String name, int plus, int minus, double value) {
+        if (plus < 0 || plus >= nodeCount || minus < 0 || minus >= nodeCount)
+            throw new IllegalArgumentException("Node out of range for component " + name);
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            names = Arrays.copyOf(names, capacity);
+            nodePlus = Arrays.copyOf(nodePlus, capacity);
+            nodeMinus = Arrays.copyOf(nodeMinus, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        types[size] = type;
+        names[size] = name;
+        nodePlus[size] = plus;
+        nodeMinus[size] = minus;
+        values[size] = value;
+        return size++;
+    }
+
+    /**
+     * Returns the number of components in the netlist.
+     *
+     * @return the number of components.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of nodes, including the ground node.
+     *
+     * @return the number of nodes.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the type of the specified component.
+     *
+     * @param index the component index.
+     * @return the component type.
+     */
+    public ComponentType type(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the name of the specified component.
+     *
+     * @param index the component index.
+     * @return the component name.
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the node at the positive end of the specified component.
+     *
+     * @param index the component index.
+     * @return the positive node.
+     */
+    public int nodePlus(int index) {
+        return nodePlus[index];
+    }
+
+    /**
+     * Returns the node at the negative end of the specified component.
+     *
+     * @param index the component index.
+     * @return the negative node.
+     */
+    public int nodeMinus(int index) {
+        return nodeMinus[index];
+    }
+
+    /**
+     * Returns the value of the specified component.
+     *
+     * @param index the component index.
+     * @return the component value.
+     */
+    public double value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Changes the value of the specified component without touching the topology.
+     *
+     * @param index the component index.
+     * @param value the new component value.
+     */
+    public void setValue(int index, double value) {
+        values[index] = value;
+    }
+
+}
@@ -0,0 +1,39 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Enumerates the kinds of components that can be stamped into a circuit netlist.
+ * Wires are not listed because they are merged into nodes during node assignment.
+ */
+public enum ComponentType {
+
+    /** A resistor, stamped as a conductance. */
+    RESISTOR,
+
+    /** A capacitor, open circuit in DC analysis and a companion conductance in transient analysis. */
+    CAPACITOR,
+
+    /** An inductor, short circuit in DC analysis and a companion resistance in transient analysis. */
+    INDUCTOR,
+
+    /** An ideal DC voltage source. */
+    VOLTAGE_SOURCE,
+
+    /** An ideal DC current source. */
+    CURRENT_SOURCE,
+
+    /** An ideal voltmeter, open circuit. */
+    VOLTMETER,
+
+    /** An ideal ammeter, short circuit with a measured branch current. */
+    AMMETER;
+
+    /**
+     * Checks whether the component introduces its own branch current unknown in modified nodal analysis.
+     *
+     * @return {@code true} for voltage sources, ammeters and inductors; {@code false} otherwise.
+     */
+    public boolean hasBranchCurrent() {
+        return this == VOLTAGE_SOURCE || this == AMMETER || this == INDUCTOR;
+    }
+
+}
@@ -0,0 +1,81 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Holds the result of a DC operating point analysis.
+ * Values are signed and unrounded; the voltage of a component is measured from its positive
+ * to its negative node and its current flows from the positive node through the component.
+ */
+public final class DcSolution {
+
+    /** The voltage of each node relative to the ground node. */
+    private final double[] nodeVoltages;
+
+    /** The voltage across each component. */
+    private final double[] voltages;
+
+    /** The current through each component. */
+    private final double[] currents;
+
+    /**
+     * Constructs a solution from the computed node voltages, component voltages and component currents.
+     *
+     * @param nodeVoltages the node voltages, indexed by node number.
+     * @param voltages the component voltages, indexed by component.
+     * @param currents the component currents, indexed by component.
+     */
+    public DcSolution(double[] nodeVoltages, double[] voltages, double[] currents) {
+        this.nodeVoltages = nodeVoltages;
+        this.voltages = voltages;
+        this.currents = currents;
+    }
+
+    /**
+     * Returns the voltage of the specified node relative to the ground.
+     *
+     * @param node the node number.
+     * @return the node voltage in volts.
+     */
+    public double nodeVoltage(int node) {
+        return nodeVoltages[node];
+    }
+
+    /**
+     * Returns the voltage across the specified component.
+     *
+     * @param index the component index.
+     * @return the voltage in volts.
+     */
+    public double voltage(int index) {
+        return voltages[index];
+    }
+
+    /**
+     * Returns the current through the specified component.
+     *
+     * @param index the component index.
+     * @return the current in amps.
+     */
+    public double current(int index) {
+        return currents[index];
+    }
+
+    /**
+     * Returns the number of nodes covered by this solution. Nodes made only of wires are numbered
+     * after the component nodes and have no voltage here.
+     *
+     * @return the number of nodes, including the ground.
+     */
+    public int nodeCount() {
+        return nodeVoltages.length;
+    }
+
+    /**
+     * Returns the number of components covered by this solution.
+     *
+     * @return the number of components.
+     */
+    public int size() {
+        return voltages.length;
+    }
+
+}
@@ -0,0 +1,206 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * DC parameter sweep over the values of one or two components.
+ * The netlist is copied when the sweep is created, so the original may keep changing while the sweep runs.
+ * The equations and the column ordering are built once; rows of the grid are solved in parallel on the
+ * common ForkJoin pool, every task with its own copy of the values and factorization. Within a task only
+ * the numeric factorization is repeated, and not even that when only source values are swept.
+ */
+public final class DcSweep {
+
+    /** The smallest number of grid rows solved by one task. */
+    private static final int MIN_CHUNK = 1;
+
+    /** The private copy of the netlist being swept. */
+    private final CircuitNetlist netlist;
+
+    /** The equations of the netlist, whose structure is shared by all tasks. */
+    private final MnaSystem prototype;
+
+    /**
+     * Prepares a sweep of the specified netlist.
+     *
+     * @param netlist the circuit to sweep; it is copied.
+     * @throws IllegalArgumentException if the circuit is invalid.
+     */
+    public DcSweep(CircuitNetlist netlist) {
+        MnaSolver.validate(netlist);
+        this.netlist = new CircuitNetlist(netlist);
+        prototype = new MnaSystem(this.netlist);
+    }
+
+    /**
+     * Sweeps the value of a single component.
+     *
+     * @param element the swept component.
+     * @param values the values of the component.
+     * @return the result table with one column.
+     */
+    public DcSweepResult sweep(int element, double[] values) {
+        return sweep(element, values, -1, new double[] {Double.NaN});
+    }
+
+    /**
+     * Sweeps the values of two components over the grid of all value pairs.
+     *
+     * @param firstElement the first swept component.
+     * @param firstValues the values of the first component, one per row.
+     * @param secondElement the second swept component, or -1 to sweep only the first.
+     * @param secondValues the values of the second component, one per column.
+     * @return the result table.
+     * @throws IllegalArgumentException if a component index is invalid or a value array is empty.
+     */
+    public DcSweepResult sweep(int firstElement, double[] firstValues, int secondElement, double[] secondValues) {
+        if (firstElement < 0 || firstElement >= netlist.size() || secondElement >= netlist.size()
+                || secondElement == firstElement || firstValues.length == 0 || secondValues.length == 0)
+            throw new IllegalArgumentException("Invalid sweep parameters!");
+        String[] names = new String[netlist.size()];
+        for (int e = 0; e < names.length; e++)
+            names[e] = netlist.name(e);
+        DcSweepResult result = new DcSweepResult(names, firstElement, firstValues.clone(), secondElement,
+                secondElement < 0 ? new double[] {Double.NaN} : secondValues.clone());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunk = Math.max(MIN_CHUNK, firstValues.length / (4 * pool.getParallelism()));
+        pool.invoke(new SweepTask(result, firstElement, secondElement, 0, firstValues.length, chunk));
+        return result;
+    }
+
+    /**
+     * Returns logarithmically spaced values, suitable for sweeping resistances over decades.
+     *
+     * @param start the first value, positive.
+     * @param stop the last value, positive.
+     * @param count the number of values.
+     * @return the values.
+     */
+    public static double[] logSpace(double start, double stop, int count) {
+        double[] values = new double[count];
+        double ratio = count == 1 ? 1 : Math.pow(stop / start, 1.0 / (count - 1));
+        for (int k = 0; k < count; k++)
+            values[k] = start * Math.pow(ratio, k);
+        return values;
+    }
+
+    /**
+     * Returns linearly spaced values.
+     *
+     * @param start the first value.
+     * @param stop the last value.
+     * @param count the number of values.
+     * @return the values.
+     */
+    public static double[] linSpace(double start, double stop, int count) {
+        double[] values = new double[count];
+        double step = count == 1 ? 0 : (stop - start) / (count - 1);
+        for (int k = 0; k < count; k++)
+            values[k] = start + step * k;
+        return values;
+    }
+
+    /**
+     * Solves a range of grid rows with private copies of the netlist and the equations.
+     *
+     * @param result the table receiving the solutions.
+     * @param firstElement the first swept component.
+     * @param secondElement the second swept component, or -1.
+     * @param from the first row, inclusive.
+     * @param to the last row, exclusive.
+     */
+    private void solveRows(DcSweepResult result, int firstElement, int secondElement, int from, int to) {
+        CircuitNetlist local = new CircuitNetlist(netlist);
+        MnaSystem system = new MnaSystem(prototype, local);
+        boolean matrixSwept = local.type(firstElement) == ComponentType.RESISTOR
+                || (secondElement >= 0 && local.type(secondElement) == ComponentType.RESISTOR);
+        system.stampDcMatrix();
+        boolean factored = system.factor();
+
+        double[] voltages = result.voltages();
+        double[] currents = result.currents();
+        for (int i = from; i < to; i++) {
+            local.setValue(firstElement, result.firstValue(i));
+            for (int j = 0; j < result.secondCount(); j++) {
+                if (secondElement >= 0)
+                    local.setValue(secondElement, result.secondValue(j));
+                if (matrixSwept) {
+                    system.stampDcMatrix();
+                    factored = system.refactor();
+                }
+                int offset = result.offset(i, j);
+                if (!factored) {
+                    Arrays.fill(voltages, offset, offset + local.size(), Double.NaN);
+                    Arrays.fill(currents, offset, offset + local.size(), Double.NaN);
+                    continue;
+                }
+                system.stampDcSources();
+                system.solve();
+                system.writeDcSolution(voltages, currents, offset);
+            }
+        }
+    }
+
+    /**
+     * Splits a range of grid rows into halves until it is small enough to be solved directly.
+     */
+    private final class SweepTask extends RecursiveAction {
+
+        /** The version of the serialized form inherited from {@link RecursiveAction}; tasks are never serialized. */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** The table receiving the solutions. */
+        private final transient DcSweepResult result;
+
+        /** The first swept component. */
+        private final int firstElement;
+
+        /** The second swept component, or -1. */
+        private final int secondElement;
+
+        /** The first row, inclusive. */
+        private final int from;
+
+        /** The last row, exclusive. */
+        private final int to;
+
+        /** The largest range solved without splitting. */
+        private final int chunk;
+
+        /**
+         * Constructs a task for the specified range of rows.
+         *
+         * @param result the table receiving the solutions.
+         * @param firstElement the first swept component.
+         * @param secondElement the second swept component, or -1.
+         * @param from the first row, inclusive.
+         * @param to the last row, exclusive.
+         * @param chunk the largest range solved without splitting.
+         */
+        SweepTask(DcSweepResult result, int firstElement, int secondElement, int from, int to, int chunk) {
+            this.result = result;
+            this.firstElement = firstElement;
+            this.secondElement = secondElement;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                solveRows(result, firstElement, secondElement, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(result, firstElement, secondElement, from, middle, chunk),
+                    new SweepTask(result, firstElement, secondElement, middle, to, chunk));
+        }
+
+    }
+
+}
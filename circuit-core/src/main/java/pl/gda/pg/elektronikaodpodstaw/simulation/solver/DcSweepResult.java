@@ -0,0 +1,193 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Holds the result of a DC parameter sweep as a dense table.
+ * For every grid point {@code (i, j)} of the first and second swept values, the voltage and current
+ * of every component are stored in flat primitive arrays, one row of components per grid point.
+ * Points where the circuit has no solution hold {@code NaN}.
+ */
+public final class DcSweepResult {
+
+    /** The names of the components. */
+    private final String[] names;
+
+    /** The first swept component. */
+    private final int firstElement;
+
+    /** The values of the first swept component. */
+    private final double[] firstValues;
+
+    /** The second swept component, or -1. */
+    private final int secondElement;
+
+    /** The values of the second swept component; a single unused value if there is none. */
+    private final double[] secondValues;
+
+    /** The voltage of every component at every grid point. */
+    private final double[] voltages;
+
+    /** The current of every component at every grid point. */
+    private final double[] currents;
+
+    /**
+     * Constructs an empty result table.
+     *
+     * @param names the names of the components.
+     * @param firstElement the first swept component.
+     * @param firstValues the values of the first swept component.
+     * @param secondElement the second swept component, or -1.
+     * @param secondValues the values of the second swept component.
+     */
+    DcSweepResult(String[] names, int firstElement, double[] firstValues, int secondElement, double[] secondValues) {
+        this.names = names;
+        this.firstElement = firstElement;
+        this.firstValues = firstValues;
+        this.secondElement = secondElement;
+        this.secondValues = secondValues;
+        voltages = new double[firstValues.length * secondValues.length * names.length];
+        currents = new double[voltages.length];
+    }
+
+    /**
+     * Returns the number of values of the first swept component.
+     *
+     * @return the number of rows of the grid.
+     */
+    public int firstCount() {
+        return firstValues.length;
+    }
+
+    /**
+     * Returns the number of values of the second swept component.
+     *
+     * @return the number of columns of the grid; 1 for a single-parameter sweep.
+     */
+    public int secondCount() {
+        return secondValues.length;
+    }
+
+    /**
+     * Returns the number of components stored for every grid point.
+     *
+     * @return the number of components.
+     */
+    public int elementCount() {
+        return names.length;
+    }
+
+    /**
+     * Returns the value of the first swept component in the specified row.
+     *
+     * @param i the row index.
+     * @return the component value.
+     */
+    public double firstValue(int i) {
+        return firstValues[i];
+    }
+
+    /**
+     * Returns the value of the second swept component in the specified column.
+     *
+     * @param j the column index.
+     * @return the component value, or {@code NaN} for a single-parameter sweep.
+     */
+    public double secondValue(int j) {
+        return secondElement < 0 ? Double.NaN : secondValues[j];
+    }
+
+    /**
+     * Returns the voltage of a component at the specified grid point.
+     *
+     * @param i the row index.
+     * @param j the column index.
+     * @param element the component index.
+     * @return the voltage in volts, or {@code NaN} if the point has no solution.
+     */
+    public double voltage(int i, int j, int element) {
+        return voltages[offset(i, j) + element];
+    }
+
+    /**
+     * Returns the current of a component at the specified grid point.
+     *
+     * @param i the row index.
+     * @param j the column index.
+     * @param element the component index.
+     * @return the current in amps, or {@code NaN} if the point has no solution.
+     */
+    public double current(int i, int j, int element) {
+        return currents[offset(i, j) + element];
+    }
+
+    /**
+     * Writes the table as comma-separated values: the swept values followed by the voltage
+     * and current of every component, one line per grid point.
+     *
+     * @param writer the destination; it is not closed.
+     * @throws IOException if writing fails.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder(names[firstElement]);
+        if (secondElement >= 0)
+            line.append(',').append(names[secondElement]);
+        for (String name : names)
+            line.append(",V(").append(name).append("),I(").append(name).append(')');
+        writer.write(line.append('\n').toString());
+        for (int i = 0; i < firstValues.length; i++) {
+            for (int j = 0; j < secondValues.length; j++) {
+                line.setLength(0);
+                line.append(format(firstValues[i]));
+                if (secondElement >= 0)
+                    line.append(',').append(format(secondValues[j]));
+                int offset = offset(i, j);
+                for (int e = 0; e < names.length; e++)
+                    line.append(',').append(format(voltages[offset + e])).append(',').append(format(currents[offset + e]));
+                writer.write(line.append('\n').toString());
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the first component of a grid point in the value arrays.
+     *
+     * @param i the row index.
+     * @param j the column index.
+     * @return the array offset.
+     */
+    int offset(int i, int j) {
+        return (i * secondValues.length + j) * names.length;
+    }
+
+    /**
+     * Returns the voltage array, written directly by the sweep.
+     *
+     * @return the voltages of all grid points.
+     */
+    double[] voltages() {
+        return voltages;
+    }
+
+    /**
+     * Returns the current array, written directly by the sweep.
+     *
+     * @return the currents of all grid points.
+     */
+    double[] currents() {
+        return currents;
+    }
+
+    /**
+     * Formats a value for the CSV output independently of the default locale.
+     *
+     * @param value the value to format.
+     * @return the formatted value.
+     */
+    private static String format(double value) {
+        return String.format(Locale.US, "%.6g", value);
+    }
+
+}
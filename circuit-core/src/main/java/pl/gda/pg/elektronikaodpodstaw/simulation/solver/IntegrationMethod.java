@@ -0,0 +1,36 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Enumerates the numerical integration methods used to build the companion models of
+ * capacitors and inductors in transient analysis.
+ */
+public enum IntegrationMethod {
+
+    /** First-order backward Euler; strongly damped, never rings. */
+    BACKWARD_EULER(1),
+
+    /** Second-order trapezoidal rule; more accurate for the same step size. */
+    TRAPEZOIDAL(2);
+
+    /** The order of accuracy of the method. */
+    private final int order;
+
+    /**
+     * Constructs an integration method of the specified order.
+     *
+     * @param order the order of accuracy.
+     */
+    IntegrationMethod(int order) {
+        this.order = order;
+    }
+
+    /**
+     * Returns the order of accuracy of the method.
+     *
+     * @return 1 for backward Euler, 2 for the trapezoidal rule.
+     */
+    public int order() {
+        return order;
+    }
+
+}
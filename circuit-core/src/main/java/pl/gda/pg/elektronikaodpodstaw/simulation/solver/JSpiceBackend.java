@@ -0,0 +1,87 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.knowm.jspice.JSpice;
+import org.knowm.jspice.netlist.Netlist;
+import org.knowm.jspice.netlist.NetlistBuilder;
+import org.knowm.jspice.simulate.dcoperatingpoint.DCOperatingPoint;
+import org.knowm.jspice.simulate.dcoperatingpoint.DCOperatingPointResult;
+
+/**
+ * Reference DC solver delegating to JSpice.
+ * The netlist is translated to a JSpice netlist with string labels; inductors and ammeters
+ * are modelled as very low-resistance resistors and voltmeters as capacitors.
+ */
+public class JSpiceBackend implements SimulationBackend {
+
+    /** The resistance used in place of ideal shorts. */
+    private static final double SHORT_RESISTANCE = 1e-11;
+
+    /**
+     * Constructs a new JSpice backend.
+     */
+    public JSpiceBackend() {
+
+    }
+
+    /**
+     * Computes the DC operating point of the specified netlist with JSpice.
+     *
+     * @param netlist the circuit to solve.
+     * @return the computed solution.
+     * @throws IllegalArgumentException if JSpice rejects the circuit.
+     */
+    @Override
+    public DcSolution solveDc(CircuitNetlist netlist) {
+        NetlistBuilder builder = new NetlistBuilder();
+        for (int e = 0; e < netlist.size(); e++) {
+            String name = netlist.name(e);
+            double value = netlist.value(e);
+            String plus = String.valueOf(netlist.nodePlus(e));
+            String minus = String.valueOf(netlist.nodeMinus(e));
+            switch (netlist.type(e)) {
+                case VOLTAGE_SOURCE -> builder.addNetlistDCVoltage(name, value, plus, minus);
+                case RESISTOR -> builder.addNetlistResistor(name, value, plus, minus);
+                case CURRENT_SOURCE -> builder.addNetlistDCCurrent(name, value, plus, minus);
+                case CAPACITOR, VOLTMETER -> builder.addNetlistCapacitor(name, value, plus, minus);
+                case INDUCTOR, AMMETER -> builder.addNetlistResistor(name, SHORT_RESISTANCE, plus, minus);
+            }
+        }
+        Netlist jspiceNetlist = builder.build();
+        JSpice.simulate(jspiceNetlist);
+
+        DCOperatingPointResult result = new DCOperatingPoint(jspiceNetlist).run();
+        Map<String, Double> nodeLabels = result.getNodeLabels2Value();
+        Map<String, Double> deviceLabels = new HashMap<>(result.getDeviceLabels2Value());
+
+        double[] nodeVoltages = new double[netlist.nodeCount()];
+        for (int node = 1; node < nodeVoltages.length; node++)
+            nodeVoltages[node] = valueOrZero(nodeLabels, "V(" + node + ")");
+
+        double[] voltages = new double[netlist.size()];
+        double[] currents = new double[netlist.size()];
+        for (int e = 0; e < netlist.size(); e++) {
+            voltages[e] = nodeVoltages[netlist.nodePlus(e)] - nodeVoltages[netlist.nodeMinus(e)];
+            String label = "I(" + netlist.name(e) + ")";
+            if (netlist.type(e) == ComponentType.VOLTAGE_SOURCE)
+                currents[e] = valueOrZero(nodeLabels, label);
+            else
+                currents[e] = valueOrZero(deviceLabels, label);
+        }
+        return new DcSolution(nodeVoltages, voltages, currents);
+    }
+
+    /**
+     * Looks up a JSpice result value, treating missing or empty entries as zero.
+     *
+     * @param values the JSpice result map.
+     * @param label the result label.
+     * @return the value, or 0 if absent.
+     */
+    private static double valueOrZero(Map<String, Double> values, String label) {
+        Double value = values.get(label);
+        return value == null ? 0 : value;
+    }
+
+}
@@ -0,0 +1,137 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Native DC solver based on modified nodal analysis.
+ * Before solving, the netlist is checked for the same structural problems JSpice rejects,
+ * and the errors are reported with the same messages.
+ * The equations and the factorization of the last solved netlist are kept, so solving the same
+ * netlist again after {@link CircuitNetlist#setValue(int, double)} only restamps what changed:
+ * source values need just a new forward and back substitution, resistor values a numeric refactorization.
+ * An instance is therefore not thread-safe.
+ */
+public class MnaSolver implements SimulationBackend {
+
+    /** The equations of the last solved netlist, or {@code null}. */
+    private MnaSystem system = null;
+
+    /** The number of components of the last solved netlist. */
+    private int systemSize = 0;
+
+    /** The component values the current factorization and right-hand side were stamped with. */
+    private double[] stampedValues = new double[0];
+
+    /**
+     * Constructs a new native solver.
+     */
+    public MnaSolver() {
+
+    }
+
+    /**
+     * Computes the DC operating point of the specified netlist.
+     *
+     * @param netlist the circuit to solve.
+     * @return the computed solution.
+     * @throws IllegalArgumentException if the circuit is invalid or its matrix is singular.
+     */
+    @Override
+    public DcSolution solveDc(CircuitNetlist netlist) {
+        if (system != null && system.netlist() == netlist && systemSize == netlist.size())
+            return resolveDc();
+
+        system = null;
+        validate(netlist);
+        MnaSystem newSystem = new MnaSystem(netlist);
+        newSystem.stampDc();
+        if (!newSystem.factor())
+            throw new IllegalArgumentException("Singular circuit matrix!");
+        newSystem.solve();
+        system = newSystem;
+        systemSize = netlist.size();
+        stampedValues = new double[systemSize];
+        for (int e = 0; e < systemSize; e++)
+            stampedValues[e] = netlist.value(e);
+        return system.dcSolution();
+    }
+
+    /**
+     * Solves the last netlist again after a change of component values only.
+     * The topology is unchanged, so the structural validation and the symbolic analysis are skipped.
+     *
+     * @return the computed solution.
+     * @throws IllegalArgumentException if the matrix became singular.
+     */
+    private DcSolution resolveDc() {
+        CircuitNetlist netlist = system.netlist();
+        boolean matrixChanged = false;
+        boolean sourcesChanged = false;
+        for (int e = 0; e < systemSize; e++) {
+            double value = netlist.value(e);
+            if (value == stampedValues[e])
+                continue;
+            stampedValues[e] = value;
+            switch (netlist.type(e)) {
+                case RESISTOR -> matrixChanged = true;
+                case VOLTAGE_SOURCE, CURRENT_SOURCE -> sourcesChanged = true;
+                default -> { }
+            }
+        }
+        if (matrixChanged) {
+            system.stampDcMatrix();
+            if (!system.refactor()) {
+                system = null;
+                throw new IllegalArgumentException("Singular circuit matrix!");
+            }
+        }
+        if (sourcesChanged)
+            system.stampDcSources();
+        if (matrixChanged || sourcesChanged)
+            system.solve();
+        return system.dcSolution();
+    }
+
+    /**
+     * Checks the netlist for structural errors that make the DC analysis impossible.
+     *
+     * @param netlist the circuit to check.
+     * @throws IllegalArgumentException if the circuit is invalid.
+     */
+    static void validate(CircuitNetlist netlist) {
+        int count = netlist.size();
+        if (count < 2)
+            throw new IllegalArgumentException("Must have at least 2 NetListParts!");
+
+        int[] connections = new int[netlist.nodeCount()];
+        int[] currentSourceConnections = new int[netlist.nodeCount()];
+        for (int e = 0; e < count; e++) {
+            int plus = netlist.nodePlus(e);
+            int minus = netlist.nodeMinus(e);
+            if (plus == minus)
+                throw new IllegalArgumentException("A component cannot be connected to the same node twice!");
+            connections[plus]++;
+            connections[minus]++;
+            if (netlist.type(e) == ComponentType.CURRENT_SOURCE) {
+                currentSourceConnections[plus]++;
+                currentSourceConnections[minus]++;
+            }
+        }
+        for (int node = 0; node < connections.length; node++) {
+            if (connections[node] < 2)
+                throw new IllegalArgumentException("Must have at least 2 Connections for node " + node);
+            if (currentSourceConnections[node] == connections[node])
+                throw new IllegalArgumentException("Current sources cannot be in series!");
+        }
+
+        for (int e = 0; e < count; e++) {
+            if (netlist.type(e) != ComponentType.VOLTAGE_SOURCE)
+                continue;
+            for (int f = e + 1; f < count; f++) {
+                if (netlist.type(f) == ComponentType.VOLTAGE_SOURCE
+                        && Math.min(netlist.nodePlus(e), netlist.nodeMinus(e)) == Math.min(netlist.nodePlus(f), netlist.nodeMinus(f))
+                        && Math.max(netlist.nodePlus(e), netlist.nodeMinus(e)) == Math.max(netlist.nodePlus(f), netlist.nodeMinus(f)))
+                    throw new IllegalArgumentException("Voltage sources cannot be in parallel!");
+            }
+        }
+    }
+
+}
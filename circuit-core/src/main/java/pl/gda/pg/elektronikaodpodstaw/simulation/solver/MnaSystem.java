@@ -0,0 +1,469 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.Arrays;
+
+/**
+ * Represents the modified nodal analysis equations of a circuit netlist.
+ * The sparsity pattern and the position of every component stamp are computed once per topology,
+ * so that stamping only writes into a primitive {@code double[]} of matrix values.
+ * Node {@code k > 0} maps to unknown {@code k - 1}; voltage sources, ammeters and inductors
+ * add one branch current unknown each, placed after the node unknowns. In DC, ammeters and inductors
+ * get a series resistance of {@link #MIN_RESISTANCE}, as in the JSpice netlist, so that they may be
+ * connected in parallel or across a voltage source.
+ */
+public final class MnaSystem {
+
+    /** The minimum conductance from every node to the ground, keeping floating nodes solvable. */
+    static final double GMIN = 1e-12;
+
+    /** The smallest resistance accepted for a resistor, used in place of a zero value and in series with ammeters and inductors. */
+    static final double MIN_RESISTANCE = 1e-11;
+
+    /** The number of stamp slots reserved for every component. */
+    private static final int STRIDE = 5;
+
+    /** The netlist the system was built for. */
+    private final CircuitNetlist netlist;
+
+    /** The number of node unknowns (all nodes except the ground). */
+    private final int nodeUnknowns;
+
+    /** The total number of unknowns. */
+    private final int size;
+
+    /** The branch current unknown of each component, or -1 if it has none. */
+    private final int[] branch;
+
+    /**
+     * The value slots of each component stamp.
+     * Conductance stamps use (p,p), (p,m), (m,p), (m,m); branch stamps use (p,b), (m,b), (b,p), (b,m), (b,b).
+     * A slot is -1 when the corresponding row or column is the ground.
+     */
+    private final int[] slots;
+
+    /** The value slot of the diagonal entry of every node unknown. */
+    private final int[] diagonalSlots;
+
+    /** The column pointers of the matrix. */
+    private final int[] colPtr;
+
+    /** The row indices of the matrix. */
+    private final int[] rowIdx;
+
+    /** The values of the matrix. */
+    private final double[] values;
+
+    /** The right-hand side vector. */
+    private final double[] rhs;
+
+    /** The solution vector. */
+    private final double[] solution;
+
+    /** The factorization of the matrix. */
+    private final SparseLu lu;
+
+    /**
+     * Builds the equation structure for the specified netlist.
+     *
+     * @param netlist the circuit netlist; its topology must not change afterwards.
+     */
+    public MnaSystem(CircuitNetlist netlist) {
+        this.netlist = netlist;
+        int count = netlist.size();
+        nodeUnknowns = netlist.nodeCount() - 1;
+        branch = new int[count];
+        int unknowns = nodeUnknowns;
+        for (int e = 0; e < count; e++)
+            branch[e] = netlist.type(e).hasBranchCurrent() ? unknowns++ : -1;
+        size = unknowns;
+
+        long[] entries = new long[count * STRIDE + nodeUnknowns];
+        int entryCount = 0;
+        for (int i = 0; i < nodeUnknowns; i++)
+            entries[entryCount++] = key(i, i);
+        for (int e = 0; e < count; e++) {
+            int p = netlist.nodePlus(e) - 1;
+            int m = netlist.nodeMinus(e) - 1;
+            int b = branch[e];
+            int[] rows = b < 0 ? new int[] {p, p, m, m} : new int[] {p, m, b, b, b};
+            int[] cols = b < 0 ? new int[] {p, m, p, m} : new int[] {b, b, p, m, b};
+            for (int s = 0; s < rows.length; s++) {
+                if (rows[s] >= 0 && cols[s] >= 0)
+                    entries[entryCount++] = key(rows[s], cols[s]);
+            }
+        }
+        Arrays.sort(entries, 0, entryCount);
+        int unique = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (unique == 0 || entries[unique - 1] != entries[i])
+                entries[unique++] = entries[i];
+        }
+
+        colPtr = new int[size + 1];
+        rowIdx = new int[unique];
+        for (int i = 0; i < unique; i++) {
+            colPtr[(int) (entries[i] >>> 32) + 1]++;
+            rowIdx[i] = (int) entries[i];
+        }
+        for (int j = 0; j < size; j++)
+            colPtr[j + 1] += colPtr[j];
+        values = new double[unique];
+
+        diagonalSlots = new int[nodeUnknowns];
+        for (int i = 0; i < nodeUnknowns; i++)
+            diagonalSlots[i] = slot(i, i);
+        slots = new int[count * STRIDE];
+        for (int e = 0; e < count; e++) {
+            int p = netlist.nodePlus(e) - 1;
+            int m = netlist.nodeMinus(e) - 1;
+            int b = branch[e];
+            int base = e * STRIDE;
+            if (b < 0) {
+                slots[base] = slot(p, p);
+                slots[base + 1] = slot(p, m);
+                slots[base + 2] = slot(m, p);
+                slots[base + 3] = slot(m, m);
+                slots[base + 4] = -1;
+            } else {
+                slots[base] = slot(p, b);
+                slots[base + 1] = slot(m, b);
+                slots[base + 2] = slot(b, p);
+                slots[base + 3] = slot(b, m);
+                slots[base + 4] = slot(b, b);
+            }
+        }
+
+        rhs = new double[size];
+        solution = new double[size];
+        lu = new SparseLu(size, colPtr, rowIdx);
+    }
+
+    /**
+     * Constructs an independent system for a copy of the netlist of another system, sharing its
+     * sparsity pattern, stamp positions and column ordering. Each copy has its own values and factorization,
+     * so copies can be stamped and solved on different threads.
+     *
+     * @param other the system whose structure is reused.
+     * @param netlist a netlist with the same topology as the netlist of {@code other}.
+     */
+    MnaSystem(MnaSystem other, CircuitNetlist netlist) {
+        this.netlist = netlist;
+        nodeUnknowns = other.nodeUnknowns;
+        size = other.size;
+        branch = other.branch;
+        slots = other.slots;
+        diagonalSlots = other.diagonalSlots;
+        colPtr = other.colPtr;
+        rowIdx = other.rowIdx;
+        values = new double[other.values.length];
+        rhs = new double[size];
+        solution = new double[size];
+        lu = new SparseLu(other.lu);
+    }
+
+    /**
+     * Returns the netlist the system was built for.
+     *
+     * @return the circuit netlist.
+     */
+    public CircuitNetlist netlist() {
+        return netlist;
+    }
+
+    /**
+     * Returns the total number of unknowns.
+     *
+     * @return the number of unknowns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Fills the matrix and the right-hand side with the DC stamps of all components,
+     * using the current component values of the netlist.
+     */
+    public void stampDc() {
+        stampDcMatrix();
+        stampDcSources();
+    }
+
+    /**
+     * Fills the matrix with the DC stamps of all components, leaving the right-hand side untouched.
+     */
+    public void stampDcMatrix() {
+        Arrays.fill(values, 0);
+        for (int i = 0; i < nodeUnknowns; i++)
+            values[diagonalSlots[i]] += GMIN;
+        for (int e = 0; e < netlist.size(); e++) {
+            switch (netlist.type(e)) {
+                case RESISTOR -> stampConductance(e, 1 / Math.max(netlist.value(e), MIN_RESISTANCE));
+                case VOLTAGE_SOURCE -> stampIncidence(e);
+                case AMMETER, INDUCTOR -> {
+                    stampIncidence(e);
+                    stampBranchResistance(e, MIN_RESISTANCE);
+                }
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Fills the right-hand side with the DC values of all sources, leaving the matrix untouched.
+     * A change of source values alone therefore needs no new factorization.
+     */
+    public void stampDcSources() {
+        Arrays.fill(rhs, 0);
+        for (int e = 0; e < netlist.size(); e++) {
+            switch (netlist.type(e)) {
+                case CURRENT_SOURCE -> stampCurrent(e, netlist.value(e));
+                case VOLTAGE_SOURCE -> rhs[branch[e]] += netlist.value(e);
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Adds a conductance between the terminals of the specified component.
+     *
+     * @param element the component index.
+     * @param g the conductance in siemens.
+     */
+    void stampConductance(int element, double g) {
+        int base = element * STRIDE;
+        add(slots[base], g);
+        add(slots[base + 1], -g);
+        add(slots[base + 2], -g);
+        add(slots[base + 3], g);
+    }
+
+    /**
+     * Adds a current source flowing from the positive node through the component to the negative node.
+     *
+     * @param element the component index.
+     * @param current the current in amps.
+     */
+    void stampCurrent(int element, double current) {
+        int p = netlist.nodePlus(element) - 1;
+        int m = netlist.nodeMinus(element) - 1;
+        if (p >= 0)
+            rhs[p] -= current;
+        if (m >= 0)
+            rhs[m] += current;
+    }
+
+    /**
+     * Stamps the incidence entries of a component with a branch current, so that its branch
+     * equation reads {@code V(p) - V(m) = rhs[b]} and its current enters the node equations.
+     *
+     * @param element the component index.
+     */
+    void stampIncidence(int element) {
+        int base = element * STRIDE;
+        add(slots[base], 1);
+        add(slots[base + 1], -1);
+        add(slots[base + 2], 1);
+        add(slots[base + 3], -1);
+    }
+
+    /**
+     * Adds a series resistance to the branch equation of a component with a branch current,
+     * so that the equation reads {@code V(p) - V(m) - r * i = rhs[b]}.
+     *
+     * @param element the component index.
+     * @param resistance the resistance in ohms.
+     */
+    void stampBranchResistance(int element, double resistance) {
+        add(slots[element * STRIDE + 4], -resistance);
+    }
+
+    /**
+     * Adds a voltage to the right-hand side of the branch equation of a component with a branch current.
+     *
+     * @param element the component index.
+     * @param voltage the voltage in volts.
+     */
+    void stampBranchVoltage(int element, double voltage) {
+        rhs[branch[element]] += voltage;
+    }
+
+    /**
+     * Factors the matrix with the values stamped so far.
+     *
+     * @return {@code true} if the matrix was factored; {@code false} if it is singular.
+     */
+    public boolean factor() {
+        return lu.factor(values);
+    }
+
+    /**
+     * Refactors the matrix with the values stamped so far, reusing the pivot order and structure
+     * of the previous factorization. Falls back to a full factorization if the old pivots are no longer suitable.
+     *
+     * @return {@code true} if the matrix was factored; {@code false} if it is singular.
+     */
+    public boolean refactor() {
+        return lu.refactor(values) || lu.factor(values);
+    }
+
+    /**
+     * Solves the factored system for the current right-hand side.
+     */
+    public void solve() {
+        lu.solve(rhs, solution);
+    }
+
+    /**
+     * Returns the voltage of the specified node in the last solution.
+     *
+     * @param node the node number.
+     * @return the node voltage in volts; 0 for the ground.
+     */
+    public double nodeVoltage(int node) {
+        return node == 0 ? 0 : solution[node - 1];
+    }
+
+    /**
+     * Returns the voltage across the specified component in the last solution.
+     *
+     * @param element the component index.
+     * @return the voltage from the positive to the negative node in volts.
+     */
+    public double elementVoltage(int element) {
+        return nodeVoltage(netlist.nodePlus(element)) - nodeVoltage(netlist.nodeMinus(element));
+    }
+
+    /**
+     * Returns the branch current of the specified component in the last solution.
+     *
+     * @param element the component index.
+     * @return the branch current in amps, or 0 if the component has no branch unknown.
+     */
+    public double branchCurrent(int element) {
+        return branch[element] < 0 ? 0 : solution[branch[element]];
+    }
+
+    /**
+     * Extracts the DC operating point from the last solution.
+     *
+     * @return the DC solution of the netlist.
+     */
+    public DcSolution dcSolution() {
+        double[] nodeVoltages = new double[netlist.nodeCount()];
+        for (int node = 1; node < nodeVoltages.length; node++)
+            nodeVoltages[node] = solution[node - 1];
+        double[] voltages = new double[netlist.size()];
+        double[] currents = new double[netlist.size()];
+        writeDcSolution(voltages, currents, 0);
+        return new DcSolution(nodeVoltages, voltages, currents);
+    }
+
+    /**
+     * Writes the DC voltage and current of every component in the last solution into the specified arrays.
+     *
+     * @param voltages the array receiving the component voltages.
+     * @param currents the array receiving the component currents.
+     * @param offset the position of the first component in both arrays.
+     */
+    void writeDcSolution(double[] voltages, double[] currents, int offset) {
+        for (int e = 0; e < netlist.size(); e++) {
+            double voltage = elementVoltage(e);
+            voltages[offset + e] = voltage;
+            currents[offset + e] = switch (netlist.type(e)) {
+                case RESISTOR -> voltage / Math.max(netlist.value(e), MIN_RESISTANCE);
+                case CURRENT_SOURCE -> netlist.value(e);
+                case VOLTAGE_SOURCE, AMMETER, INDUCTOR -> solution[branch[e]];
+                case CAPACITOR, VOLTMETER -> 0;
+            };
+        }
+    }
+
+    /**
+     * Clears the matrix values, leaving the right-hand side untouched.
+     */
+    void clearMatrix() {
+        Arrays.fill(values, 0);
+    }
+
+    /**
+     * Returns the column pointers of the matrix pattern.
+     *
+     * @return the column pointers, shared with the system.
+     */
+    int[] colPtr() {
+        return colPtr;
+    }
+
+    /**
+     * Returns the row indices of the matrix pattern.
+     *
+     * @return the row indices, shared with the system.
+     */
+    int[] rowIdx() {
+        return rowIdx;
+    }
+
+    /**
+     * Returns the matrix values stamped so far.
+     *
+     * @return the values, shared with the system.
+     */
+    double[] values() {
+        return values;
+    }
+
+    /**
+     * Returns the right-hand side stamped so far.
+     *
+     * @return the right-hand side, shared with the system.
+     */
+    double[] rhs() {
+        return rhs;
+    }
+
+    /**
+     * Returns the branch current unknown of the specified component.
+     *
+     * @param element the component index.
+     * @return the unknown index, or -1 if the component has no branch current.
+     */
+    int branch(int element) {
+        return branch[element];
+    }
+
+    /**
+     * Adds a value to the specified slot, ignoring slots eliminated by the ground.
+     *
+     * @param slot the value slot, or -1.
+     * @param value the value to add.
+     */
+    private void add(int slot, double value) {
+        if (slot >= 0)
+            values[slot] += value;
+    }
+
+    /**
+     * Finds the value slot of the specified matrix entry.
+     *
+     * @param row the row index, or -1 for the ground.
+     * @param col the column index, or -1 for the ground.
+     * @return the value slot, or -1 if the entry involves the ground.
+     */
+    private int slot(int row, int col) {
+        if (row < 0 || col < 0)
+            return -1;
+        return Arrays.binarySearch(rowIdx, colPtr[col], colPtr[col + 1], row);
+    }
+
+    /**
+     * Packs a matrix entry into a sortable key (column-major).
+     *
+     * @param row the row index.
+     * @param col the column index.
+     * @return the packed key.
+     */
+    private static long key(int row, int col) {
+        return ((long) col << 32) | row;
+    }
+
+}
@@ -0,0 +1,285 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+/**
+ * Monte Carlo tolerance analysis of the DC operating point.
+ * Every sample perturbs the component values according to a per-type tolerance and distribution and
+ * solves the circuit on its own virtual thread. Results are streamed into {@link StreamingStatistics}
+ * accumulators, so memory stays constant regardless of the number of samples: a bounded number of
+ * samples runs at once, each borrowing a workspace (netlist copy, equations sharing the symbolic
+ * structure, accumulators) from a pool. The random values of a sample depend only on the seed and
+ * the sample index, so a run is reproducible; histogram counts, minima and maxima are identical between
+ * runs, while the mean and deviation may differ in the last bits because of the order of merging.
+ * A sample whose solution fails with an unexpected exception is counted as failed, like a sample with
+ * a singular matrix, so that every sample drawn is either accumulated or counted.
+ */
+public final class MonteCarloAnalysis {
+
+    /** The number of samples solved first to choose the histogram ranges. */
+    private static final int PILOT_SAMPLES = 256;
+
+    /** The half-width of the histogram range in standard deviations of the pilot samples. */
+    private static final double RANGE_DEVIATIONS = 6;
+
+    /** The private copy of the netlist holding the nominal values. */
+    private final CircuitNetlist netlist;
+
+    /** The equations of the netlist, whose structure is shared by all workspaces. */
+    private final MnaSystem prototype;
+
+    /** The relative tolerance of each component type. */
+    private final double[] tolerances = new double[ComponentType.values().length];
+
+    /** The tolerance distribution of each component type. */
+    private final ToleranceDistribution[] distributions = new ToleranceDistribution[ComponentType.values().length];
+
+    /** Receives the index of every sample before it is solved, on the thread solving it; replaced by tests. */
+    IntConsumer sampleCheck = _ -> { };
+
+    /**
+     * Prepares a Monte Carlo analysis of the specified netlist with the default tolerances:
+     * 5% for resistors and 10% for capacitors and inductors, normally distributed; sources are exact.
+     *
+     * @param netlist the circuit to analyse; it is copied.
+     * @throws IllegalArgumentException if the circuit is invalid.
+     */
+    public MonteCarloAnalysis(CircuitNetlist netlist) {
+        MnaSolver.validate(netlist);
+        this.netlist = new CircuitNetlist(netlist);
+        prototype = new MnaSystem(this.netlist);
+        Arrays.fill(distributions, ToleranceDistribution.GAUSSIAN);
+        tolerances[ComponentType.RESISTOR.ordinal()] = 0.05;
+        tolerances[ComponentType.CAPACITOR.ordinal()] = 0.1;
+        tolerances[ComponentType.INDUCTOR.ordinal()] = 0.1;
+    }
+
+    /**
+     * Sets the tolerance of all components of the specified type.
+     *
+     * @param type the component type.
+     * @param tolerance the relative tolerance, e.g. 0.05 for 5%; 0 keeps the nominal value.
+     * @param distribution the distribution of the values within the tolerance.
+     * @throws IllegalArgumentException if the tolerance is not between 0 and 1.
+     */
+    public void setTolerance(ComponentType type, double tolerance, ToleranceDistribution distribution) {
+        if (!(tolerance >= 0 && tolerance < 1))
+            throw new IllegalArgumentException("Tolerance must be between 0 and 1!");
+        tolerances[type.ordinal()] = tolerance;
+        distributions[type.ordinal()] = distribution;
+    }
+
+    /**
+     * Solves the specified number of random samples and accumulates the statistics of all components.
+     *
+     * @param samples the number of samples.
+     * @param seed the seed making the run reproducible.
+     * @param binCount the number of histogram bins of every accumulator.
+     * @return the merged statistics.
+     * @throws InterruptedException if the calling thread is interrupted while samples are being submitted.
+     * @throws IllegalArgumentException if the number of samples or bins is not positive.
+     */
+    public MonteCarloResult run(int samples, long seed, int binCount) throws InterruptedException {
+        if (samples < 1 || binCount < 1)
+            throw new IllegalArgumentException("Invalid Monte Carlo parameters!");
+        int count = netlist.size();
+        int pilot = Math.min(samples, PILOT_SAMPLES);
+        Workspace first = new Workspace();
+        double[] pilotVoltages = new double[pilot * count];
+        double[] pilotCurrents = new double[pilot * count];
+        for (int sample = 0; sample < pilot; sample++) {
+            if (!first.solveSafely(seed, sample)) {
+                first.failures++;
+                Arrays.fill(pilotVoltages, sample * count, (sample + 1) * count, Double.NaN);
+                Arrays.fill(pilotCurrents, sample * count, (sample + 1) * count, Double.NaN);
+                continue;
+            }
+            System.arraycopy(first.voltages, 0, pilotVoltages, sample * count, count);
+            System.arraycopy(first.currents, 0, pilotCurrents, sample * count, count);
+        }
+
+        StreamingStatistics[] voltageTemplates = new StreamingStatistics[count];
+        StreamingStatistics[] currentTemplates = new StreamingStatistics[count];
+        for (int e = 0; e < count; e++) {
+            voltageTemplates[e] = createStatistics(pilotVoltages, e, count, binCount);
+            currentTemplates[e] = createStatistics(pilotCurrents, e, count, binCount);
+        }
+        first.attach(voltageTemplates, currentTemplates);
+        for (int sample = 0; sample < pilot; sample++) {
+            for (int e = 0; e < count; e++) {
+                first.voltageStatistics[e].add(pilotVoltages[sample * count + e]);
+                first.currentStatistics[e].add(pilotCurrents[sample * count + e]);
+            }
+        }
+
+        ConcurrentLinkedQueue<Workspace> idle = new ConcurrentLinkedQueue<>();
+        idle.add(first);
+        Semaphore permits = new Semaphore(2 * Runtime.getRuntime().availableProcessors());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int sample = pilot; sample < samples; sample++) {
+                permits.acquire();
+                int index = sample;
+                executor.execute(() -> {
+                    Workspace workspace = idle.poll();
+                    if (workspace == null) {
+                        workspace = new Workspace();
+                        workspace.attach(voltageTemplates, currentTemplates);
+                    }
+                    try {
+                        workspace.accumulate(seed, index);
+                    } finally {
+                        idle.add(workspace);
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        StreamingStatistics[] voltages = new StreamingStatistics[count];
+        StreamingStatistics[] currents = new StreamingStatistics[count];
+        for (int e = 0; e < count; e++) {
+            voltages[e] = voltageTemplates[e].emptyCopy();
+            currents[e] = currentTemplates[e].emptyCopy();
+        }
+        long failures = 0;
+        for (Workspace workspace : idle) {
+            for (int e = 0; e < count; e++) {
+                voltages[e].merge(workspace.voltageStatistics[e]);
+                currents[e].merge(workspace.currentStatistics[e]);
+            }
+            failures += workspace.failures;
+        }
+        return new MonteCarloResult(voltages, currents, samples, failures);
+    }
+
+    /**
+     * Creates an empty accumulator whose histogram covers the pilot samples of one component
+     * with a margin of several standard deviations.
+     *
+     * @param values the pilot samples of all components, one row per sample.
+     * @param element the component index.
+     * @param count the number of components.
+     * @param binCount the number of histogram bins.
+     * @return the empty accumulator.
+     */
+    private static StreamingStatistics createStatistics(double[] values, int element, int count, int binCount) {
+        StreamingStatistics pilot = new StreamingStatistics(0, 1, 1);
+        for (int i = element; i < values.length; i += count)
+            pilot.add(values[i]);
+        if (pilot.count() == 0)
+            return new StreamingStatistics(-1, 1, binCount);
+        double deviation = pilot.count() < 2 ? 0 : pilot.standardDeviation();
+        double low = Math.min(pilot.min(), pilot.mean() - RANGE_DEVIATIONS * deviation);
+        double high = Math.max(pilot.max(), pilot.mean() + RANGE_DEVIATIONS * deviation);
+        double margin = Math.max(Math.abs(pilot.mean()) * 1e-9, 1e-15);
+        return new StreamingStatistics(low - margin, high + margin, binCount);
+    }
+
+    /**
+     * Holds everything one running sample needs: a private netlist and equations,
+     * the solution arrays and the accumulators the sample is added to.
+     */
+    private final class Workspace {
+
+        /** The netlist with the perturbed values. */
+        private final CircuitNetlist local = new CircuitNetlist(netlist);
+
+        /** The equations of the local netlist. */
+        private final MnaSystem system = new MnaSystem(prototype, local);
+
+        /** The component voltages of the last solved sample. */
+        private final double[] voltages = new double[netlist.size()];
+
+        /** The component currents of the last solved sample. */
+        private final double[] currents = new double[netlist.size()];
+
+        /** The accumulated voltage statistics of each component. */
+        private StreamingStatistics[] voltageStatistics;
+
+        /** The accumulated current statistics of each component. */
+        private StreamingStatistics[] currentStatistics;
+
+        /** The number of samples without a solution. */
+        private long failures = 0;
+
+        /**
+         * Creates empty accumulators with the ranges of the specified templates.
+         *
+         * @param voltageTemplates the voltage accumulators to copy the ranges from.
+         * @param currentTemplates the current accumulators to copy the ranges from.
+         */
+        private void attach(StreamingStatistics[] voltageTemplates, StreamingStatistics[] currentTemplates) {
+            voltageStatistics = new StreamingStatistics[voltageTemplates.length];
+            currentStatistics = new StreamingStatistics[currentTemplates.length];
+            for (int e = 0; e < voltageTemplates.length; e++) {
+                voltageStatistics[e] = voltageTemplates[e].emptyCopy();
+                currentStatistics[e] = currentTemplates[e].emptyCopy();
+            }
+        }
+
+        /**
+         * Solves a sample and adds it to the accumulators.
+         *
+         * @param seed the seed of the run.
+         * @param sample the sample index.
+         */
+        private void accumulate(long seed, int sample) {
+            if (!solveSafely(seed, sample)) {
+                failures++;
+                return;
+            }
+            for (int e = 0; e < voltages.length; e++) {
+                voltageStatistics[e].add(voltages[e]);
+                currentStatistics[e].add(currents[e]);
+            }
+        }
+
+        /**
+         * Solves a sample like {@link #solve(long, int)}, treating an unexpected exception as a failed sample.
+         *
+         * @param seed the seed of the run.
+         * @param sample the sample index.
+         * @return {@code true} if the circuit was solved.
+         */
+        private boolean solveSafely(long seed, int sample) {
+            try {
+                return solve(seed, sample);
+            } catch (RuntimeException _) {
+                return false;
+            }
+        }
+
+        /**
+         * Perturbs the component values for a sample and solves the circuit.
+         *
+         * @param seed the seed of the run.
+         * @param sample the sample index.
+         * @return {@code true} if the circuit was solved; {@code false} if its matrix is singular.
+         */
+        private boolean solve(long seed, int sample) {
+            sampleCheck.accept(sample);
+            SplittableRandom random = new SplittableRandom(seed + sample * 0x9E3779B97F4A7C15L);
+            for (int e = 0; e < local.size(); e++) {
+                int type = local.type(e).ordinal();
+                double value = netlist.value(e);
+                if (tolerances[type] > 0)
+                    value *= 1 + distributions[type].deviation(random, tolerances[type]);
+                local.setValue(e, value);
+            }
+            system.stampDc();
+            if (!system.refactor())
+                return false;
+            system.solve();
+            system.writeDcSolution(voltages, currents, 0);
+            return true;
+        }
+
+    }
+
+}
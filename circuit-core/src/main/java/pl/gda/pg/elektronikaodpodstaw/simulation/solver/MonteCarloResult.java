@@ -0,0 +1,74 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Holds the result of a Monte Carlo tolerance analysis: the streaming statistics of the voltage
+ * and current of every component over all solved samples.
+ */
+public final class MonteCarloResult {
+
+    /** The statistics of the voltage of each component. */
+    private final StreamingStatistics[] voltages;
+
+    /** The statistics of the current of each component. */
+    private final StreamingStatistics[] currents;
+
+    /** The number of samples drawn. */
+    private final int samples;
+
+    /** The number of samples without a solution, including samples failing with an exception. */
+    private final long failedSamples;
+
+    /**
+     * Constructs a result from the merged statistics.
+     *
+     * @param voltages the statistics of the voltage of each component.
+     * @param currents the statistics of the current of each component.
+     * @param samples the number of samples drawn.
+     * @param failedSamples the number of samples without a solution.
+     */
+    MonteCarloResult(StreamingStatistics[] voltages, StreamingStatistics[] currents, int samples, long failedSamples) {
+        this.voltages = voltages;
+        this.currents = currents;
+        this.samples = samples;
+        this.failedSamples = failedSamples;
+    }
+
+    /**
+     * Returns the statistics of the voltage across the specified component.
+     *
+     * @param element the component index.
+     * @return the voltage statistics in volts.
+     */
+    public StreamingStatistics voltage(int element) {
+        return voltages[element];
+    }
+
+    /**
+     * Returns the statistics of the current through the specified component.
+     *
+     * @param element the component index.
+     * @return the current statistics in amps.
+     */
+    public StreamingStatistics current(int element) {
+        return currents[element];
+    }
+
+    /**
+     * Returns the number of samples drawn.
+     *
+     * @return the number of samples.
+     */
+    public int samples() {
+        return samples;
+    }
+
+    /**
+     * Returns the number of samples for which the circuit had no solution. The other samples make up the statistics.
+     *
+     * @return the number of failed samples.
+     */
+    public long failedSamples() {
+        return failedSamples;
+    }
+
+}
@@ -0,0 +1,244 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.Arrays;
+
+/**
+ * Assigns node numbers to the terminals of a circuit drawn on a grid.
+ * Terminals are identified by their packed integer coordinates and joined by wires with a
+ * disjoint-set forest (path compression and union by rank), so the whole assignment runs in
+ * near-linear time. Afterwards the nodes are renumbered densely: nodes touching at least one
+ * component come first as {@code 0..nodeCount-1} with the ground pinned to 0, followed by nodes
+ * made only of wires.
+ */
+public final class NodeAssigner {
+
+    /** Marks an empty slot of the coordinate hash table. */
+    private static final int EMPTY = -1;
+
+    /** The packed coordinates stored in each hash table slot. */
+    private long[] keys;
+
+    /** The terminal id stored in each hash table slot, or {@link #EMPTY}. */
+    private int[] ids;
+
+    /** The parent of each terminal in the disjoint-set forest. */
+    private int[] parent;
+
+    /** The rank of each terminal in the disjoint-set forest. */
+    private byte[] rank;
+
+    /** Indicates whether any component (not a wire) is attached to each terminal. */
+    private boolean[] component;
+
+    /** The dense node number of each terminal, valid after {@link #assign()}. */
+    private int[] nodes;
+
+    /** The number of distinct terminals. */
+    private int count = 0;
+
+    /** The terminal of the ground node, or -1 if not chosen yet. */
+    private int ground = -1;
+
+    /** The number of nodes touching at least one component, valid after {@link #assign()}. */
+    private int nodeCount = 0;
+
+    /**
+     * Constructs an assigner sized for the specified number of terminals.
+     *
+     * @param capacity the expected number of distinct terminals.
+     */
+    public NodeAssigner(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) << 1;
+        keys = new long[tableSize];
+        ids = new int[tableSize];
+        Arrays.fill(ids, EMPTY);
+        parent = new int[Math.max(capacity, 8)];
+        rank = new byte[parent.length];
+        component = new boolean[parent.length];
+        nodes = new int[parent.length];
+    }
+
+    /**
+     * Removes all terminals, keeping the allocated storage for reuse.
+     */
+    public void clear() {
+        Arrays.fill(ids, EMPTY);
+        count = 0;
+        ground = -1;
+        nodeCount = 0;
+    }
+
+    /**
+     * Returns the terminal at the specified grid coordinates, registering it if it is new.
+     *
+     * @param x the horizontal coordinate.
+     * @param y the vertical coordinate.
+     * @return the terminal id.
+     */
+    public int terminal(int x, int y) {
+        long key = ((long) x << 32) | (y & 0xffffffffL);
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (ids[slot] != EMPTY) {
+            if (keys[slot] == key)
+                return ids[slot];
+            slot = (slot + 1) & mask;
+        }
+        if (count == parent.length)
+            growTerminals();
+        int id = count++;
+        keys[slot] = key;
+        ids[slot] = id;
+        parent[id] = id;
+        rank[id] = 0;
+        component[id] = false;
+        if (count * 2 > keys.length)
+            growTable();
+        return id;
+    }
+
+    /**
+     * Records that a component is attached to both specified terminals.
+     * The first component terminal ever registered becomes the ground.
+     *
+     * @param minus the terminal at the negative end of the component.
+     * @param plus the terminal at the positive end of the component.
+     */
+    public void attachComponent(int minus, int plus) {
+        if (ground < 0)
+            ground = minus;
+        component[minus] = true;
+        component[plus] = true;
+    }
+
+    /**
+     * Joins two terminals into the same node, as done by a wire.
+     *
+     * @param a the first terminal.
+     * @param b the second terminal.
+     */
+    public void connect(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB)
+            return;
+        if (rank[rootA] < rank[rootB]) {
+            int t = rootA;
+            rootA = rootB;
+            rootB = t;
+        }
+        parent[rootB] = rootA;
+        if (rank[rootA] == rank[rootB])
+            rank[rootA]++;
+    }
+
+    /**
+     * Renumbers all nodes densely. Nodes touching components are numbered first in order of
+     * first appearance, starting with the ground node 0; nodes made only of wires follow.
+     *
+     * @return the number of nodes touching at least one component.
+     */
+    public int assign() {
+        for (int t = 0; t < count; t++) {
+            int root = find(t);
+            parent[t] = root;
+            if (component[t])
+                component[root] = true;
+            nodes[t] = -1;
+        }
+        int next = 0;
+        if (ground >= 0)
+            nodes[find(ground)] = next++;
+        for (int t = 0; t < count; t++) {
+            int root = parent[t];
+            if (component[root] && nodes[root] < 0)
+                nodes[root] = next++;
+        }
+        nodeCount = next;
+        for (int t = 0; t < count; t++) {
+            int root = parent[t];
+            if (nodes[root] < 0)
+                nodes[root] = next++;
+        }
+        for (int t = 0; t < count; t++)
+            nodes[t] = nodes[parent[t]];
+        return nodeCount;
+    }
+
+    /**
+     * Returns the dense node number of the specified terminal, as computed by the last {@link #assign()}.
+     *
+     * @param terminal the terminal id.
+     * @return the node number.
+     */
+    public int node(int terminal) {
+        return nodes[terminal];
+    }
+
+    /**
+     * Returns the number of nodes touching at least one component, as computed by the last {@link #assign()}.
+     *
+     * @return the number of component nodes.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Finds the representative of the set containing the specified terminal, halving the path on the way.
+     *
+     * @param terminal the terminal id.
+     * @return the representative terminal.
+     */
+    private int find(int terminal) {
+        while (parent[terminal] != terminal) {
+            parent[terminal] = parent[parent[terminal]];
+            terminal = parent[terminal];
+        }
+        return terminal;
+    }
+
+    /**
+     * Doubles the storage for terminals.
+     */
+    private void growTerminals() {
+        int capacity = parent.length * 2;
+        parent = Arrays.copyOf(parent, capacity);
+        rank = Arrays.copyOf(rank, capacity);
+        component = Arrays.copyOf(component, capacity);
+        nodes = Arrays.copyOf(nodes, capacity);
+    }
+
+    /**
+     * Doubles the coordinate hash table and reinserts all keys.
+     */
+    private void growTable() {
+        long[] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new long[oldKeys.length * 2];
+        ids = new int[oldIds.length * 2];
+        Arrays.fill(ids, EMPTY);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIds[i] == EMPTY)
+                continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (ids[slot] != EMPTY)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            ids[slot] = oldIds[i];
+        }
+    }
+
+    /**
+     * Scrambles packed coordinates into a well-distributed hash.
+     *
+     * @param key the packed coordinates.
+     * @return the hash value.
+     */
+    private static int mix(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32));
+    }
+
+}
@@ -0,0 +1,38 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Defines an engine able to compute the DC operating point of a circuit netlist.
+ * Invalid circuits are reported with an {@link IllegalArgumentException} whose message
+ * follows the JSpice wording, so that callers can handle all backends the same way.
+ */
+public interface SimulationBackend {
+
+    /** The configuration name of the native modified nodal analysis backend. */
+    String MNA = "MNA";
+
+    /** The configuration name of the JSpice reference backend. */
+    String JSPICE = "JSpice";
+
+    /**
+     * Computes the DC operating point of the specified netlist.
+     *
+     * @param netlist the circuit to solve.
+     * @return the computed solution.
+     * @throws IllegalArgumentException if the circuit cannot be solved.
+     */
+    DcSolution solveDc(CircuitNetlist netlist);
+
+    /**
+     * Returns the backend registered under the specified configuration name.
+     * Unknown names fall back to the native solver.
+     *
+     * @param name the configuration name of the backend.
+     * @return the matching backend.
+     */
+    static SimulationBackend forName(String name) {
+        if (JSPICE.equals(name))
+            return new JSpiceBackend();
+        return new MnaSolver();
+    }
+
+}
@@ -0,0 +1,433 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.Arrays;
+
+/**
+ * Sparse LU factorization of a square matrix stored in compressed sparse column form.
+ * The symbolic part (column ordering) is computed once per sparsity pattern, while the numeric
+ * factorization can be repeated for new values. It uses left-looking elimination with threshold
+ * partial pivoting, so zero diagonals of voltage source branches are handled by row exchanges.
+ * All data is kept in primitive arrays and reused between factorizations.
+ */
+public final class SparseLu {
+
+    /** The relative threshold under which the diagonal entry is not preferred as a pivot. */
+    private static final double PIVOT_TOLERANCE = 1e-3;
+
+    /** The dimension of the matrix. */
+    private final int n;
+
+    /** The column pointers of the factored pattern. */
+    private final int[] colPtr;
+
+    /** The row indices of the factored pattern. */
+    private final int[] rowIdx;
+
+    /** The fill-reducing column order. */
+    private final int[] q;
+
+    /** The row permutation: {@code pinv[row]} is the pivot step of that row. */
+    private final int[] pinv;
+
+    /** The column pointers of the unit lower triangular factor. */
+    private final int[] lp;
+
+    /** The column pointers of the upper triangular factor. */
+    private final int[] up;
+
+    /** The row indices of the lower factor. */
+    private int[] li;
+
+    /** The values of the lower factor. */
+    private double[] lx;
+
+    /** The row indices of the upper factor. */
+    private int[] ui;
+
+    /** The values of the upper factor. */
+    private double[] ux;
+
+    /** Dense work vector. */
+    private final double[] x;
+
+    /** Nonzero pattern of the current column, in topological order. */
+    private final int[] xi;
+
+    /** Depth-first search stack. */
+    private final int[] stack;
+
+    /** Depth-first search position for each stack entry. */
+    private final int[] pstack;
+
+    /** Visit marks for the depth-first search. */
+    private final int[] visited;
+
+    /** The current visit mark. */
+    private int visitStamp = 0;
+
+    /** Indicates whether a valid numeric factorization is available. */
+    private boolean factored = false;
+
+    /**
+     * Constructs the factorization for the specified sparsity pattern and performs the symbolic analysis.
+     * The pattern is expected to be structurally symmetric, which holds for modified nodal analysis matrices.
+     *
+     * @param n the dimension of the matrix.
+     * @param colPtr the column pointers, of length {@code n + 1}.
+     * @param rowIdx the row indices of each stored entry.
+     */
+    public SparseLu(int n, int[] colPtr, int[] rowIdx) {
+        this.n = n;
+        this.colPtr = colPtr;
+        this.rowIdx = rowIdx;
+        q = reverseCuthillMcKee(n, colPtr, rowIdx);
+        pinv = new int[n];
+        lp = new int[n + 1];
+        up = new int[n + 1];
+        int estimate = Math.max(4 * colPtr[n], n) + n;
+        li = new int[estimate];
+        lx = new double[estimate];
+        ui = new int[estimate];
+        ux = new double[estimate];
+        x = new double[n];
+        xi = new int[n];
+        stack = new int[n];
+        pstack = new int[n];
+        visited = new int[n];
+    }
+
+    /**
+     * Constructs an independent factorization for the same sparsity pattern, sharing the symbolic analysis.
+     * Numeric factorizations of the copies do not interfere, so each thread can work on its own copy.
+     *
+     * @param other the factorization whose pattern and column order are reused.
+     */
+    public SparseLu(SparseLu other) {
+        n = other.n;
+        colPtr = other.colPtr;
+        rowIdx = other.rowIdx;
+        q = other.q;
+        pinv = new int[n];
+        lp = new int[n + 1];
+        up = new int[n + 1];
+        li = new int[other.li.length];
+        lx = new double[li.length];
+        ui = new int[other.ui.length];
+        ux = new double[ui.length];
+        x = new double[n];
+        xi = new int[n];
+        stack = new int[n];
+        pstack = new int[n];
+        visited = new int[n];
+    }
+
+    /**
+     * Returns the dimension of the factored matrix.
+     *
+     * @return the dimension.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Checks whether a valid numeric factorization is available.
+     *
+     * @return {@code true} if {@link #solve(double[], double[])} may be called.
+     */
+    public boolean isFactored() {
+        return factored;
+    }
+
+    /**
+     * Computes the numeric factorization of the matrix with the specified values.
+     *
+     * @param ax the values of the matrix, aligned with the pattern passed to the constructor.
+     * @return {@code true} if the matrix was factored; {@code false} if it is singular.
+     */
+    public boolean factor(double[] ax) {
+        factored = false;
+        int lnz = 0;
+        int unz = 0;
+        Arrays.fill(pinv, -1);
+        Arrays.fill(lp, 0);
+        for (int k = 0; k < n; k++) {
+            lp[k] = lnz;
+            up[k] = unz;
+            if (lnz + n > li.length) {
+                li = Arrays.copyOf(li, 2 * li.length + n);
+                lx = Arrays.copyOf(lx, li.length);
+            }
+            if (unz + n > ui.length) {
+                ui = Arrays.copyOf(ui, 2 * ui.length + n);
+                ux = Arrays.copyOf(ux, ui.length);
+            }
+
+            int col = q[k];
+            int top = lowerSolve(col, ax);
+
+            int ipiv = -1;
+            double a = -1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    double t = Math.abs(x[i]);
+                    if (t > a) {
+                        a = t;
+                        ipiv = i;
+                    }
+                } else {
+                    ui[unz] = pinv[i];
+                    ux[unz++] = x[i];
+                }
+            }
+            if (ipiv == -1 || a <= 0) {
+                for (int p = top; p < n; p++)
+                    x[xi[p]] = 0;
+                return false;
+            }
+            if (pinv[col] < 0 && Math.abs(x[col]) >= a * PIVOT_TOLERANCE)
+                ipiv = col;
+
+            double pivot = x[ipiv];
+            ui[unz] = k;
+            ux[unz++] = pivot;
+            pinv[ipiv] = k;
+            li[lnz] = ipiv;
+            lx[lnz++] = 1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    li[lnz] = i;
+                    lx[lnz++] = x[i] / pivot;
+                }
+                x[i] = 0;
+            }
+        }
+        lp[n] = lnz;
+        up[n] = unz;
+        for (int p = 0; p < lnz; p++)
+            li[p] = pinv[li[p]];
+        factored = true;
+        return true;
+    }
+
+    /**
+     * Recomputes the numeric factorization for new values of the same matrix pattern,
+     * reusing the pivot order and the nonzero structure of the last successful {@link #factor(double[])}.
+     * No graph traversal or pivot search is done, so this is much cheaper than a full factorization.
+     *
+     * @param ax the new values of the matrix, aligned with the pattern passed to the constructor.
+     * @return {@code true} if the matrix was refactored; {@code false} if a pivot became too small,
+     *         in which case {@link #factor(double[])} must be called.
+     */
+    public boolean refactor(double[] ax) {
+        if (!factored)
+            return false;
+        factored = false;
+        for (int k = 0; k < n; k++) {
+            int col = q[k];
+            for (int p = colPtr[col]; p < colPtr[col + 1]; p++)
+                x[pinv[rowIdx[p]]] = ax[p];
+
+            int diagonal = up[k + 1] - 1;
+            for (int p = up[k]; p < diagonal; p++) {
+                int j = ui[p];
+                double ujk = x[j];
+                ux[p] = ujk;
+                x[j] = 0;
+                if (ujk != 0) {
+                    for (int pl = lp[j] + 1; pl < lp[j + 1]; pl++)
+                        x[li[pl]] -= lx[pl] * ujk;
+                }
+            }
+
+            double pivot = x[k];
+            x[k] = 0;
+            double largest = Math.abs(pivot);
+            for (int pl = lp[k] + 1; pl < lp[k + 1]; pl++)
+                largest = Math.max(largest, Math.abs(x[li[pl]]));
+            if (pivot == 0 || Math.abs(pivot) < largest * PIVOT_TOLERANCE) {
+                for (int pl = lp[k] + 1; pl < lp[k + 1]; pl++)
+                    x[li[pl]] = 0;
+                return false;
+            }
+            ux[diagonal] = pivot;
+            for (int pl = lp[k] + 1; pl < lp[k + 1]; pl++) {
+                int i = li[pl];
+                lx[pl] = x[i] / pivot;
+                x[i] = 0;
+            }
+        }
+        factored = true;
+        return true;
+    }
+
+    /**
+     * Solves {@code A * result = b} using the current factorization.
+     *
+     * @param b the right-hand side, left unchanged.
+     * @param result the array receiving the solution; may not alias {@code b}.
+     */
+    public void solve(double[] b, double[] result) {
+        double[] work = x;
+        for (int i = 0; i < n; i++)
+            work[pinv[i]] = b[i];
+        for (int j = 0; j < n; j++) {
+            double xj = work[j];
+            if (xj != 0) {
+                for (int p = lp[j] + 1; p < lp[j + 1]; p++)
+                    work[li[p]] -= lx[p] * xj;
+            }
+        }
+        for (int j = n - 1; j >= 0; j--) {
+            int diagonal = up[j + 1] - 1;
+            work[j] /= ux[diagonal];
+            double xj = work[j];
+            if (xj != 0) {
+                for (int p = up[j]; p < diagonal; p++)
+                    work[ui[p]] -= ux[p] * xj;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            result[q[k]] = work[k];
+            work[k] = 0;
+        }
+    }
+
+    /**
+     * Solves {@code L * x = A(:, col)} for the partially computed lower factor.
+     * The nonzero pattern of the result is left in {@code xi[top..n-1]} in topological order.
+     *
+     * @param col the column of A to solve for.
+     * @param ax the values of A.
+     * @return the start of the nonzero pattern in {@code xi}.
+     */
+    private int lowerSolve(int col, double[] ax) {
+        int top = reach(col);
+        for (int p = top; p < n; p++)
+            x[xi[p]] = 0;
+        for (int p = colPtr[col]; p < colPtr[col + 1]; p++)
+            x[rowIdx[p]] = ax[p];
+        for (int px = top; px < n; px++) {
+            int j = xi[px];
+            int column = pinv[j];
+            if (column < 0)
+                continue;
+            double xj = x[j];
+            for (int p = lp[column] + 1; p < lp[column + 1]; p++)
+                x[li[p]] -= lx[p] * xj;
+        }
+        return top;
+    }
+
+    /**
+     * Computes the set of rows reachable in the graph of L from the nonzeros of {@code A(:, col)}.
+     *
+     * @param col the column of A.
+     * @return the start of the reachable set in {@code xi}.
+     */
+    private int reach(int col) {
+        visitStamp++;
+        int top = n;
+        for (int p = colPtr[col]; p < colPtr[col + 1]; p++) {
+            int i = rowIdx[p];
+            if (visited[i] != visitStamp)
+                top = depthFirst(i, top);
+        }
+        return top;
+    }
+
+    /**
+     * Performs a non-recursive depth-first search from the specified row in the graph of L.
+     *
+     * @param start the starting row.
+     * @param top the current start of the output in {@code xi}.
+     * @return the new start of the output in {@code xi}.
+     */
+    private int depthFirst(int start, int top) {
+        int head = 0;
+        stack[0] = start;
+        while (head >= 0) {
+            int j = stack[head];
+            int column = pinv[j];
+            if (visited[j] != visitStamp) {
+                visited[j] = visitStamp;
+                pstack[head] = column < 0 ? 0 : lp[column] + 1;
+            }
+            boolean done = true;
+            int end = column < 0 ? 0 : lp[column + 1];
+            for (int p = pstack[head]; p < end; p++) {
+                int i = li[p];
+                if (visited[i] == visitStamp)
+                    continue;
+                pstack[head] = p;
+                stack[++head] = i;
+                done = false;
+                break;
+            }
+            if (done) {
+                head--;
+                xi[--top] = j;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Computes a bandwidth-reducing column order using the reverse Cuthill-McKee algorithm.
+     *
+     * @param n the dimension of the matrix.
+     * @param colPtr the column pointers.
+     * @param rowIdx the row indices.
+     * @return the column order.
+     */
+    private static int[] reverseCuthillMcKee(int n, int[] colPtr, int[] rowIdx) {
+        int[] degree = new int[n];
+        for (int j = 0; j < n; j++)
+            degree[j] = colPtr[j + 1] - colPtr[j];
+        boolean[] queued = new boolean[n];
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        int searchFrom = 0;
+        while (tail < n) {
+            int start = -1;
+            for (int j = searchFrom; j < n; j++) {
+                if (!queued[j] && (start < 0 || degree[j] < degree[start]))
+                    start = j;
+            }
+            while (searchFrom < n && queued[searchFrom])
+                searchFrom++;
+            queued[start] = true;
+            order[tail++] = start;
+            while (head < tail) {
+                int v = order[head++];
+                int from = tail;
+                for (int p = colPtr[v]; p < colPtr[v + 1]; p++) {
+                    int u = rowIdx[p];
+                    if (!queued[u]) {
+                        queued[u] = true;
+                        order[tail++] = u;
+                    }
+                }
+                for (int i = from + 1; i < tail; i++) {
+                    int node = order[i];
+                    int k = i - 1;
+                    while (k >= from && degree[order[k]] > degree[node]) {
+                        order[k + 1] = order[k];
+                        k--;
+                    }
+                    order[k + 1] = node;
+                }
+            }
+        }
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return order;
+    }
+
+}
@@ -0,0 +1,230 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Accumulates statistics of a stream of values in constant memory.
+ * Mean and variance are updated with Welford's algorithm, and a fixed-range histogram with
+ * underflow and overflow counters provides interpolated percentiles. Accumulators with the same
+ * range can be merged, so every thread can fill its own and combine them at the end.
+ * An instance is not thread-safe.
+ */
+public final class StreamingStatistics {
+
+    /** The lower bound of the histogram range. */
+    private final double low;
+
+    /** The upper bound of the histogram range. */
+    private final double high;
+
+    /** The number of values in each histogram bin. */
+    private final long[] bins;
+
+    /** The number of values below the histogram range. */
+    private long underflow = 0;
+
+    /** The number of values above the histogram range. */
+    private long overflow = 0;
+
+    /** The number of values accumulated. */
+    private long count = 0;
+
+    /** The running mean. */
+    private double mean = 0;
+
+    /** The running sum of squared deviations from the mean. */
+    private double m2 = 0;
+
+    /** The smallest value accumulated. */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /** The largest value accumulated. */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructs an empty accumulator with the specified histogram range.
+     *
+     * @param low the lower bound of the histogram range.
+     * @param high the upper bound of the histogram range, greater than {@code low}.
+     * @param binCount the number of histogram bins.
+     * @throws IllegalArgumentException if the range or the number of bins is invalid.
+     */
+    public StreamingStatistics(double low, double high, int binCount) {
+        if (!(high > low) || binCount < 1)
+            throw new IllegalArgumentException("Invalid histogram range!");
+        this.low = low;
+        this.high = high;
+        bins = new long[binCount];
+    }
+
+    /**
+     * Adds a value to the statistics.
+     *
+     * @param value the value to add; {@code NaN} is ignored.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value))
+            return;
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (value < low)
+            underflow++;
+        else if (value >= high)
+            overflow++;
+        else
+            bins[Math.min((int) ((value - low) / (high - low) * bins.length), bins.length - 1)]++;
+    }
+
+    /**
+     * Adds all values accumulated by another accumulator with the same histogram range.
+     *
+     * @param other the accumulator to merge.
+     * @throws IllegalArgumentException if the histogram ranges differ.
+     */
+    public void merge(StreamingStatistics other) {
+        if (other.low != low || other.high != high || other.bins.length != bins.length)
+            throw new IllegalArgumentException("Histogram ranges differ!");
+        if (other.count == 0)
+            return;
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        underflow += other.underflow;
+        overflow += other.overflow;
+        for (int i = 0; i < bins.length; i++)
+            bins[i] += other.bins[i];
+    }
+
+    /**
+     * Returns the number of values accumulated.
+     *
+     * @return the count.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return the mean, or {@code NaN} if there are no values.
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Returns the sample standard deviation of the values.
+     *
+     * @return the standard deviation, or {@code NaN} if there are fewer than two values.
+     */
+    public double standardDeviation() {
+        return count < 2 ? Double.NaN : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * Returns the smallest value accumulated.
+     *
+     * @return the minimum, or positive infinity if there are no values.
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * Returns the largest value accumulated.
+     *
+     * @return the maximum, or negative infinity if there are no values.
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Estimates a percentile by linear interpolation within the histogram bins.
+     * Values outside the histogram range are attributed to the minimum and the maximum.
+     *
+     * @param percent the percentile, from 0 to 100.
+     * @return the estimated value, or {@code NaN} if there are no values.
+     */
+    public double percentile(double percent) {
+        if (count == 0)
+            return Double.NaN;
+        double rank = Math.clamp(percent, 0, 100) / 100 * count;
+        if (rank <= underflow)
+            return min;
+        double seen = underflow;
+        double width = (high - low) / bins.length;
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] > 0 && seen + bins[i] >= rank) {
+                double value = low + width * (i + (rank - seen) / bins[i]);
+                return Math.clamp(value, min, max);
+            }
+            seen += bins[i];
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of histogram bins.
+     *
+     * @return the number of bins.
+     */
+    public int binCount() {
+        return bins.length;
+    }
+
+    /**
+     * Returns the number of values in the specified histogram bin.
+     *
+     * @param bin the bin index.
+     * @return the number of values.
+     */
+    public long bin(int bin) {
+        return bins[bin];
+    }
+
+    /**
+     * Returns the lower bound of the specified histogram bin.
+     *
+     * @param bin the bin index; {@code binCount()} gives the upper bound of the range.
+     * @return the lower bound of the bin.
+     */
+    public double binLow(int bin) {
+        return low + (high - low) * bin / bins.length;
+    }
+
+    /**
+     * Returns the number of values below the histogram range.
+     *
+     * @return the underflow count.
+     */
+    public long underflow() {
+        return underflow;
+    }
+
+    /**
+     * Returns the number of values above the histogram range.
+     *
+     * @return the overflow count.
+     */
+    public long overflow() {
+        return overflow;
+    }
+
+    /**
+     * Creates an empty accumulator with the same histogram range.
+     *
+     * @return the new accumulator.
+     */
+    public StreamingStatistics emptyCopy() {
+        return new StreamingStatistics(low, high, bins.length);
+    }
+
+}
@@ -0,0 +1,32 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import java.util.SplittableRandom;
+
+/**
+ * Enumerates the distributions of component values within their tolerance used by Monte Carlo analysis.
+ */
+public enum ToleranceDistribution {
+
+    /** Every value within the tolerance is equally likely. */
+    UNIFORM,
+
+    /** Normally distributed with the tolerance at three standard deviations, truncated to the tolerance. */
+    GAUSSIAN;
+
+    /**
+     * Draws a relative deviation from the nominal value.
+     *
+     * @param random the random number generator.
+     * @param tolerance the relative tolerance, e.g. 0.05 for 5%.
+     * @return the relative deviation, between {@code -tolerance} and {@code tolerance}.
+     */
+    public double deviation(SplittableRandom random, double tolerance) {
+        if (this == UNIFORM)
+            return tolerance * (2 * random.nextDouble() - 1);
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        double normal = Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+        return Math.clamp(normal * tolerance / 3, -tolerance, tolerance);
+    }
+
+}
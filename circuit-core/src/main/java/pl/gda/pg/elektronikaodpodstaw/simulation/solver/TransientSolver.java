@@ -0,0 +1,313 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Transient solver computing the response of a circuit after its sources are switched on at time 0.
+ * Capacitors start discharged and inductors without current. At every time step they are replaced
+ * by companion models of the selected {@link IntegrationMethod}: a capacitor becomes a conductance
+ * with a parallel current source, an inductor a series resistance and voltage source in its branch equation.
+ * The step size follows the local truncation error estimated from divided differences of the capacitor
+ * voltages and inductor currents, and the matrix is only refactored when the step size changes.
+ * An instance is not thread-safe.
+ */
+public final class TransientSolver {
+
+    /** The relative tolerance of the local truncation error. */
+    private static final double RELATIVE_TOLERANCE = 1e-3;
+
+    /** The absolute tolerance of the local truncation error of capacitor voltages. */
+    private static final double VOLTAGE_TOLERANCE = 1e-6;
+
+    /** The absolute tolerance of the local truncation error of inductor currents. */
+    private static final double CURRENT_TOLERANCE = 1e-9;
+
+    /** The smallest step allowed, relative to the stop time. */
+    private static final double MIN_STEP_FRACTION = 1e-12;
+
+    /** The first step, relative to the maximum step. */
+    private static final double FIRST_STEP_FRACTION = 1e-3;
+
+    /** The number of accepted states kept for every reactive component. */
+    private static final int HISTORY = 4;
+
+    /** The netlist being simulated. */
+    private final CircuitNetlist netlist;
+
+    /** The integration method of the companion models. */
+    private final IntegrationMethod method;
+
+    /** The equations of the netlist. */
+    private final MnaSystem system;
+
+    /** The indices of the capacitors and inductors. */
+    private final int[] reactive;
+
+    /** The position of each component in {@link #reactive}, or -1. */
+    private final int[] reactiveIndex;
+
+    /** The voltage of each reactive component at the last accepted time point. */
+    private final double[] voltage;
+
+    /** The current of each reactive component at the last accepted time point. */
+    private final double[] current;
+
+    /**
+     * The state variable (capacitor voltage or inductor current) of each reactive component
+     * at the last {@link #HISTORY} accepted time points, newest first.
+     */
+    private final double[] history;
+
+    /** The sizes of the last accepted steps, newest first. */
+    private final double[] steps = new double[HISTORY - 1];
+
+    /** The number of valid entries in {@link #history}. */
+    private int accepted = 0;
+
+    /** The step size the matrix is currently stamped with, or 0. */
+    private double stampedStep = 0;
+
+    /**
+     * Constructs a transient solver for the specified netlist.
+     *
+     * @param netlist the circuit to simulate; its topology must not change afterwards.
+     * @param method the integration method of the companion models.
+     * @throws IllegalArgumentException if the circuit is invalid.
+     */
+    public TransientSolver(CircuitNetlist netlist, IntegrationMethod method) {
+        MnaSolver.validate(netlist);
+        this.netlist = netlist;
+        this.method = method;
+        system = new MnaSystem(netlist);
+        reactiveIndex = new int[netlist.size()];
+        int count = 0;
+        for (int e = 0; e < netlist.size(); e++) {
+            ComponentType type = netlist.type(e);
+            reactiveIndex[e] = type == ComponentType.CAPACITOR || type == ComponentType.INDUCTOR ? count++ : -1;
+        }
+        reactive = new int[count];
+        for (int e = 0; e < netlist.size(); e++) {
+            if (reactiveIndex[e] >= 0)
+                reactive[reactiveIndex[e]] = e;
+        }
+        voltage = new double[count];
+        current = new double[count];
+        history = new double[count * HISTORY];
+    }
+
+    /**
+     * Simulates the circuit from time 0 to the stop time and records every accepted time point.
+     * The waveform is cleared first; if it is too small, only the last samples are kept.
+     *
+     * @param stopTime the end of the simulated interval in seconds.
+     * @param maxStep the largest step allowed in seconds, bounding the spacing of the recorded samples.
+     * @param waveform the waveform receiving the samples, sized for all components of the netlist.
+     * @throws IllegalArgumentException if the times are invalid, the matrix is singular or the step becomes too small.
+     */
+    public void run(double stopTime, double maxStep, TransientWaveform waveform) {
+        if (!(stopTime > 0) || !(maxStep > 0))
+            throw new IllegalArgumentException("Transient times must be positive!");
+        if (waveform.elementCount() != netlist.size())
+            throw new IllegalArgumentException("Waveform does not match the netlist!");
+        waveform.clear();
+        maxStep = Math.min(maxStep, stopTime);
+        double minStep = stopTime * MIN_STEP_FRACTION;
+
+        initialPoint();
+        record(0, waveform);
+
+        double time = 0;
+        double step = maxStep * FIRST_STEP_FRACTION;
+        while (time < stopTime) {
+            step = Math.min(step, stopTime - time);
+            stampStep(step);
+            system.solve();
+
+            double ratio = errorRatio(step);
+            double scale = ratio == 0 ? 2 : 0.9 * Math.pow(ratio, -1.0 / (method.order() + 1));
+            if (ratio > 1) {
+                if (step <= minStep)
+                    throw new IllegalArgumentException("Timestep too small!");
+                step = Math.max(minStep, step * Math.max(0.25, scale));
+                continue;
+            }
+            time = stopTime - time <= step ? stopTime : time + step;
+            accept(step);
+            record(time, waveform);
+            step = Math.min(maxStep, step * Math.min(2, scale));
+        }
+    }
+
+    /**
+     * Computes the state right after the switch-on: discharged capacitors act as shorts
+     * and inductors without current as opens.
+     *
+     * @throws IllegalArgumentException if the matrix is singular.
+     */
+    private void initialPoint() {
+        system.stampDcMatrix();
+        for (int e : reactive) {
+            if (netlist.type(e) == ComponentType.CAPACITOR)
+                system.stampConductance(e, 1 / MnaSystem.MIN_RESISTANCE);
+            else
+                system.stampBranchResistance(e, 1 / MnaSystem.GMIN);
+        }
+        if (!system.factor())
+            throw new IllegalArgumentException("Singular circuit matrix!");
+        system.stampDcSources();
+        system.solve();
+        stampedStep = 0;
+
+        accepted = 0;
+        for (int r = 0; r < reactive.length; r++) {
+            int e = reactive[r];
+            voltage[r] = system.elementVoltage(e);
+            if (netlist.type(e) == ComponentType.CAPACITOR)
+                current[r] = voltage[r] / MnaSystem.MIN_RESISTANCE;
+            else
+                current[r] = system.branchCurrent(e);
+        }
+        shiftHistory(0);
+    }
+
+    /**
+     * Stamps the companion models for a step of the specified size from the last accepted time point,
+     * refactoring the matrix only if the step size changed.
+     *
+     * @param step the step size in seconds.
+     * @throws IllegalArgumentException if the matrix is singular.
+     */
+    private void stampStep(double step) {
+        double factor = method == IntegrationMethod.TRAPEZOIDAL ? 2 / step : 1 / step;
+        if (step != stampedStep) {
+            system.stampDcMatrix();
+            for (int e : reactive) {
+                if (netlist.type(e) == ComponentType.CAPACITOR)
+                    system.stampConductance(e, netlist.value(e) * factor);
+                else
+                    system.stampBranchResistance(e, netlist.value(e) * factor);
+            }
+            if (!system.refactor())
+                throw new IllegalArgumentException("Singular circuit matrix!");
+            stampedStep = step;
+        }
+        system.stampDcSources();
+        boolean trapezoidal = method == IntegrationMethod.TRAPEZOIDAL;
+        for (int r = 0; r < reactive.length; r++) {
+            int e = reactive[r];
+            if (netlist.type(e) == ComponentType.CAPACITOR) {
+                double equivalent = netlist.value(e) * factor * voltage[r];
+                if (trapezoidal)
+                    equivalent += current[r];
+                system.stampCurrent(e, -equivalent);
+            } else {
+                double equivalent = -netlist.value(e) * factor * current[r];
+                if (trapezoidal)
+                    equivalent -= voltage[r];
+                system.stampBranchVoltage(e, equivalent);
+            }
+        }
+    }
+
+    /**
+     * Estimates the local truncation error of the step just solved, relative to the tolerance.
+     * Until enough time points are accepted for the divided differences, the error is reported as 0.
+     *
+     * @param step the step size in seconds.
+     * @return the largest ratio of the estimated error to the tolerance; a step is accepted if it is at most 1.
+     */
+    private double errorRatio(double step) {
+        int order = method.order();
+        if (accepted <= order)
+            return 0;
+        double ratio = 0;
+        for (int r = 0; r < reactive.length; r++) {
+            int e = reactive[r];
+            boolean capacitor = netlist.type(e) == ComponentType.CAPACITOR;
+            double x = capacitor ? system.elementVoltage(e) : system.branchCurrent(e);
+            int base = r * HISTORY;
+            double x0 = history[base];
+            double x1 = history[base + 1];
+            double first = (x - x0) / step;
+            double previous = (x0 - x1) / steps[0];
+            double second = (first - previous) / (step + steps[0]);
+            double error;
+            if (order == 1) {
+                error = step * step * Math.abs(second);
+            } else {
+                double older = (x1 - history[base + 2]) / steps[1];
+                double previousSecond = (previous - older) / (steps[0] + steps[1]);
+                double third = (second - previousSecond) / (step + steps[0] + steps[1]);
+                error = step * step * step * Math.abs(third) / 2;
+            }
+            double tolerance = RELATIVE_TOLERANCE * Math.max(Math.abs(x), Math.abs(x0))
+                    + (capacitor ? VOLTAGE_TOLERANCE : CURRENT_TOLERANCE);
+            ratio = Math.max(ratio, error / tolerance);
+        }
+        return ratio;
+    }
+
+    /**
+     * Accepts the step just solved, updating the voltages, currents and history of the reactive components.
+     *
+     * @param step the step size in seconds.
+     */
+    private void accept(double step) {
+        double factor = method == IntegrationMethod.TRAPEZOIDAL ? 2 / step : 1 / step;
+        for (int r = 0; r < reactive.length; r++) {
+            int e = reactive[r];
+            double newVoltage = system.elementVoltage(e);
+            if (netlist.type(e) == ComponentType.CAPACITOR) {
+                double newCurrent = netlist.value(e) * factor * (newVoltage - voltage[r]);
+                if (method == IntegrationMethod.TRAPEZOIDAL)
+                    newCurrent -= current[r];
+                current[r] = newCurrent;
+            } else {
+                current[r] = system.branchCurrent(e);
+            }
+            voltage[r] = newVoltage;
+        }
+        shiftHistory(step);
+    }
+
+    /**
+     * Pushes the current state variables of the reactive components into the history.
+     *
+     * @param step the size of the step that led to the state, or 0 for the initial point.
+     */
+    private void shiftHistory(double step) {
+        for (int r = 0; r < reactive.length; r++) {
+            int base = r * HISTORY;
+            System.arraycopy(history, base, history, base + 1, HISTORY - 1);
+            history[base] = netlist.type(reactive[r]) == ComponentType.CAPACITOR ? voltage[r] : current[r];
+        }
+        System.arraycopy(steps, 0, steps, 1, steps.length - 1);
+        steps[0] = step;
+        if (accepted < HISTORY)
+            accepted++;
+    }
+
+    /**
+     * Records the voltages and currents of all components at the last accepted time point.
+     *
+     * @param time the time of the point in seconds.
+     * @param waveform the waveform receiving the sample.
+     */
+    private void record(double time, TransientWaveform waveform) {
+        int slot = waveform.append(time);
+        for (int e = 0; e < netlist.size(); e++) {
+            int r = reactiveIndex[e];
+            if (r >= 0) {
+                waveform.set(e, slot, voltage[r], current[r]);
+                continue;
+            }
+            double v = system.elementVoltage(e);
+            double i = switch (netlist.type(e)) {
+                case RESISTOR -> v / Math.max(netlist.value(e), MnaSystem.MIN_RESISTANCE);
+                case CURRENT_SOURCE -> netlist.value(e);
+                case VOLTAGE_SOURCE, AMMETER -> system.branchCurrent(e);
+                default -> 0;
+            };
+            waveform.set(e, slot, v, i);
+        }
+    }
+
+}
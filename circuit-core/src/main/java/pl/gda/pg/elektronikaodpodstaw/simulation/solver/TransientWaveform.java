@@ -0,0 +1,159 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Stores the time series of a transient analysis in fixed-size ring buffers.
+ * Every component has its own primitive voltage and current buffer, sharing one buffer of time points.
+ * When the capacity is exceeded the oldest samples are overwritten, so the waveform can be reused
+ * between runs without allocating. Samples are indexed from the oldest ({@code 0}) to the newest
+ * ({@code size() - 1}).
+ */
+public final class TransientWaveform {
+
+    /** The number of samples kept for every component. */
+    private final int capacity;
+
+    /** The number of components recorded. */
+    private final int elementCount;
+
+    /** The time of each sample. */
+    private final double[] times;
+
+    /** The voltage of each component, {@code capacity} consecutive slots per component. */
+    private final double[] voltages;
+
+    /** The current of each component, {@code capacity} consecutive slots per component. */
+    private final double[] currents;
+
+    /** The slot the next sample is written to. */
+    private int head = 0;
+
+    /** The number of samples currently stored. */
+    private int size = 0;
+
+    /**
+     * Constructs an empty waveform.
+     *
+     * @param elementCount the number of components to record.
+     * @param capacity the number of samples kept for every component.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public TransientWaveform(int elementCount, int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Waveform capacity must be positive!");
+        this.elementCount = elementCount;
+        this.capacity = capacity;
+        times = new double[capacity];
+        voltages = new double[elementCount * capacity];
+        currents = new double[elementCount * capacity];
+    }
+
+    /**
+     * Removes all samples, keeping the buffers for reuse.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of samples kept for every component.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of samples currently stored.
+     *
+     * @return the number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of components recorded.
+     *
+     * @return the number of components.
+     */
+    public int elementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Returns the time of the specified sample.
+     *
+     * @param sample the sample index, 0 being the oldest.
+     * @return the time in seconds.
+     */
+    public double time(int sample) {
+        return times[slot(sample)];
+    }
+
+    /**
+     * Returns the voltage of a component at the specified sample.
+     *
+     * @param element the component index.
+     * @param sample the sample index, 0 being the oldest.
+     * @return the voltage in volts.
+     */
+    public double voltage(int element, int sample) {
+        return voltages[element * capacity + slot(sample)];
+    }
+
+    /**
+     * Returns the current of a component at the specified sample.
+     *
+     * @param element the component index.
+     * @param sample the sample index, 0 being the oldest.
+     * @return the current in amps.
+     */
+    public double current(int element, int sample) {
+        return currents[element * capacity + slot(sample)];
+    }
+
+    /**
+     * Starts a new sample at the specified time, overwriting the oldest one when the buffers are full.
+     *
+     * @param time the time of the sample in seconds.
+     * @return the slot the component values of the sample must be written to.
+     */
+    int append(double time) {
+        int slot = head;
+        times[slot] = time;
+        head = head + 1 == capacity ? 0 : head + 1;
+        if (size < capacity)
+            size++;
+        return slot;
+    }
+
+    /**
+     * Writes the values of a component into a slot returned by {@link #append(double)}.
+     *
+     * @param element the component index.
+     * @param slot the sample slot.
+     * @param voltage the voltage in volts.
+     * @param current the current in amps.
+     */
+    void set(int element, int slot, double voltage, double current) {
+        voltages[element * capacity + slot] = voltage;
+        currents[element * capacity + slot] = current;
+    }
+
+    /**
+     * Converts a sample index into a buffer slot.
+     *
+     * @param sample the sample index, 0 being the oldest.
+     * @return the buffer slot.
+     * @throws IndexOutOfBoundsException if the sample is not stored.
+     */
+    private int slot(int sample) {
+        if (sample < 0 || sample >= size)
+            throw new IndexOutOfBoundsException("Sample " + sample + " out of range " + size);
+        int slot = head - size + sample;
+        return slot < 0 ? slot + capacity : slot;
+    }
+
+}
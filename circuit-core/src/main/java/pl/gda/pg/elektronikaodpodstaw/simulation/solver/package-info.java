@@ -0,0 +1,6 @@
+/**
+ * Contains the circuit solvers used by the simulation stage.
+ * This includes the native modified nodal analysis engine working on primitive sparse matrices,
+ * its transient analysis of capacitors and inductors, and the JSpice based reference backend.
+ */
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
@@ -0,0 +1,42 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.MnaSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the solving of a {@link Circuit} and the results it publishes.
+ */
+class CircuitTest {
+
+    /**
+     * A wire touching no component lies on a node beyond the solved ones, so node voltage labels have to
+     * skip it, while every component node has a voltage.
+     */
+    @Test
+    void strayWireNodeHasNoVoltage() {
+        Circuit circuit = new Circuit();
+        int source = circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 1, 0, 0);
+        int resistor = circuit.add(ElementKind.RESISTOR, 1, 0, 1, 1);
+        circuit.add(ElementKind.WIRE, 0, 0, 1, 0);
+        circuit.add(ElementKind.WIRE, 0, 1, 1, 1);
+        int stray = circuit.add(ElementKind.WIRE, 5, 5, 6, 5);
+        circuit.setValue(source, 5);
+        circuit.setValue(resistor, 1000);
+
+        CircuitResults results = circuit.solve(new MnaSolver());
+        DcSolution solution = results.solution();
+        assertTrue(circuit.isSolved(stray));
+        assertTrue(results.nodeMinus(stray) >= solution.nodeCount());
+        assertTrue(results.nodePlus(stray) >= solution.nodeCount());
+        for (int h : new int[] {source, resistor}) {
+            assertTrue(results.nodePlus(h) < solution.nodeCount());
+            assertTrue(results.nodeMinus(h) < solution.nodeCount());
+        }
+        assertEquals(5, solution.nodeVoltage(results.nodePlus(source)), 1e-6);
+        assertEquals(0.005, Math.abs(circuit.current(resistor)), 1e-6);
+    }
+
+}
@@ -0,0 +1,78 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.MnaSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the element counting and the matching of required results in {@link CircuitVerifier}.
+ */
+class CircuitVerifierTest {
+
+    /** A solved 12 V source with a 1 kΩ and a 3 kΩ resistor in series, dropping 3 V and 9 V at 3 mA. */
+    private Circuit circuit;
+
+    /**
+     * Builds and solves the circuit.
+     */
+    @BeforeEach
+    void solveCircuit() {
+        circuit = new Circuit();
+        circuit.setValue(circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 2, 0, 0), 12);
+        circuit.add(ElementKind.WIRE, 0, 0, 1, 0);
+        circuit.setValue(circuit.add(ElementKind.RESISTOR, 1, 0, 1, 1), 1000);
+        circuit.setValue(circuit.add(ElementKind.RESISTOR, 1, 1, 1, 2), 3000);
+        circuit.add(ElementKind.WIRE, 1, 2, 0, 2);
+        circuit.solve(new MnaSolver());
+    }
+
+    /**
+     * The counts must match exactly, and kinds that are not required are rejected.
+     */
+    @Test
+    void verifiesElementCounts() {
+        assertEquals(VerificationResult.CORRECT,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2").verifyElementCounts(circuit));
+        assertEquals(VerificationResult.WRONG_ELEMENT_COUNT,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 3").verifyElementCounts(circuit));
+        assertEquals(VerificationResult.UNEXPECTED_ELEMENT,
+                new CircuitVerifier("Resistor: 2").verifyElementCounts(circuit));
+    }
+
+    /**
+     * The instances match the elements in any order, within the tolerances.
+     */
+    @Test
+    void matchesInstancesInAnyOrder() {
+        assertEquals(VerificationResult.CORRECT,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2(V=3,I=0.003)(V=9,I=0.003)").verifyElementParameters(circuit));
+        assertEquals(VerificationResult.CORRECT,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2(V=9,I=0.003)(V1=3.004,I1=0.003)").verifyElementParameters(circuit));
+        assertEquals(VerificationResult.WRONG_PARAMETERS,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2(V=3,I=0.003)(V=3,I=0.003)").verifyElementParameters(circuit));
+        assertEquals(VerificationResult.WRONG_PARAMETERS,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2(V=3.01)(V=9)").verifyElementParameters(circuit));
+    }
+
+    /**
+     * An instance satisfied by both elements does not take the only element satisfying another instance:
+     * a first-fit assignment would give the 3 V resistor to the first instance and fail the second one.
+     */
+    @Test
+    void findsMatchingMissedByFirstFit() {
+        assertEquals(VerificationResult.CORRECT,
+                new CircuitVerifier("VoltageSource: 1\nResistor: 2(I=0.003)(V=3)").verifyElementParameters(circuit));
+    }
+
+    /**
+     * Malformed requirements are rejected when compiling.
+     */
+    @Test
+    void rejectsInvalidRequirements() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitVerifier("Resistor 2"));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitVerifier("Resistor: 1(V=abc)"));
+    }
+
+}
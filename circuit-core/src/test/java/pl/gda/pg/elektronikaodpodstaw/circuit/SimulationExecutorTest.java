@@ -0,0 +1,79 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link SimulationExecutor} keeps running jobs after one of them fails unexpectedly.
+ */
+class SimulationExecutorTest {
+
+    /**
+     * Creates a 5 V source closed by a 1 kΩ resistor.
+     *
+     * @return the created circuit.
+     */
+    private static Circuit loop() {
+        Circuit circuit = new Circuit();
+        circuit.setValue(circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 1, 0, 0), 5);
+        circuit.setValue(circuit.add(ElementKind.RESISTOR, 1, 0, 1, 1), 1000);
+        circuit.add(ElementKind.WIRE, 0, 0, 1, 0);
+        circuit.add(ElementKind.WIRE, 0, 1, 1, 1);
+        return circuit;
+    }
+
+    /**
+     * Simulates a circuit and waits for the outcome.
+     *
+     * @param executor the executor to simulate with.
+     * @param circuit the circuit to simulate.
+     * @return the outcome.
+     * @throws Exception if the outcome does not arrive in time.
+     */
+    private static SimulationOutcome simulate(SimulationExecutor executor, Circuit circuit) throws Exception {
+        CompletableFuture<SimulationOutcome> outcome = new CompletableFuture<>();
+        executor.submit(circuit, SimulationBackend.MNA, null, outcome::complete);
+        return outcome.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * A failure while preparing the working circuit is published as an unexpected error,
+     * and the next job is solved from scratch.
+     */
+    @Test
+    void continuesAfterFailedSetup() throws Exception {
+        Circuit cleared = new Circuit();
+        for (int i = 0; i < 3; i++)
+            cleared.add(ElementKind.RESISTOR, 0, i, 1, i);
+        cleared.clear();
+        try (SimulationExecutor executor = new SimulationExecutor()) {
+            assertTrue(simulate(executor, loop()).isSolved());
+            assertEquals(loop().topologyRevision(), cleared.topologyRevision());
+
+            SimulationOutcome failed = simulate(executor, cleared);
+            assertTrue(failed.isUnexpectedError());
+            assertTrue(simulate(executor, loop()).isSolved());
+        }
+    }
+
+    /**
+     * A publisher throwing an exception does not stop the executor.
+     */
+    @Test
+    void continuesAfterFailedPublisher() throws Exception {
+        try (SimulationExecutor executor = new SimulationExecutor()) {
+            CompletableFuture<Void> thrown = new CompletableFuture<>();
+            executor.submit(loop(), SimulationBackend.MNA, null, _ -> {
+                thrown.complete(null);
+                throw new IllegalStateException("Publisher failed!");
+            });
+            thrown.get(10, TimeUnit.SECONDS);
+            assertTrue(simulate(executor, loop()).isSolved());
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSolution;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link SolutionCache} shared by executors returns the same results as solving.
+ */
+class SolutionCacheTest {
+
+    /**
+     * Creates a voltage divider, adding the elements in the specified order.
+     *
+     * @param reversed whether to add the elements in the reverse order.
+     * @param handles receives the handles of the source and the two resistors.
+     * @return the created circuit.
+     */
+    private static Circuit divider(boolean reversed, int[] handles) {
+        Circuit circuit = new Circuit();
+        int[] order = reversed ? new int[] {4, 3, 2, 1, 0} : new int[] {0, 1, 2, 3, 4};
+        for (int i : order) {
+            switch (i) {
+                case 0 -> handles[0] = circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 2, 0, 0);
+                case 1 -> circuit.add(ElementKind.WIRE, 0, 0, 1, 0);
+                case 2 -> handles[1] = circuit.add(ElementKind.RESISTOR, 1, 0, 1, 1);
+                case 3 -> handles[2] = circuit.add(ElementKind.RESISTOR, 1, 1, 1, 2);
+                default -> circuit.add(ElementKind.WIRE, 1, 2, 0, 2);
+            }
+        }
+        circuit.setValue(handles[0], 12);
+        circuit.setValue(handles[1], 1000);
+        circuit.setValue(handles[2], 3000);
+        return circuit;
+    }
+
+    /**
+     * Simulates a circuit and waits for the outcome.
+     *
+     * @param executor the executor to simulate with.
+     * @param circuit the circuit to simulate.
+     * @return the outcome.
+     * @throws Exception if the outcome does not arrive in time.
+     */
+    private static SimulationOutcome simulate(SimulationExecutor executor, Circuit circuit) throws Exception {
+        CompletableFuture<SimulationOutcome> outcome = new CompletableFuture<>();
+        executor.submit(circuit, SimulationBackend.MNA, null, outcome::complete);
+        return outcome.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * A circuit solved by one executor is taken from the cache by another one, also when its elements were added
+     * in a different order, and the results are the same as solving it.
+     */
+    @Test
+    void hitReturnsSameResults() throws Exception {
+        SolutionCache cache = new SolutionCache(16, 1000);
+        int[] solvedHandles = new int[3];
+        int[] cachedHandles = new int[3];
+        SimulationOutcome solved;
+        SimulationOutcome cached;
+        try (SimulationExecutor first = new SimulationExecutor(cache);
+             SimulationExecutor second = new SimulationExecutor(cache)) {
+            solved = simulate(first, divider(false, solvedHandles));
+            cached = simulate(second, divider(true, cachedHandles));
+        }
+
+        assertTrue(solved.isSolved());
+        assertFalse(solved.isCached());
+        assertTrue(cached.isSolved());
+        assertTrue(cached.isCached());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(solved.circuit().current(solvedHandles[i]), cached.circuit().current(cachedHandles[i]));
+            assertEquals(solved.circuit().voltage(solvedHandles[i]), cached.circuit().voltage(cachedHandles[i]));
+        }
+        assertEquals(3, Math.abs(cached.circuit().current(cachedHandles[1])) * 1000, 1e-4);
+    }
+
+    /**
+     * The ground is the starting point of the first component added, so a hit for the same circuit added
+     * in another order measures its node voltages from another node, the same way solving that circuit does.
+     */
+    @Test
+    void hitMeasuresNodeVoltagesFromOwnGround() throws Exception {
+        SolutionCache cache = new SolutionCache(16, 1000);
+        int[] handles = new int[3];
+        SimulationOutcome cached;
+        try (SimulationExecutor first = new SimulationExecutor(cache);
+             SimulationExecutor second = new SimulationExecutor(cache)) {
+            simulate(first, divider(false, new int[3]));
+            cached = simulate(second, divider(true, handles));
+        }
+        assertTrue(cached.isCached());
+
+        CircuitResults expected = divider(true, new int[3]).solve(SimulationBackend.forName(SimulationBackend.MNA));
+        CircuitResults actual = cached.circuit().results();
+        assertEquals(-9, actual.solution().nodeVoltage(actual.nodeMinus(handles[0])), 1e-6);
+        for (int h : handles) {
+            assertEquals(expected.solution().nodeVoltage(expected.nodePlus(h)), actual.solution().nodeVoltage(actual.nodePlus(h)), 1e-6);
+            assertEquals(expected.solution().nodeVoltage(expected.nodeMinus(h)), actual.solution().nodeVoltage(actual.nodeMinus(h)), 1e-6);
+        }
+    }
+
+    /**
+     * The same circuit drawn on a grid with another spacing and offset, with its resistors the other way round,
+     * is taken from the cache, with the signs of the resistor voltages and currents following their direction.
+     */
+    @Test
+    void scaledAndFlippedCircuitHitsCache() throws Exception {
+        Circuit flipped = new Circuit();
+        int source = flipped.add(ElementKind.VOLTAGE_SOURCE, 100, 240, 100, 80);
+        flipped.add(ElementKind.WIRE, 100, 80, 180, 80);
+        int upper = flipped.add(ElementKind.RESISTOR, 180, 160, 180, 80);
+        int lower = flipped.add(ElementKind.RESISTOR, 180, 240, 180, 160);
+        flipped.add(ElementKind.WIRE, 100, 240, 180, 240);
+        flipped.setValue(source, 12);
+        flipped.setValue(upper, 1000);
+        flipped.setValue(lower, 3000);
+
+        SolutionCache cache = new SolutionCache(16, 1000);
+        SimulationOutcome cached;
+        try (SimulationExecutor first = new SimulationExecutor(cache);
+             SimulationExecutor second = new SimulationExecutor(cache)) {
+            simulate(first, divider(false, new int[3]));
+            cached = simulate(second, flipped);
+        }
+        assertTrue(cached.isCached());
+
+        Circuit solved = new Circuit(flipped);
+        CircuitResults expected = solved.solve(SimulationBackend.forName(SimulationBackend.MNA));
+        DcSolution actual = cached.circuit().results().solution();
+        for (int h : new int[] {source, upper, lower}) {
+            int index = solved.netlistIndex(h);
+            assertEquals(expected.solution().voltage(index), actual.voltage(index), 1e-6);
+            assertEquals(expected.solution().current(index), actual.current(index), 1e-9);
+        }
+        assertEquals(3, actual.voltage(solved.netlistIndex(upper)), 1e-6);
+    }
+
+    /**
+     * Changing a value misses the cache, and clearing it resets the counters.
+     */
+    @Test
+    void changedValueMissesCache() throws Exception {
+        SolutionCache cache = new SolutionCache(16, 1000);
+        int[] handles = new int[3];
+        Circuit circuit = divider(false, handles);
+        try (SimulationExecutor executor = new SimulationExecutor(cache)) {
+            simulate(executor, circuit);
+            circuit.setValue(handles[2], 1000);
+            SimulationOutcome outcome = simulate(executor, circuit);
+            assertFalse(outcome.isCached());
+            assertEquals(6, Math.abs(outcome.circuit().voltage(handles[2])), 1e-4);
+        }
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.misses());
+    }
+
+}
@@ -0,0 +1,79 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit;
+
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.MnaSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks which structures {@link TopologyValidator} rejects and that the accepted ones can be solved.
+ */
+class TopologyValidatorTest {
+
+    /**
+     * Creates a 10 V source feeding a 1 kΩ resistor in series with two elements of the same kind in parallel.
+     *
+     * @param kind the kind of the parallel elements.
+     * @param handles receives the handles of the two parallel elements.
+     * @return the created circuit.
+     */
+    private static Circuit parallelPair(ElementKind kind, int[] handles) {
+        Circuit circuit = new Circuit();
+        circuit.setValue(circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 1, 0, 0), 10);
+        circuit.setValue(circuit.add(ElementKind.RESISTOR, 0, 0, 1, 0), 1000);
+        handles[0] = circuit.add(kind, 1, 0, 1, 1);
+        handles[1] = circuit.add(kind, 2, 0, 2, 1);
+        circuit.add(ElementKind.WIRE, 1, 0, 2, 0);
+        circuit.add(ElementKind.WIRE, 1, 1, 2, 1);
+        circuit.add(ElementKind.WIRE, 0, 1, 1, 1);
+        circuit.setValue(handles[0], 0.001f);
+        circuit.setValue(handles[1], 0.001f);
+        return circuit;
+    }
+
+    /**
+     * Ammeters and inductors in parallel are accepted and share the current like the tiny resistances they
+     * stand for in the netlist.
+     */
+    @Test
+    void acceptsParallelAmmetersAndInductors() {
+        for (ElementKind kind : new ElementKind[] {ElementKind.AMMETER, ElementKind.INDUCTOR}) {
+            int[] handles = new int[2];
+            Circuit circuit = parallelPair(kind, handles);
+            assertNull(TopologyValidator.validate(circuit), kind.typeName());
+
+            circuit.solve(new MnaSolver());
+            assertEquals(0.005, Math.abs(circuit.current(handles[0])), 1e-6, kind.typeName());
+            assertEquals(0.005, Math.abs(circuit.current(handles[1])), 1e-6, kind.typeName());
+        }
+    }
+
+    /**
+     * An ammeter across a voltage source is accepted, as in the JSpice netlist, and shorts it.
+     */
+    @Test
+    void acceptsAmmeterAcrossSource() {
+        Circuit circuit = new Circuit();
+        int source = circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 1, 0, 0);
+        circuit.setValue(source, 1);
+        int ammeter = circuit.add(ElementKind.AMMETER, 1, 0, 1, 1);
+        circuit.add(ElementKind.WIRE, 0, 0, 1, 0);
+        circuit.add(ElementKind.WIRE, 0, 1, 1, 1);
+        assertNull(TopologyValidator.validate(circuit));
+
+        CircuitResults results = circuit.solve(new MnaSolver());
+        assertEquals(1e11, Math.abs(results.solution().current(circuit.netlistIndex(ammeter))), 1e3);
+    }
+
+    /**
+     * Voltage sources in parallel are rejected with both sources marked.
+     */
+    @Test
+    void rejectsParallelVoltageSources() {
+        int[] handles = new int[2];
+        TopologyFault fault = TopologyValidator.validate(parallelPair(ElementKind.VOLTAGE_SOURCE, handles));
+        assertNotNull(fault);
+        assertEquals(TopologyProblem.VOLTAGE_LOOP, fault.problem());
+    }
+
+}
@@ -0,0 +1,166 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link SpicePlacement} draws decks with the connectivity they describe and without junctions
+ * that look connected but are not.
+ */
+class SpicePlacementTest {
+
+    /**
+     * Reads a deck from text.
+     *
+     * @param text the deck, starting with the title line.
+     * @return the deck.
+     * @throws IOException never.
+     */
+    private static SpiceDeck deck(String text) throws IOException {
+        return SpiceDeck.read(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    /**
+     * Asserts that no end of a placed element lies inside another element, where it would look connected.
+     *
+     * @param placement the placement to check.
+     */
+    private static void assertNoHiddenJunctions(SpicePlacement placement) {
+        for (int i = 0; i < placement.size(); i++) {
+            int[][] ends = {{placement.startColumn(i), placement.startRow(i)}, {placement.endColumn(i), placement.endRow(i)}};
+            for (int j = 0; j < placement.size(); j++) {
+                int minColumn = Math.min(placement.startColumn(j), placement.endColumn(j));
+                int maxColumn = Math.max(placement.startColumn(j), placement.endColumn(j));
+                int minRow = Math.min(placement.startRow(j), placement.endRow(j));
+                int maxRow = Math.max(placement.startRow(j), placement.endRow(j));
+                for (int[] end : ends) {
+                    boolean isInsideRow = minRow == maxRow && end[1] == minRow && end[0] > minColumn && end[0] < maxColumn;
+                    boolean isInsideColumn = minColumn == maxColumn && end[0] == minColumn && end[1] > minRow && end[1] < maxRow;
+                    assertFalse(isInsideRow || isInsideColumn, "End of element " + i + " lies inside element " + j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that the nodes of the placed circuit correspond one to one to the nodes of the deck.
+     *
+     * @param deck the deck.
+     * @param placement the placement of the deck.
+     */
+    private static void assertSameConnectivity(SpiceDeck deck, SpicePlacement placement) {
+        Circuit circuit = new Circuit();
+        placement.addTo(circuit, 0, 0, 10, 10);
+        circuit.assignNodes();
+        int[] circuitNodes = new int[deck.nodeCount()];
+        int[] deckNodes = new int[deck.nodeCount()];
+        Arrays.fill(circuitNodes, -1);
+        Arrays.fill(deckNodes, -1);
+        int component = 0;
+        for (int h = 0; h < circuit.handleLimit(); h++) {
+            if (!circuit.contains(h) || placement.kind(h) == ElementKind.WIRE)
+                continue;
+            int[][] pairs = {{deck.plus(component), circuit.nodePlus(h)}, {deck.minus(component), circuit.nodeMinus(h)}};
+            for (int[] pair : pairs) {
+                if (circuitNodes[pair[0]] < 0 && pair[1] < deckNodes.length && deckNodes[pair[1]] < 0) {
+                    circuitNodes[pair[0]] = pair[1];
+                    deckNodes[pair[1]] = pair[0];
+                }
+                assertEquals(circuitNodes[pair[0]], pair[1], "Node of component " + component);
+            }
+            component++;
+        }
+        assertEquals(deck.size(), component);
+    }
+
+    /**
+     * A component whose inner end would land on the bus of another node gets empty rows between the node rows.
+     */
+    @Test
+    void separatesInnerEndsFromForeignBuses() throws IOException {
+        SpiceDeck deck = deck("""
+                crossing
+                R1 1 2 1k
+                V1 1 0 5
+                R2 2 0 3k
+                R3 2 0 2k
+                .end
+                """);
+        SpicePlacement placement = new SpicePlacement(deck);
+        assertEquals(5, placement.rows());
+        assertEquals(3, placement.columns());
+        assertNoHiddenJunctions(placement);
+        assertSameConnectivity(deck, placement);
+    }
+
+    /**
+     * A deck without such components keeps one row per node.
+     */
+    @Test
+    void keepsCompactRowsWhenPossible() throws IOException {
+        SpiceDeck deck = deck("""
+                divider
+                V1 1 0 10
+                R1 1 2 1k
+                R2 2 0 1k
+                C1 2 0 1u
+                .end
+                """);
+        SpicePlacement placement = new SpicePlacement(deck);
+        assertEquals(3, placement.rows());
+        assertNoHiddenJunctions(placement);
+        assertSameConnectivity(deck, placement);
+    }
+
+    /**
+     * Components whose spans of rows do not overlap share a column, so a long ladder fits in a few columns.
+     */
+    @Test
+    void packsComponentsIntoSharedColumns() throws IOException {
+        StringBuilder text = new StringBuilder("ladder\nV1 1 0 5\n");
+        for (int node = 1; node <= 20; node++)
+            text.append("R").append(node).append(' ').append(node).append(' ').append(node + 1).append(" 1k\n");
+        text.append("R21 21 0 1k\n");
+        SpiceDeck deck = deck(text.append(".end\n").toString());
+        SpicePlacement placement = new SpicePlacement(deck);
+        assertEquals(2, placement.columns());
+        assertEquals(22, placement.rows());
+        assertNoHiddenJunctions(placement);
+        assertSameConnectivity(deck, placement);
+    }
+
+    /**
+     * A larger mesh of resistors between many nodes is drawn without hidden junctions and with its connectivity.
+     */
+    @Test
+    void placesMeshWithoutHiddenJunctions() throws IOException {
+        StringBuilder text = new StringBuilder("mesh\nV1 1 0 5\n");
+        int resistor = 1;
+        for (int a = 0; a < 6; a++) {
+            for (int b = a + 2; b <= 6; b += 2)
+                text.append("R").append(resistor++).append(' ').append(b).append(' ').append(a).append(" 1k\n");
+        }
+        SpiceDeck deck = deck(text.append(".end\n").toString());
+        SpicePlacement placement = new SpicePlacement(deck);
+        assertNoHiddenJunctions(placement);
+        assertSameConnectivity(deck, placement);
+    }
+
+    /**
+     * A component connected to the same node twice cannot be placed.
+     */
+    @Test
+    void rejectsComponentOnOneNode() throws IOException {
+        SpiceDeck deck = deck("shorted\nV1 1 0 5\nR1 1 1 1k\n.end\n");
+        assertThrows(IllegalArgumentException.class, () -> new SpicePlacement(deck));
+    }
+
+}
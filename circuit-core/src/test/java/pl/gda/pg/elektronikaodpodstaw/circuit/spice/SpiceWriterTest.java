@@ -0,0 +1,58 @@
+package pl.gda.pg.elektronikaodpodstaw.circuit.spice;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that decks written by {@link SpiceWriter} read back with the same values.
+ */
+class SpiceWriterTest {
+
+    /**
+     * Reads a deck from text.
+     *
+     * @param text the deck, starting with the title line.
+     * @return the deck.
+     * @throws IOException never.
+     */
+    private static SpiceDeck deck(String text) throws IOException {
+        return SpiceDeck.read(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    /**
+     * A deck placed into a circuit and written again keeps every value exactly, also values a float cannot hold.
+     */
+    @Test
+    void roundTripKeepsExactValues() throws IOException {
+        SpiceDeck original = deck("""
+                * precision
+                V1 1 0 DC 1.000001k
+                R1 1 2 4.7e-9
+                R2 2 0 0.1
+                C1 2 0 123456789.123
+                I1 0 2 DC 3.3333333333e-7
+                .end
+                """);
+        Circuit circuit = new Circuit();
+        new SpicePlacement(original).addTo(circuit, 0, 0, 1, 1);
+        StringWriter written = new StringWriter();
+        SpiceWriter.write(circuit, written);
+        SpiceDeck read = deck(written.toString());
+
+        assertEquals(original.size(), read.size());
+        assertEquals(1000.001, read.value(0));
+        assertEquals(4.7e-9, read.value(1));
+        for (int k = 0; k < original.size(); k++) {
+            assertEquals(original.kind(k), read.kind(k));
+            assertEquals(original.value(k), read.value(k), "Value of component " + k);
+        }
+    }
+
+}
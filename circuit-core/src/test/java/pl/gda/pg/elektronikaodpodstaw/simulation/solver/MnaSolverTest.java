@@ -0,0 +1,86 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link MnaSolver} gives the same solution when it re-solves a netlist after a change of values
+ * as when it solves the changed netlist from scratch.
+ */
+class MnaSolverTest {
+
+    /** The allowed difference between the reused and the fresh solution. */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Creates a bridge of resistors fed by a voltage source and a current source.
+     *
+     * @return the created netlist.
+     */
+    private static CircuitNetlist bridge() {
+        CircuitNetlist netlist = new CircuitNetlist(4);
+        netlist.add(ComponentType.VOLTAGE_SOURCE, "V1", 1, 0, 10);
+        netlist.add(ComponentType.RESISTOR, "R1", 1, 2, 1000);
+        netlist.add(ComponentType.RESISTOR, "R2", 2, 0, 2200);
+        netlist.add(ComponentType.RESISTOR, "R3", 1, 3, 470);
+        netlist.add(ComponentType.RESISTOR, "R4", 3, 0, 3300);
+        netlist.add(ComponentType.RESISTOR, "R5", 2, 3, 100);
+        netlist.add(ComponentType.CURRENT_SOURCE, "I1", 3, 0, 0.002);
+        return netlist;
+    }
+
+    /**
+     * Asserts that two solutions of the same netlist are equal.
+     *
+     * @param expected the solution of a fresh solver.
+     * @param actual the solution of the reused solver.
+     */
+    private static void assertSameSolution(DcSolution expected, DcSolution actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int e = 0; e < expected.size(); e++) {
+            assertEquals(expected.voltage(e), actual.voltage(e), TOLERANCE);
+            assertEquals(expected.current(e), actual.current(e), TOLERANCE);
+        }
+        for (int node = 0; node < 4; node++)
+            assertEquals(expected.nodeVoltage(node), actual.nodeVoltage(node), TOLERANCE);
+    }
+
+    /**
+     * Re-solving after changes of resistors, sources, or both equals solving the changed netlist again.
+     */
+    @Test
+    void valueOnlyResolveEqualsFullSolve() {
+        CircuitNetlist netlist = bridge();
+        MnaSolver reused = new MnaSolver();
+        assertSameSolution(new MnaSolver().solveDc(new CircuitNetlist(netlist)), reused.solveDc(netlist));
+
+        double[][] changes = {{1, 1500}, {0, 5}, {6, -0.001}, {5, 47}, {2, 10}, {0, 12}};
+        for (double[] change : changes) {
+            netlist.setValue((int) change[0], change[1]);
+            DcSolution resolved = reused.solveDc(netlist);
+            assertSameSolution(new MnaSolver().solveDc(new CircuitNetlist(netlist)), resolved);
+        }
+
+        netlist.setValue(3, 2000);
+        netlist.setValue(6, 0.01);
+        assertSameSolution(new MnaSolver().solveDc(new CircuitNetlist(netlist)), reused.solveDc(netlist));
+        assertSameSolution(new MnaSolver().solveDc(new CircuitNetlist(netlist)), reused.solveDc(netlist));
+    }
+
+    /**
+     * The solution of a simple divider matches the hand computation, up to the minimum conductance to the ground.
+     */
+    @Test
+    void solvesVoltageDivider() {
+        CircuitNetlist netlist = new CircuitNetlist(3);
+        netlist.add(ComponentType.VOLTAGE_SOURCE, "V1", 1, 0, 9);
+        netlist.add(ComponentType.RESISTOR, "R1", 1, 2, 2000);
+        netlist.add(ComponentType.RESISTOR, "R2", 2, 0, 1000);
+
+        DcSolution solution = new MnaSolver().solveDc(netlist);
+        assertEquals(3, solution.nodeVoltage(2), 1e-6);
+        assertEquals(0.003, Math.abs(solution.current(1)), 1e-9);
+    }
+
+}
@@ -0,0 +1,49 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link MonteCarloAnalysis} accounts for every sample it draws.
+ */
+class MonteCarloAnalysisTest {
+
+    /**
+     * Creates a voltage divider.
+     *
+     * @return the created netlist.
+     */
+    private static CircuitNetlist divider() {
+        CircuitNetlist netlist = new CircuitNetlist(3);
+        netlist.add(ComponentType.VOLTAGE_SOURCE, "V1", 1, 0, 12);
+        netlist.add(ComponentType.RESISTOR, "R1", 1, 2, 1000);
+        netlist.add(ComponentType.RESISTOR, "R2", 2, 0, 3000);
+        return netlist;
+    }
+
+    /**
+     * Samples failing with an exception, both among the pilot samples and among the parallel ones,
+     * are counted as failed, and all the others make up the statistics.
+     */
+    @Test
+    void countsThrowingSamplesAsFailed() throws InterruptedException {
+        MonteCarloAnalysis analysis = new MonteCarloAnalysis(divider());
+        analysis.sampleCheck = sample -> {
+            if (sample % 7 == 3)
+                throw new IllegalStateException("Sample " + sample);
+        };
+        int samples = 2000;
+        MonteCarloResult result = analysis.run(samples, 42, 50);
+
+        long failed = (samples - 3 + 6) / 7;
+        assertEquals(samples, result.samples());
+        assertEquals(failed, result.failedSamples());
+        for (int e = 0; e < 3; e++) {
+            assertEquals(samples - failed, result.voltage(e).count());
+            assertEquals(samples - failed, result.current(e).count());
+        }
+        assertEquals(12, result.voltage(0).mean(), 1e-12);
+    }
+
+}
@@ -0,0 +1,61 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+/**
+ * Measures the node assignment on generated square wire meshes of growing size, to show that the time per
+ * wire stays flat. It is not run by the test suite; run it with the test classpath:
+ * {@code java -cp <test-classes>:<classes> pl.gda.pg.elektronikaodpodstaw.simulation.solver.NodeAssignerBenchmark}.
+ */
+public final class NodeAssignerBenchmark {
+
+    /** The number of measured assignments per mesh size. */
+    private static final int ROUNDS = 20;
+
+    /**
+     * Prevents instantiation.
+     */
+    private NodeAssignerBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the time per wire for each mesh size.
+     *
+     * @param args not used.
+     */
+    public static void main(String[] args) {
+        NodeAssigner assigner = new NodeAssigner(16);
+        for (int side : new int[] {16, 32, 64, 128, 256, 16, 32, 64, 128, 256}) {
+            int wires = 2 * side * (side - 1);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                assignMesh(assigner, side);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("%4d x %-4d mesh, %6d wires: %8.1f us, %5.1f ns per wire%n",
+                    side, side, wires, best / 1e3, (double) best / wires);
+        }
+    }
+
+    /**
+     * Assigns the nodes of a square mesh of wires with one component across two corners.
+     *
+     * @param assigner the assigner to reuse.
+     * @param side the number of grid points on each side of the mesh.
+     */
+    private static void assignMesh(NodeAssigner assigner, int side) {
+        assigner.clear();
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                int terminal = assigner.terminal(x, y);
+                if (x > 0)
+                    assigner.connect(assigner.terminal(x - 1, y), terminal);
+                if (y > 0)
+                    assigner.connect(assigner.terminal(x, y - 1), terminal);
+            }
+        }
+        assigner.attachComponent(assigner.terminal(0, 0), assigner.terminal(-1, -1));
+        if (assigner.assign() != 2)
+            throw new IllegalStateException("Mesh must form two nodes!");
+    }
+
+}
@@ -0,0 +1,124 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import org.junit.jupiter.api.Test;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the node numbering of {@link NodeAssigner} and of {@link Circuit#assignNodes()}.
+ */
+class NodeAssignerTest {
+
+    /**
+     * Terminals joined by a chain of wires form one node, and registering a point again returns the same terminal.
+     */
+    @Test
+    void wiresMergeTerminalsIntoOneNode() {
+        NodeAssigner assigner = new NodeAssigner(4);
+        int a = assigner.terminal(0, 0);
+        int b = assigner.terminal(1, 0);
+        int c = assigner.terminal(2, 0);
+        int d = assigner.terminal(3, 0);
+        assertEquals(a, assigner.terminal(0, 0));
+        assigner.connect(a, b);
+        assigner.connect(c, b);
+        assigner.attachComponent(a, d);
+        assigner.connect(c, c);
+
+        assertEquals(2, assigner.assign());
+        assertEquals(0, assigner.node(a));
+        assertEquals(0, assigner.node(b));
+        assertEquals(0, assigner.node(c));
+        assertEquals(1, assigner.node(d));
+    }
+
+    /**
+     * The ground is the negative end of the first component, component nodes are dense from 0,
+     * and nodes made only of wires are numbered after them.
+     */
+    @Test
+    void numbersComponentNodesDenselyWithGroundFirst() {
+        NodeAssigner assigner = new NodeAssigner(2);
+        int strayStart = assigner.terminal(100, 100);
+        int strayEnd = assigner.terminal(101, 100);
+        int minus = assigner.terminal(5, 5);
+        int plus = assigner.terminal(5, 6);
+        int other = assigner.terminal(9, 9);
+        assigner.connect(strayStart, strayEnd);
+        assigner.attachComponent(minus, plus);
+        assigner.attachComponent(plus, other);
+
+        assertEquals(3, assigner.assign());
+        assertEquals(0, assigner.node(minus));
+        assertEquals(1, assigner.node(plus));
+        assertEquals(2, assigner.node(other));
+        assertEquals(3, assigner.node(strayStart));
+        assertEquals(3, assigner.node(strayEnd));
+    }
+
+    /**
+     * Clearing the assigner forgets all terminals, so the same points are numbered from scratch.
+     */
+    @Test
+    void clearForgetsTerminals() {
+        NodeAssigner assigner = new NodeAssigner(8);
+        assigner.connect(assigner.terminal(0, 0), assigner.terminal(0, 1));
+        assigner.attachComponent(assigner.terminal(0, 1), assigner.terminal(0, 2));
+        assigner.assign();
+
+        assigner.clear();
+        int a = assigner.terminal(0, 2);
+        int b = assigner.terminal(0, 0);
+        assigner.attachComponent(a, b);
+        assertEquals(2, assigner.assign());
+        assertEquals(0, a);
+        assertEquals(0, assigner.node(a));
+        assertEquals(1, assigner.node(b));
+    }
+
+    /**
+     * A long wire mesh grows the storage past its initial capacity and keeps every terminal in one node.
+     */
+    @Test
+    void growsBeyondInitialCapacity() {
+        NodeAssigner assigner = new NodeAssigner(1);
+        int first = assigner.terminal(-1, -1);
+        int previous = first;
+        for (int i = 0; i < 10_000; i++) {
+            int next = assigner.terminal(i, -i);
+            assigner.connect(previous, next);
+            previous = next;
+        }
+        int end = assigner.terminal(1_000_000, 0);
+        assigner.attachComponent(first, end);
+
+        assertEquals(2, assigner.assign());
+        assertEquals(0, assigner.node(previous));
+        assertEquals(1, assigner.node(end));
+    }
+
+    /**
+     * A circuit numbers the nodes of its elements like the assigner, regardless of the direction of the wires.
+     */
+    @Test
+    void circuitAssignsNodesToElements() {
+        Circuit circuit = new Circuit();
+        int source = circuit.add(ElementKind.VOLTAGE_SOURCE, 0, 1, 0, 0);
+        int top = circuit.add(ElementKind.WIRE, 1, 0, 0, 0);
+        int resistor = circuit.add(ElementKind.RESISTOR, 1, 0, 1, 1);
+        int bottom = circuit.add(ElementKind.WIRE, 0, 1, 1, 1);
+        int stray = circuit.add(ElementKind.WIRE, 5, 5, 6, 5);
+
+        assertEquals(2, circuit.assignNodes());
+        assertEquals(0, circuit.nodeMinus(source));
+        assertEquals(1, circuit.nodePlus(source));
+        assertEquals(1, circuit.nodeMinus(resistor));
+        assertEquals(0, circuit.nodePlus(resistor));
+        assertEquals(circuit.nodePlus(top), circuit.nodeMinus(top));
+        assertEquals(circuit.nodePlus(bottom), circuit.nodeMinus(bottom));
+        assertEquals(2, circuit.nodeMinus(stray));
+    }
+
+}
@@ -0,0 +1,91 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the step responses computed by {@link TransientSolver} with the analytic RC and RL curves.
+ */
+class TransientSolverTest {
+
+    /** The voltage of the switched-on source. */
+    private static final double SOURCE = 5;
+
+    /** The resistance in series with the reactive component. */
+    private static final double RESISTANCE = 1000;
+
+    /** The time constant of both circuits, 1 ms. */
+    private static final double TAU = 1e-3;
+
+    /**
+     * Creates a source in series with a resistor and a reactive component, which is the third component.
+     *
+     * @param type the type of the reactive component.
+     * @param value the capacitance or inductance giving a time constant of {@link #TAU}.
+     * @return the created netlist.
+     */
+    private static CircuitNetlist series(ComponentType type, double value) {
+        CircuitNetlist netlist = new CircuitNetlist(3);
+        netlist.add(ComponentType.VOLTAGE_SOURCE, "V1", 1, 0, SOURCE);
+        netlist.add(ComponentType.RESISTOR, "R1", 1, 2, RESISTANCE);
+        netlist.add(type, type == ComponentType.CAPACITOR ? "C1" : "L1", 2, 0, value);
+        return netlist;
+    }
+
+    /**
+     * Runs the transient analysis over five time constants and returns the largest deviation of the capacitor
+     * voltage or inductor current from the analytic curve, relative to its final value.
+     *
+     * @param type the type of the reactive component.
+     * @param method the integration method.
+     * @return the largest relative deviation.
+     */
+    private static double maxDeviation(ComponentType type, IntegrationMethod method) {
+        boolean isCapacitor = type == ComponentType.CAPACITOR;
+        CircuitNetlist netlist = series(type, isCapacitor ? TAU / RESISTANCE : TAU * RESISTANCE);
+        TransientWaveform waveform = new TransientWaveform(netlist.size(), 4096);
+        new TransientSolver(netlist, method).run(5 * TAU, TAU / 400, waveform);
+
+        assertTrue(waveform.size() > 100);
+        assertEquals(0, waveform.time(0));
+        assertEquals(5 * TAU, waveform.time(waveform.size() - 1), 1e-15);
+        double finalValue = isCapacitor ? SOURCE : SOURCE / RESISTANCE;
+        double deviation = 0;
+        for (int sample = 0; sample < waveform.size(); sample++) {
+            double expected = finalValue * (1 - Math.exp(-waveform.time(sample) / TAU));
+            double actual = isCapacitor ? waveform.voltage(2, sample) : waveform.current(2, sample);
+            deviation = Math.max(deviation, Math.abs(actual - expected) / finalValue);
+        }
+        return deviation;
+    }
+
+    /**
+     * The capacitor of an RC circuit charges along {@code 1 - exp(-t / tau)}.
+     */
+    @Test
+    void rcChargingMatchesAnalyticCurve() {
+        assertEquals(0, maxDeviation(ComponentType.CAPACITOR, IntegrationMethod.TRAPEZOIDAL), 1e-4);
+        assertEquals(0, maxDeviation(ComponentType.CAPACITOR, IntegrationMethod.BACKWARD_EULER), 2e-3);
+    }
+
+    /**
+     * The current of an RL circuit rises along {@code 1 - exp(-t / tau)}.
+     */
+    @Test
+    void rlCurrentMatchesAnalyticCurve() {
+        assertEquals(0, maxDeviation(ComponentType.INDUCTOR, IntegrationMethod.TRAPEZOIDAL), 1e-4);
+        assertEquals(0, maxDeviation(ComponentType.INDUCTOR, IntegrationMethod.BACKWARD_EULER), 2e-3);
+    }
+
+    /**
+     * A waveform sized for another netlist and non-positive times are rejected.
+     */
+    @Test
+    void rejectsInvalidArguments() {
+        TransientSolver solver = new TransientSolver(series(ComponentType.CAPACITOR, 1e-6), IntegrationMethod.TRAPEZOIDAL);
+        assertThrows(IllegalArgumentException.class, () -> solver.run(1e-3, 1e-5, new TransientWaveform(2, 16)));
+        assertThrows(IllegalArgumentException.class, () -> solver.run(0, 1e-5, new TransientWaveform(3, 16)));
+    }
+
+}
@@ -39,13 +39,16 @@ public class ConfigManager {
 
     /**
      * Sets the default configuration settings and saves them to the file.
-     * Default settings include available level, current theme, background, resistor symbol, and completion status of the game.
+     * Default settings include available level, current theme, background, resistor symbol, simulation backend, free simulation grid size, and completion status of the game.
      */
     public void setDefaultConfig() {
         properties.setProperty("level", "1");
         properties.setProperty("theme", "light");
         properties.setProperty("background", "/backgrounds/background1.jpg");
         properties.setProperty("resistorSymbol", "IEC");
+        properties.setProperty("solver", "MNA");
+        properties.setProperty("gridColumns", "7");
+        properties.setProperty("gridRows", "4");
         properties.setProperty("isCompleted", "no");
         saveConfig();
     }
@@ -71,6 +74,18 @@ public class ConfigManager {
         return properties.getProperty(key);
     }
 
+    /**
+     * Retrieves the value of a configuration setting by its key, falling back to a default
+     * for settings missing from older configuration files.
+     *
+     * @param key the name of the setting.
+     * @param defaultValue the value returned if the key does not exist.
+     * @return the value of the setting, or {@code defaultValue} if the key does not exist.
+     */
+    public String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
     /**
      * Updates the value of a configuration setting and saves the changes to the file.
      *
@@ -1,5 +1,6 @@
 package pl.gda.pg.elektronikaodpodstaw.levels;
 
+import pl.gda.pg.elektronikaodpodstaw.circuit.CircuitVerifier;
 import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
 import pl.gda.pg.elektronikaodpodstaw.ui.AnswerStagePanel;
 import pl.gda.pg.elektronikaodpodstaw.ui.SimulationStagePanel;
@@ -21,6 +22,12 @@ public class LevelManager {
     /** Indicates whether the current stage is a question-answer stage. */
     private static boolean isAnswerStage;
 
+    /** The panel of all question-answer stages, or {@code null} before the first one is loaded. */
+    private static AnswerStagePanel answerStagePanel = null;
+
+    /** The panel of all simulation stages and of free simulation, or {@code null} before the first one is loaded. */
+    private static SimulationStagePanel simulationStagePanel = null;
+
     /**
      * Constructs a new instance of the class.
      * Used to initialize the object without any specific parameters or setup.
@@ -35,7 +42,7 @@ public class LevelManager {
      * @return the number of stages in the current level.
      */
     public static int getCurrentMaxStageIndex() {
-        Level currentLevel = Levels.levelsList.get(currentLevelIndex);
+        Level currentLevel = Levels.get(currentLevelIndex + 1);
         return currentLevel.stages().size();
     }
 
@@ -50,30 +57,96 @@ public class LevelManager {
 
     /**
      * Loads the current stage of the current level and updates the game view.
+     * The stage is loaded into the panel of its kind, which is created only for the first stage of that kind.
+     * Only the current level is built, and its tasks get new parameters whenever it is started from its first stage.
      *
      * @param frame the main application frame to update with the current stage panel.
      */
     public static void loadLevelStage(MainFrame frame) {
-        Levels.initializeLevels();
         currentLevelIndex = MainFrame.currentLevel - 1;
-        Level currentLevel = Levels.levelsList.get(currentLevelIndex);
+        if (currentStageIndex == 0)
+            Levels.reshuffle(MainFrame.currentLevel);
+        Level currentLevel = Levels.get(MainFrame.currentLevel);
         Stage currentStage = currentLevel.stages().get(currentStageIndex);
 
-        JPanel currentStagePanel;
         if (currentStage.isAnswerStage()) {
-            currentStagePanel = new AnswerStagePanel(frame, currentStage.getQuestion(), currentStage.getCorrectAnswer(), currentLevel.theory());
             isAnswerStage = true;
+            if (answerStagePanel == null)
+                answerStagePanel = new AnswerStagePanel(frame, currentStage.getQuestion(), currentStage.getCorrectAnswer(), currentLevel.theory());
+            else
+                answerStagePanel.loadStage(frame, currentStage.getQuestion(), currentStage.getCorrectAnswer(), currentLevel.theory());
+            showStagePanel(frame, answerStagePanel);
         } else {
             isAnswerStage = false;
-            currentStagePanel = new SimulationStagePanel(frame, currentStage.getQuestion(), currentStage.getSimulationParams(), currentLevel.theory());
+            loadSimulation(frame, currentStage.getQuestion(), currentStage.getVerifier(), currentLevel.theory());
         }
+    }
+
+    /**
+     * Loads free simulation into the simulation panel and updates the game view.
+     *
+     * @param frame the main application frame to update with the simulation panel.
+     */
+    public static void loadFreeSimulation(MainFrame frame) {
+        MainFrame.currentLevel = 11;
+        loadSimulation(frame, "", null, "");
+    }
+
+    /**
+     * Loads a simulation stage into the simulation panel, creating the panel first if needed, and shows it.
+     *
+     * @param frame the main application frame.
+     * @param question the question text for the simulation stage, empty in free simulation.
+     * @param verifier the verification plan of the stage, or {@code null} in free simulation.
+     * @param theory the theory content associated with the current level.
+     */
+    private static void loadSimulation(MainFrame frame, String question, CircuitVerifier verifier, String theory) {
+        if (simulationStagePanel == null)
+            simulationStagePanel = new SimulationStagePanel(frame, question, verifier, theory);
+        else
+            simulationStagePanel.loadStage(frame, question, verifier, theory);
+        showStagePanel(frame, simulationStagePanel);
+    }
 
-        frame.getContentPane().add(currentStagePanel, "CurrentLevel");
-        ((CardLayout) frame.getContentPane().getLayout()).show(frame.getContentPane(), "CurrentLevel");
+    /**
+     * Shows a stage panel as the only "CurrentLevel" card, removing the panel of the other kind from the frame,
+     * so that at most one stage panel is part of the window at any time.
+     *
+     * @param frame the main application frame.
+     * @param stagePanel the stage panel to show.
+     */
+    private static void showStagePanel(MainFrame frame, JPanel stagePanel) {
+        Container contentPane = frame.getContentPane();
+        if (stagePanel.getParent() != contentPane) {
+            if (answerStagePanel != null)
+                contentPane.remove(answerStagePanel);
+            if (simulationStagePanel != null)
+                contentPane.remove(simulationStagePanel);
+            contentPane.add(stagePanel, "CurrentLevel");
+        }
+        ((CardLayout) contentPane.getLayout()).show(contentPane, "CurrentLevel");
         frame.revalidate();
         frame.repaint();
     }
 
+    /**
+     * Removes the stage panels from the frame and releases their resources, stopping any running simulation.
+     * The next stage creates new panels.
+     *
+     * @param frame the main application frame.
+     */
+    public static void disposeStagePanels(MainFrame frame) {
+        if (answerStagePanel != null) {
+            frame.getContentPane().remove(answerStagePanel);
+            answerStagePanel = null;
+        }
+        if (simulationStagePanel != null) {
+            frame.getContentPane().remove(simulationStagePanel);
+            simulationStagePanel.dispose();
+            simulationStagePanel = null;
+        }
+    }
+
     /**
      * Advances to the next stage in the current level or ends the game if it is the final stage.
      *
@@ -81,7 +154,7 @@ public class LevelManager {
      */
     public void nextStage(MainFrame frame) {
         String StageInfo = LevelManager.getCurrentStageIndex() + 1 + " / " + LevelManager.getCurrentMaxStageIndex();
-        if (currentStageIndex + 1 == getCurrentMaxStageIndex() && MainFrame.currentLevel == Levels.levelsList.size()) {
+        if (currentStageIndex + 1 == getCurrentMaxStageIndex() && MainFrame.currentLevel == Levels.LEVEL_COUNT) {
             Levels.endMessage(frame);
             MainFrame.configManager.setProperty("isCompleted","yes");
             MainFrame.isCompleted = "yes";
@@ -111,7 +184,7 @@ public class LevelManager {
      * Updates the configuration and resets the stage index.
      */
     private void upgradeLevel() {
-        if (MainFrame.currentLevel < Levels.levelsList.size() && MainFrame.currentLevel == MainFrame.availableLevel) {
+        if (MainFrame.currentLevel < Levels.LEVEL_COUNT && MainFrame.currentLevel == MainFrame.availableLevel) {
             currentStageIndex = 0;
             currentLevelIndex++;
             MainFrame.currentLevel++;
@@ -119,7 +192,7 @@ public class LevelManager {
             MainFrame.configManager.setProperty("level", String.valueOf(MainFrame.availableLevel));
             MainFrame.setLevel.updateLevelButtons();
         }
-        else if (MainFrame.currentLevel < Levels.levelsList.size()) {
+        else if (MainFrame.currentLevel < Levels.LEVEL_COUNT) {
             currentStageIndex = 0;
             currentLevelIndex++;
             MainFrame.currentLevel++;
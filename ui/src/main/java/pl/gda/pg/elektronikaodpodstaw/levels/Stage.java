@@ -1,5 +1,7 @@
 package pl.gda.pg.elektronikaodpodstaw.levels;
 
+import pl.gda.pg.elektronikaodpodstaw.circuit.CircuitVerifier;
+
 /**
  * Represents a single stage in game.
  * A stage can either be a question-answer stage or a simulation-based stage,
@@ -19,6 +21,9 @@ public class Stage {
     /** Indicates whether this stage is a question-answer stage. */
     private final boolean isAnswerStage;
 
+    /** The verification plan compiled from the simulation parameters, if applicable. */
+    private final CircuitVerifier verifier;
+
     /**
      * Constructs a question-answer stage with the specified question and correct answer.
      *
@@ -31,6 +36,7 @@ public class Stage {
         this.correctAnswer = correctAnswer;
         this.isAnswerStage = isAnswerStage;
         this.simulationParams = null;
+        this.verifier = null;
     }
 
     /**
@@ -40,12 +46,14 @@ public class Stage {
      * @param simulationParams the correct parameters for the simulation.
      * The {@code isAnswerStage} field is set to {@code false}, and the {@code correctAnswer} field is set to {@code null}
      * as this constructor is specifically for simulation stages.
+     * @throws IllegalArgumentException if the simulation parameters are invalid.
      */
     public Stage(String question, String simulationParams) {
         this.question = question;
         this.simulationParams = simulationParams;
         this.isAnswerStage = false;
         this.correctAnswer = null;
+        this.verifier = new CircuitVerifier(simulationParams);
     }
 
     /**
@@ -75,6 +83,15 @@ public class Stage {
         return simulationParams;
     }
 
+    /**
+     * Returns the verification plan compiled once from the simulation parameters, if applicable.
+     *
+     * @return the verifier, or null if not applicable.
+     */
+    public CircuitVerifier getVerifier() {
+        return verifier;
+    }
+
     /**
      * Checks whether this stage is a question-answer stage.
      *
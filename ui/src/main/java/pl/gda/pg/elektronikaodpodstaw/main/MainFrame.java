@@ -2,17 +2,22 @@ package pl.gda.pg.elektronikaodpodstaw.main;
 
 import org.scilab.forge.jlatexmath.TeXFormula;
 import org.scilab.forge.jlatexmath.TeXIcon;
+import pl.gda.pg.elektronikaodpodstaw.circuit.SolutionCache;
 import pl.gda.pg.elektronikaodpodstaw.levels.LevelManager;
-import pl.gda.pg.elektronikaodpodstaw.levels.Levels;
 import pl.gda.pg.elektronikaodpodstaw.config.ConfigManager;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
 import pl.gda.pg.elektronikaodpodstaw.ui.MainMenuPanel;
 import pl.gda.pg.elektronikaodpodstaw.ui.SetLevelPanel;
+import pl.gda.pg.elektronikaodpodstaw.ui.SettingsEvents;
 import pl.gda.pg.elektronikaodpodstaw.ui.SettingsPanel;
+import pl.gda.pg.elektronikaodpodstaw.ui.SimulationStagePanel;
 import javax.swing.*;
 import javax.swing.text.SimpleAttributeSet;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.StyledDocument;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 import java.util.Objects;
 
@@ -46,12 +51,24 @@ public class MainFrame extends JFrame {
     /** Current symbol for resistors. */
     public static String currentResistorSymbol;
 
+    /** Name of the backend used to solve circuits in the simulation stage. */
+    public static String currentSolver;
+
+    /** Number of snap point columns in free simulation. */
+    public static int gridColumns;
+
+    /** Number of snap point rows in free simulation. */
+    public static int gridRows;
+
     /** Status informing whether the game has been completed. */
     public static String isCompleted;
 
     /** Panel for level selection. */
     public static SetLevelPanel setLevel;
 
+    /** Solutions of recently simulated circuits, shared by all simulation stages of the session. */
+    public static final SolutionCache solutionCache = new SolutionCache(64, 1_000_000);
+
     /**
      * Constructs the main frame of the application, initializing the configuration,
      * panels, and settings for the user interface.
@@ -59,12 +76,22 @@ public class MainFrame extends JFrame {
     public MainFrame() {
         configManager = new ConfigManager();
         startSettings();
-        Levels.initializeLevels();
+        SimulationStagePanel.warmUpIcons();
+        SettingsEvents.addListener(setting -> {
+            if (setting == SettingsEvents.Setting.THEME)
+                SimulationStagePanel.warmUpIcons();
+        });
 
         setTitle("Elektronika od podstaw");
         setSize(1024, 768);
         setResizable(false);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                LevelManager.disposeStagePanels(MainFrame.this);
+            }
+        });
 
         setLayout(new CardLayout());
         MainMenuPanel mainMenu = new MainMenuPanel(this);
@@ -251,7 +278,8 @@ public class MainFrame extends JFrame {
 
     /**
      * Loads the application configuration from the config manager.
-     * Initializes settings like available level, current theme, current resistor symbol.
+     * Initializes settings like available level, current theme, current resistor symbol, simulation backend
+     * and the size of the free simulation grid.
      */
     private void loadConfig() {
         availableLevel = Integer.parseInt(configManager.getProperty("level"));
@@ -260,6 +288,9 @@ public class MainFrame extends JFrame {
         currentBackground = configManager.getProperty("background");
         currentTheme = configManager.getProperty("theme");
         currentResistorSymbol = configManager.getProperty("resistorSymbol");
+        currentSolver = configManager.getProperty("solver", SimulationBackend.MNA);
+        gridColumns = Math.max(2, Integer.parseInt(configManager.getProperty("gridColumns", "7")));
+        gridRows = Math.max(2, Integer.parseInt(configManager.getProperty("gridRows", "4")));
     }
 
 }
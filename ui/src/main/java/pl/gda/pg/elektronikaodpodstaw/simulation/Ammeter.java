@@ -0,0 +1,80 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents an ammeter in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for ammeters getting value of current which flows through it
+ * and rendering its visual representation.
+ */
+public class Ammeter extends Element {
+
+    /**
+     * Constructs an Ammeter object with the specified start and end points and name.
+     *
+     * @param start the starting point of the ammeter at simulation plane.
+     * @param end the ending point of the ammeter at simulation plane.
+     */
+    public Ammeter(Point start, Point end) {
+        super(ElementKind.AMMETER, start, end);
+    }
+
+    /**
+     * Returns the name of the ammeter element.
+     *
+     * @return the name of the ammeter.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the current value of the ammeter.
+     *
+     * @return the current measured by the ammeter.
+     */
+    @Override
+    public double getElementValue() {
+        return current();
+    }
+
+    /**
+     * Sets the value of the ammeter. This method is intentionally left empty
+     * as the ammeter does not modify its value directly.
+     *
+     * @param value the value to set (unused).
+     */
+    @Override
+    public void setElementValue(double value) {
+
+    }
+
+    /**
+     * Returns the distance from the center of the ammeter symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 30;
+    }
+
+    /**
+     * Draws the ammeter symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        g.drawOval(x - 30, y - 30, 60, 60);
+        g.drawLine(x, y - 15, x - 15, y + 15);
+        g.drawLine(x, y - 15, x + 15, y + 15);
+        g.drawLine(x - 7, y + 4, x + 7, y + 4);
+        drawPolarity(g, x, y);
+    }
+
+}
\ No newline at end of file
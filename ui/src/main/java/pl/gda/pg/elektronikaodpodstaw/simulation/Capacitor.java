@@ -0,0 +1,82 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents a capacitor in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for capacitors
+ * including managing capacitance values and rendering its visual representation.
+ */
+public class Capacitor extends Element {
+
+    /**
+     * Constructs a Capacitor object with the specified start and end points and default capacitance C = 10 uF.
+     *
+     * @param start the starting point of the capacitor on the simulation plane.
+     * @param end the ending point of the capacitor on the simulation plane.
+     */
+    public Capacitor(Point start, Point end) {
+        super(ElementKind.CAPACITOR, start, end);
+        setValue(10e-6f);
+    }
+
+    /**
+     * Returns the name of the capacitor element.
+     *
+     * @return the name of the capacitor.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the capacitance value of the capacitor.
+     *
+     * @return the capacitance value in farads.
+     */
+    @Override
+    public double getElementValue() {
+        return value();
+    }
+
+    /**
+     * Sets the capacitance value of the capacitor.
+     *
+     * @param value the new capacitance value in farads.
+     */
+    @Override
+    public void setElementValue(double value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the distance from the center of the capacitor symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 7;
+    }
+
+    /**
+     * Draws the capacitor symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        if (isVertical) {
+            g.drawLine(x - 20, y - 7, x + 20, y - 7);
+            g.drawLine(x - 20, y + 7, x + 20, y + 7);
+        } else {
+            g.drawLine(x - 7, y - 20, x - 7, y + 20);
+            g.drawLine(x + 7, y - 20, x + 7, y + 20);
+        }
+    }
+
+}
\ No newline at end of file
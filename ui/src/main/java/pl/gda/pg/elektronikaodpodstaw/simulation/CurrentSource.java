@@ -0,0 +1,98 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents a current source in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for current source
+ * including managing current values and rendering its visual representation.
+ */
+public class CurrentSource extends Element {
+
+    /**
+     * Constructs an CurrentSource object with the specified start and end points and default voltage I = 10 mA.
+     *
+     * @param start the starting point of the current source on the simulation plane.
+     * @param end the ending point of the current source on the simulation plane.
+     */
+    public CurrentSource(Point start, Point end) {
+        super(ElementKind.CURRENT_SOURCE, start, end);
+        setValue(10e-3f);
+    }
+
+    /**
+     * Returns the name of the current source element.
+     *
+     * @return the name of the current source.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the current value of the source.
+     *
+     * @return the current value in amps.
+     */
+    @Override
+    public double getElementValue() {
+        return value();
+    }
+
+    /**
+     * Sets the current value of the source.
+     *
+     * @param value the new current value in amps.
+     */
+    @Override
+    public void setElementValue(double value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the distance from the center of the current source symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 30;
+    }
+
+    /**
+     * Draws the current source symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        g.drawOval(x - 30, y - 30, 60, 60);
+        switch (orientation) {
+            case DOWN -> {
+                g.drawLine(x, y - 15, x, y + 15);
+                g.drawLine(x, y - 15, x - 10, y - 5);
+                g.drawLine(x, y - 15, x + 10, y - 5);
+            }
+            case UP -> {
+                g.drawLine(x, y - 15, x, y + 15);
+                g.drawLine(x, y + 15, x - 10, y + 5);
+                g.drawLine(x, y + 15, x + 10, y + 5);
+            }
+            case RIGHT -> {
+                g.drawLine(x - 15, y, x + 15, y);
+                g.drawLine(x - 15, y, x - 5, y - 10);
+                g.drawLine(x - 15, y, x - 5, y + 10);
+            }
+            case LEFT -> {
+                g.drawLine(x - 15, y, x + 15, y);
+                g.drawLine(x + 15, y, x + 5, y - 10);
+                g.drawLine(x + 15, y, x + 5, y + 10);
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,318 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import pl.gda.pg.elektronikaodpodstaw.ui.SnapGrid;
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a base class for all electrical elements in the simulation.
+ * Provides shared properties and methods for handling graphical representation and value manipulation.
+ * While the element is placed, its name, value and simulation results are kept in the {@link Circuit} arena
+ * under the element's handle; the element itself only holds what is needed for drawing.
+ */
+public abstract class Element {
+
+    /** The starting point of the element in the simulation area. */
+    public final Point start;
+
+    /** The ending point of the element in the simulation area. */
+    public final Point end;
+
+    /** The horizontal midpoint of the element. */
+    public final int midX;
+
+    /** The vertical midpoint of the element. */
+    public final int midY;
+
+    /** Indicates whether the element is oriented vertically. */
+    public final boolean isVertical;
+
+    /** The direction from the starting point to the ending point. */
+    public final Orientation orientation;
+
+    /** The kind of the element. */
+    public final ElementKind kind;
+
+    /** The label drawing the value of the element. */
+    private final ValueLabel label = new ValueLabel();
+
+    /** The circuit the element is placed in, or {@code null} if it is not placed. */
+    private Circuit circuit = null;
+
+    /** The handle of the element in {@link #circuit}, or -1 if it is not placed. */
+    private int handle = -1;
+
+    /** The value of the element while it is not placed. */
+    private double value = 0;
+
+    /** The per-kind number of the element kept while it is removed, or 0 if it was never placed. */
+    private int number = 0;
+
+    /**
+     * Constructs an `Element` of the specified kind with specified start and end points.
+     * Calculates the midpoints and determines orientation based on the points.
+     *
+     * @param kind the kind of the element.
+     * @param start the starting point of the element.
+     * @param end the ending point of the element.
+     */
+    public Element(ElementKind kind, Point start, Point end) {
+        this.kind = kind;
+        this.start = start;
+        this.end = end;
+        midX = (start.x + end.x) / 2;
+        midY = (start.y + end.y) / 2;
+        isVertical = start.x == end.x;
+        orientation = Orientation.of(start, end);
+    }
+
+    /**
+     * Places the element in a circuit. An element placed before keeps its name and value.
+     *
+     * @param circuit the circuit to place the element in.
+     * @return the handle of the element in the circuit.
+     */
+    public int attach(Circuit circuit) {
+        this.circuit = circuit;
+        handle = circuit.add(kind, start.x, start.y, end.x, end.y);
+        if (number > 0)
+            circuit.setNumber(handle, number);
+        circuit.setValue(handle, value);
+        return handle;
+    }
+
+    /**
+     * Removes the element from its circuit, keeping its name and value for a later {@link #attach(Circuit)}.
+     */
+    public void detach() {
+        if (circuit == null)
+            return;
+        number = circuit.number(handle);
+        value = circuit.value(handle);
+        circuit.remove(handle);
+        circuit = null;
+        handle = -1;
+    }
+
+    /**
+     * Returns the handle of the element in its circuit.
+     *
+     * @return the handle, or -1 if the element is not placed.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    /**
+     * Returns the name of the element as numbered by its circuit.
+     *
+     * @return the name, or an empty string if the element is not placed.
+     */
+    protected String name() {
+        return circuit == null ? "" : circuit.name(handle);
+    }
+
+    /**
+     * Returns the value of the element.
+     *
+     * @return the value stored in the circuit, or the kept value if the element is not placed.
+     */
+    protected double value() {
+        return circuit == null ? value : circuit.value(handle);
+    }
+
+    /**
+     * Changes the value of the element.
+     *
+     * @param value the new value.
+     */
+    protected void setValue(double value) {
+        if (circuit == null)
+            this.value = value;
+        else
+            circuit.setValue(handle, value);
+    }
+
+    /**
+     * Returns the voltage across the element after the last simulation.
+     *
+     * @return the rounded voltage in volts, or 0 if the element is not placed.
+     */
+    public float voltage() {
+        return circuit == null ? 0 : circuit.voltage(handle);
+    }
+
+    /**
+     * Returns the current through the element after the last simulation.
+     *
+     * @return the rounded current in amps, or 0 if the element is not placed.
+     */
+    public float current() {
+        return circuit == null ? 0 : circuit.current(handle);
+    }
+
+    /**
+     * Draws the element on the provided graphics context.
+     * The leads from both points to the symbol are drawn as lines, and the symbol is blitted from {@link ElementGlyphs}.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    public void draw(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setColor(MainFrame.getTextTheme());
+        g2d.setStroke(ElementGlyphs.STROKE);
+        int half = bodyHalfLength();
+        if (isVertical) {
+            g2d.drawLine(start.x, Math.min(start.y, end.y), start.x, midY - half);
+            g2d.drawLine(start.x, midY + half, start.x, Math.max(start.y, end.y));
+            ElementGlyphs.draw(g2d, this, start.x, midY);
+        } else {
+            g2d.drawLine(Math.min(start.x, end.x), start.y, midX - half, start.y);
+            g2d.drawLine(midX + half, start.y, Math.max(start.x, end.x), start.y);
+            ElementGlyphs.draw(g2d, this, midX, start.y);
+        }
+    }
+
+    /**
+     * Returns the distance from the center of the symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    protected int bodyHalfLength() {
+        return 0;
+    }
+
+    /**
+     * Draws the symbol of the element without its leads, in the current color and stroke.
+     * Called once per sprite by {@link ElementGlyphs}, so it must only depend on the orientation and the settings.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    protected void drawBody(Graphics2D g, int x, int y) {
+
+    }
+
+    /**
+     * Draws the polarity signs of a meter: the plus beside the lead of the ending point, the minus beside the other.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    protected void drawPolarity(Graphics2D g, int x, int y) {
+        switch (orientation) {
+            case DOWN -> {
+                g.drawLine(x + 17, y + 46, x + 17, y + 60);
+                g.drawLine(x + 24, y + 53, x + 10, y + 53);
+                g.drawLine(x + 24, y - 53, x + 10, y - 53);
+            }
+            case UP -> {
+                g.drawLine(x + 17, y - 46, x + 17, y - 60);
+                g.drawLine(x + 24, y - 53, x + 10, y - 53);
+                g.drawLine(x + 24, y + 53, x + 10, y + 53);
+            }
+            case RIGHT -> {
+                g.drawLine(x + 46, y - 17, x + 60, y - 17);
+                g.drawLine(x + 53, y - 24, x + 53, y - 10);
+                g.drawLine(x - 46, y - 17, x - 60, y - 17);
+            }
+            case LEFT -> {
+                g.drawLine(x - 46, y - 17, x - 60, y - 17);
+                g.drawLine(x - 53, y - 24, x - 53, y - 10);
+                g.drawLine(x + 46, y - 17, x + 60, y - 17);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the element.
+     *
+     * @return the name of the element.
+     */
+    public abstract String getElementName();
+
+    /**
+     * Retrieves the value associated with the element (e.g., resistance for a resistor).
+     *
+     * @return the value of the element.
+     */
+    public abstract double getElementValue();
+
+    /**
+     * Sets the value associated with the element.
+     *
+     * @param value the new value to assign to the element.
+     */
+    public abstract void setElementValue(double value);
+
+    /**
+     * Draws the value of the element at an appropriate position on the simulation area.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    public void drawValue(Graphics g) {
+        if (MainFrame.currentLevel > 1) {
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setColor(MainFrame.getTextTheme());
+            float value = (float) getElementValue();
+            if (isVertical && start.x == SnapGrid.MARGIN_X) {
+                label.draw(g2d, value, start.x + 60, midY);
+            } else if (isVertical) {
+                label.draw(g2d, value, start.x - 60, midY);
+            } else if (start.y == SnapGrid.MARGIN_Y) {
+                label.draw(g2d, value, midX, start.y + 45);
+            } else {
+                label.draw(g2d, value, midX, start.y - 45);
+            }
+        }
+    }
+
+    /**
+     * Converts a special metric prefix to its double value representation.
+     *
+     * @param value the special metric prefix to convert (e.g., "10k").
+     * @return the numeric value of the prefix.
+     * @throws NumberFormatException if the string format is invalid.
+     */
+    public static double UnitToValue(String value) {
+        Map<String, Double> unitMultipliers = new HashMap<>();
+        unitMultipliers.put("f", 1e-15);
+        unitMultipliers.put("p", 1e-12);
+        unitMultipliers.put("n", 1e-9);
+        unitMultipliers.put("u", 1e-6);
+        unitMultipliers.put("m", 1e-3);
+        unitMultipliers.put("k", 1e3);
+        unitMultipliers.put("meg", 1e6);
+        unitMultipliers.put("g", 1e9);
+        unitMultipliers.put("t", 1e12);
+        unitMultipliers.put("e", 1e5);
+
+        value = value.trim().toLowerCase();
+
+        String regex = "^([-+]?[0-9]*\\.?[0-9]+)\\s*([a-z]*)$";
+        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(regex);
+        java.util.regex.Matcher matcher = pattern.matcher(value);
+
+        if (matcher.matches()) {
+            String valuePart = matcher.group(1);
+            String unitPart = matcher.group(2);
+
+            double baseValue = Double.parseDouble(valuePart);
+
+            if (unitMultipliers.containsKey(unitPart))
+                return baseValue * unitMultipliers.get(unitPart);
+            else if (unitPart.isEmpty())
+                return baseValue;
+            else
+                throw new NumberFormatException();
+        }
+        throw new NumberFormatException();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Keeps the symbols of the elements pre-rendered into sprites, so that drawing an element blits an image
+ * instead of stroking its symbol line by line.
+ * There is one sprite per element kind, orientation, theme and resistor symbol, rendered when it is first needed.
+ * Changing the theme or the resistor symbol selects other sprites, so no sprite is ever rendered twice.
+ * Sprites are only used on the event dispatch thread.
+ */
+public final class ElementGlyphs {
+
+    /** The stroke used for the leads and the symbols of all elements. */
+    public static final BasicStroke STROKE = new BasicStroke(3);
+
+    /** The width and height of the canvas a symbol is rendered on, enough for the largest symbol and its polarity signs. */
+    private static final int SIZE = 128;
+
+    /** The position of the center of the symbol on the canvas. */
+    private static final int CENTER = SIZE / 2;
+
+    /** The number of orientations. */
+    private static final int ORIENTATIONS = Orientation.values().length;
+
+    /** The sprites indexed by kind, orientation, theme and resistor symbol, or {@code null} if not rendered yet. */
+    private static final BufferedImage[] sprites = new BufferedImage[ElementKind.values().length * ORIENTATIONS * 4];
+
+    /** The horizontal offset of each sprite from the center of its symbol. */
+    private static final int[] offsetsX = new int[sprites.length];
+
+    /** The vertical offset of each sprite from the center of its symbol. */
+    private static final int[] offsetsY = new int[sprites.length];
+
+    /**
+     * Prevents instantiation.
+     */
+    private ElementGlyphs() {
+    }
+
+    /**
+     * Draws the symbol of an element centered at a point, rendering its sprite first if needed.
+     *
+     * @param g the graphics context used for rendering.
+     * @param element the element.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    public static void draw(Graphics2D g, Element element, int x, int y) {
+        int index = ((element.kind.ordinal() * ORIENTATIONS + element.orientation.ordinal()) * 2
+                + (MainFrame.currentTheme.equals("light") ? 0 : 1)) * 2
+                + (element.kind == ElementKind.RESISTOR && MainFrame.currentResistorSymbol.equals("ANSI") ? 1 : 0);
+        if (sprites[index] == null)
+            render(g.getDeviceConfiguration(), element, index);
+        g.drawImage(sprites[index], x + offsetsX[index], y + offsetsY[index], null);
+    }
+
+    /**
+     * Renders the symbol of an element on a canvas and keeps the part covered by it as a sprite,
+     * so that blitting does not touch the empty rest of the canvas.
+     *
+     * @param configuration the configuration of the device the sprite is drawn on.
+     * @param element the element.
+     * @param index the index of the sprite.
+     */
+    private static void render(GraphicsConfiguration configuration, Element element, int index) {
+        BufferedImage canvas = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D canvasGraphics = canvas.createGraphics();
+        canvasGraphics.setColor(MainFrame.getTextTheme());
+        canvasGraphics.setStroke(STROKE);
+        element.drawBody(canvasGraphics, CENTER, CENTER);
+        canvasGraphics.dispose();
+
+        int minX = SIZE, minY = SIZE, maxX = 0, maxY = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (canvas.getRGB(x, y) >>> 24 != 0) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (minX > maxX) {
+            minX = minY = maxX = maxY = CENTER;
+        }
+        BufferedImage sprite = configuration.createCompatibleImage(maxX - minX + 1, maxY - minY + 1, Transparency.TRANSLUCENT);
+        Graphics2D spriteGraphics = sprite.createGraphics();
+        spriteGraphics.setComposite(AlphaComposite.Src);
+        spriteGraphics.drawImage(canvas, -minX, -minY, null);
+        spriteGraphics.dispose();
+        sprites[index] = sprite;
+        offsetsX[index] = minX - CENTER;
+        offsetsY[index] = minY - CENTER;
+    }
+
+}
@@ -0,0 +1,97 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents a inductor in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for inductors
+ * including managing inductance values and rendering its visual representation.
+ */
+public class Inductor extends Element {
+
+    /**
+     * Constructs an Inductor object with the specified start and end points and default inductance L = 1 H.
+     *
+     * @param start the starting point of the inductor on the simulation plane.
+     * @param end the ending point of the inductor on the simulation plane.
+     */
+    public Inductor(Point start, Point end) {
+        super(ElementKind.INDUCTOR, start, end);
+        setValue(1f);
+    }
+
+    /**
+     * Returns the name of the inductor element.
+     *
+     * @return the name of the inductor.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the inductance value of the inductor.
+     *
+     * @return the inductance value in henries.
+     */
+    @Override
+    public double getElementValue() {
+        return value();
+    }
+
+    /**
+     * Sets the inductance value of the inductor.
+     *
+     * @param value the new inductance value in henries.
+     */
+    @Override
+    public void setElementValue(double value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the distance from the center of the inductor symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 45;
+    }
+
+    /**
+     * Draws the inductor symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        switch (orientation) {
+            case DOWN -> {
+                g.drawArc(x - 15, y - 45, 30, 30, -90, 180);
+                g.drawArc(x - 15, y - 15, 30, 30, -90, 180);
+                g.drawArc(x - 15, y + 15, 30, 30, -90, 180);
+            }
+            case UP -> {
+                g.drawArc(x - 15, y - 45, 30, 30, 90, 180);
+                g.drawArc(x - 15, y - 15, 30, 30, 90, 180);
+                g.drawArc(x - 15, y + 15, 30, 30, 90, 180);
+            }
+            case RIGHT -> {
+                g.drawArc(x - 45, y - 15, 30, 30, 0, 180);
+                g.drawArc(x - 15, y - 15, 30, 30, 0, 180);
+                g.drawArc(x + 15, y - 15, 30, 30, 0, 180);
+            }
+            case LEFT -> {
+                g.drawArc(x - 45, y - 15, 30, 30, 180, 180);
+                g.drawArc(x - 15, y - 15, 30, 30, 180, 180);
+                g.drawArc(x + 15, y - 15, 30, 30, 180, 180);
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import java.awt.*;
+
+/**
+ * Represents the direction from the starting point to the ending point of an element.
+ */
+public enum Orientation {
+
+    /** Vertical, with the ending point below the starting point. */
+    DOWN,
+
+    /** Vertical, with the ending point above the starting point. */
+    UP,
+
+    /** Horizontal, with the ending point right of the starting point. */
+    RIGHT,
+
+    /** Horizontal, with the ending point left of the starting point. */
+    LEFT;
+
+    /**
+     * Determines the orientation of an element.
+     *
+     * @param start the starting point of the element.
+     * @param end the ending point of the element.
+     * @return the orientation.
+     */
+    public static Orientation of(Point start, Point end) {
+        if (start.x == end.x)
+            return end.y - start.y > 0 ? DOWN : UP;
+        return end.x - start.x > 0 ? RIGHT : LEFT;
+    }
+
+    /**
+     * Checks whether the orientation is vertical.
+     *
+     * @return {@code true} for {@link #DOWN} and {@link #UP}.
+     */
+    public boolean isVertical() {
+        return this == DOWN || this == UP;
+    }
+
+}
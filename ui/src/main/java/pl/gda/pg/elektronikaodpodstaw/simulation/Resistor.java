@@ -0,0 +1,98 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import java.awt.*;
+
+/**
+ * Represents a resistor in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for resistors
+ * including managing resistance values and rendering its visual representation.
+ */
+public class Resistor extends Element {
+
+    /**
+     * Constructs a Resistor object with the specified start and end points and default resistance R = 1 kΩ.
+     *
+     * @param start the starting point of the resistor on the simulation plane.
+     * @param end the ending point of the resistor on the simulation plane.
+     */
+    public Resistor(Point start, Point end) {
+        super(ElementKind.RESISTOR, start, end);
+        setValue(1000f);
+    }
+
+    /**
+     * Returns the name of the resistor element.
+     *
+     * @return the name of the resistor.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the resistance value of the resistor.
+     *
+     * @return the resistance value in ohms.
+     */
+    @Override
+    public double getElementValue() {
+        return value();
+    }
+
+    /**
+     * Sets the resistance value of the resistor.
+     *
+     * @param value the new resistance value in ohms.
+     */
+    @Override
+    public void setElementValue(double value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the distance from the center of the resistor symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return MainFrame.currentResistorSymbol.equals("IEC") ? 20 : 40;
+    }
+
+    /**
+     * Draws the resistor symbol without its leads. The appearance depends on the orientation and the selected resistor symbol.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        if (MainFrame.currentResistorSymbol.equals("IEC")) {
+            if (isVertical)
+                g.drawRect(x - 10, y - 20, 20, 40);
+            else
+                g.drawRect(x - 20, y - 10, 40, 20);
+        } else if (isVertical) {
+            g.drawLine(x, y - 40, x + 15, y - 33);
+            g.drawLine(x + 15, y - 33, x - 15, y - 20);
+            g.drawLine(x - 15, y - 20, x + 15, y - 7);
+            g.drawLine(x + 15, y - 7, x - 15, y + 7);
+            g.drawLine(x - 15, y + 7, x + 15, y + 20);
+            g.drawLine(x + 15, y + 20, x - 15, y + 33);
+            g.drawLine(x - 15, y + 33, x, y + 40);
+        } else {
+            g.drawLine(x - 40, y, x - 33, y - 15);
+            g.drawLine(x - 33, y - 15, x - 20, y + 15);
+            g.drawLine(x - 20, y + 15, x - 7, y - 15);
+            g.drawLine(x - 7, y - 15, x + 7, y + 15);
+            g.drawLine(x + 7, y + 15, x + 20, y - 15);
+            g.drawLine(x + 20, y - 15, x + 33, y + 15);
+            g.drawLine(x + 33, y + 15, x + 40, y);
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Draws the value of an element centered at a point, in a font that shrinks with the length of the text.
+ * The value is formatted with a metric prefix straight into a character buffer, and the laid out glyphs
+ * are kept until the value or the rendering context changes, so drawing an unchanged label does not allocate.
+ * The color is taken from the graphics context, so the label follows the theme without being laid out again.
+ */
+public final class ValueLabel {
+
+    /** The metric prefixes used in the simulation, from the largest. */
+    private static final String[] UNITS = {"e", "t", "g", "meg", "k", "", "m", "u", "n", "p", "f"};
+
+    /** The multiplier of each prefix in {@link #UNITS}. */
+    private static final float[] MULTIPLIERS = {1e15f, 1e12f, 1e9f, 1e6f, 1e3f, 1f, 1e-3f, 1e-6f, 1e-9f, 1e-12f, 1e-15f};
+
+    /** The powers of ten by exponent, for scaling to a number of decimal places. */
+    private static final long[] POWERS = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
+    /** The largest magnitude formatted without falling back to {@link String#format}. */
+    private static final double MAX_FIXED = 1e12;
+
+    /** The value fonts by text length, the last one for any other length. */
+    private static final Font[] FONTS = new Font[12];
+
+    /** The characters of the formatted value; the length is enough for any float. */
+    private final char[] chars = new char[64];
+
+    /** The bits of the value that was laid out. */
+    private int valueBits = 0;
+
+    /** The rendering context the value was laid out for, or {@code null} if it was never laid out. */
+    private FontRenderContext context = null;
+
+    /** The laid out glyphs of the value. */
+    private GlyphVector glyphs = null;
+
+    /** The horizontal offset of the text origin from the center. */
+    private int offsetX = 0;
+
+    /** The vertical offset of the text baseline from the center. */
+    private int offsetY = 0;
+
+    /**
+     * Draws a value centered at a point, laying it out again only if it changed.
+     *
+     * @param g the graphics context used for rendering.
+     * @param value the value to draw.
+     * @param centerX the horizontal center point.
+     * @param centerY the vertical center point.
+     */
+    public void draw(Graphics2D g, float value, int centerX, int centerY) {
+        FontRenderContext frc = g.getFontRenderContext();
+        if (context == null || Float.floatToIntBits(value) != valueBits || !frc.equals(context)) {
+            int length = format(value, chars);
+            Font font = font(length);
+            FontMetrics metrics = g.getFontMetrics(font);
+            glyphs = font.createGlyphVector(frc, Arrays.copyOf(chars, length));
+            offsetX = -(metrics.charsWidth(chars, 0, length) / 2);
+            offsetY = metrics.getAscent() - metrics.getHeight() / 2;
+            valueBits = Float.floatToIntBits(value);
+            context = frc;
+        }
+        g.drawGlyphVector(glyphs, centerX + offsetX, centerY + offsetY);
+    }
+
+    /**
+     * Returns the value font for a text length, from 30 points for one character down to 12 points for ten.
+     *
+     * @param length the length of the text.
+     * @return the font.
+     */
+    private static Font font(int length) {
+        int index = length >= 1 && length <= 10 ? length : FONTS.length - 1;
+        if (FONTS[index] == null)
+            FONTS[index] = new Font("Arial", Font.PLAIN, index == FONTS.length - 1 ? 15 : 32 - 2 * length);
+        return FONTS[index];
+    }
+
+    /**
+     * Formats a value with the metric prefix of the largest multiplier it reaches, with up to three decimal places
+     * and without trailing zeros, e.g. "1.5k" or "10u".
+     *
+     * @param value the value to format.
+     * @param out receives the characters, at least 64 long.
+     * @return the number of characters.
+     */
+    public static int format(float value, char[] out) {
+        for (int i = 0; i < UNITS.length; i++) {
+            if (Math.abs(value) >= MULTIPLIERS[i]) {
+                int length = stripZeros(out, formatFixed(value / MULTIPLIERS[i], 3, out, 0));
+                UNITS[i].getChars(0, UNITS[i].length(), out, length);
+                return length + UNITS[i].length();
+            }
+        }
+        return stripZeros(out, formatFixed(value, 3, out, 0));
+    }
+
+    /**
+     * Formats a value with a fixed number of decimal places, rounding half up, as {@code %.nf} does.
+     * Values beyond a trillion and non-finite values fall back to {@link String#format}.
+     *
+     * @param value the value to format.
+     * @param decimals the number of decimal places, at most 6.
+     * @param out receives the characters.
+     * @param offset the index of the first character in {@code out}.
+     * @return the index after the last character.
+     */
+    public static int formatFixed(double value, int decimals, char[] out, int offset) {
+        if (!(Math.abs(value) < MAX_FIXED)) {
+            String text = String.format(Locale.US, "%." + decimals + "f", value);
+            int length = Math.min(text.length(), out.length - offset);
+            text.getChars(0, length, out, offset);
+            return offset + length;
+        }
+        int position = offset;
+        if (Double.doubleToRawLongBits(value) < 0)
+            out[position++] = '-';
+        long scaled = Math.round(Math.abs(value) * POWERS[decimals]);
+        long integer = scaled / POWERS[decimals];
+        long fraction = scaled % POWERS[decimals];
+
+        int digits = 1;
+        for (long rest = integer / 10; rest > 0; rest /= 10)
+            digits++;
+        for (int i = position + digits - 1; i >= position; i--) {
+            out[i] = (char) ('0' + integer % 10);
+            integer /= 10;
+        }
+        position += digits;
+        if (decimals > 0) {
+            out[position] = '.';
+            for (int i = position + decimals; i > position; i--) {
+                out[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += decimals + 1;
+        }
+        return position;
+    }
+
+    /**
+     * Removes the trailing zeros of the decimal places, and the decimal point if none are left.
+     *
+     * @param chars the formatted number.
+     * @param length the number of characters.
+     * @return the new number of characters.
+     */
+    private static int stripZeros(char[] chars, int length) {
+        boolean hasPoint = false;
+        for (int i = 0; i < length; i++)
+            hasPoint |= chars[i] == '.';
+        if (!hasPoint)
+            return length;
+        while (chars[length - 1] == '0')
+            length--;
+        if (chars[length - 1] == '.')
+            length--;
+        return length;
+    }
+
+}
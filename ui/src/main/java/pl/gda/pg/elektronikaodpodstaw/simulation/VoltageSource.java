@@ -0,0 +1,94 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents a voltage source in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for voltage source
+ * including managing voltage values and rendering its visual representation.
+ */
+public class VoltageSource extends Element {
+
+    /**
+     * Constructs an VoltageSource object with the specified start and end points and default voltage V = 5 V.
+     *
+     * @param start the starting point of the voltage source on the simulation plane.
+     * @param end the ending point of the voltage source on the simulation plane.
+     */
+    public VoltageSource(Point start, Point end) {
+        super(ElementKind.VOLTAGE_SOURCE, start, end);
+        setValue(5f);
+    }
+
+    /**
+     * Returns the name of the voltage source element.
+     *
+     * @return the name of the voltage source.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the voltage value of the source.
+     *
+     * @return the voltage value in volts.
+     */
+    @Override
+    public double getElementValue() {
+        return value();
+    }
+
+    /**
+     * Sets the voltage value of the source.
+     *
+     * @param value the new voltage value in volts.
+     */
+    @Override
+    public void setElementValue(double value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the distance from the center of the voltage source symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 5;
+    }
+
+    /**
+     * Draws the voltage source symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        switch (orientation) {
+            case DOWN -> {
+                g.drawLine(x - 15, y - 5, x + 15, y - 5);
+                g.drawLine(x - 25, y + 5, x + 25, y + 5);
+            }
+            case UP -> {
+                g.drawLine(x - 25, y - 5, x + 25, y - 5);
+                g.drawLine(x - 15, y + 5, x + 15, y + 5);
+            }
+            case RIGHT -> {
+                g.drawLine(x - 5, y - 15, x - 5, y + 15);
+                g.drawLine(x + 5, y - 25, x + 5, y + 25);
+            }
+            case LEFT -> {
+                g.drawLine(x - 5, y - 25, x - 5, y + 25);
+                g.drawLine(x + 5, y - 15, x + 5, y + 15);
+            }
+        }
+    }
+
+}
+
@@ -0,0 +1,79 @@
+package pl.gda.pg.elektronikaodpodstaw.simulation;
+
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import java.awt.*;
+
+/**
+ * Represents a voltmeter in electrical circuit simulation.
+ * It extends the Element class and provides specific functionality for voltmeter getting value of potential difference on element
+ * and rendering its visual representation.
+ */
+public class Voltmeter extends Element {
+
+    /**
+     * Constructs a Voltmeter object with the specified start and end points and name.
+     *
+     * @param start the starting point of the voltmeter at simulation plane.
+     * @param end the ending point of the voltmeter at simulation plane.
+     */
+    public Voltmeter(Point start, Point end) {
+        super(ElementKind.VOLTMETER, start, end);
+    }
+
+    /**
+     * Returns the name of the voltmeter element.
+     *
+     * @return the name of the voltmeter.
+     */
+    @Override
+    public String getElementName() {
+        return name();
+    }
+
+    /**
+     * Returns the voltage value of the voltmeter.
+     *
+     * @return the voltage measured by the voltmeter.
+     */
+    @Override
+    public double getElementValue() {
+        return voltage();
+    }
+
+    /**
+     * Sets the value of the voltmeter. This method is intentionally left empty
+     * as the voltmeter does not modify its value directly.
+     *
+     * @param value the value to set (unused).
+     */
+    @Override
+    public void setElementValue(double value) {
+
+    }
+
+    /**
+     * Returns the distance from the center of the voltmeter symbol to where the leads join it.
+     *
+     * @return the half length of the symbol along the element.
+     */
+    @Override
+    protected int bodyHalfLength() {
+        return 30;
+    }
+
+    /**
+     * Draws the voltmeter symbol without its leads. The appearance depends on the orientation.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal center of the symbol.
+     * @param y the vertical center of the symbol.
+     */
+    @Override
+    protected void drawBody(Graphics2D g, int x, int y) {
+        g.drawOval(x - 30, y - 30, 60, 60);
+        g.drawLine(x, y + 15, x - 15, y - 15);
+        g.drawLine(x, y + 15, x + 15, y - 15);
+        drawPolarity(g, x, y);
+    }
+
+}
\ No newline at end of file
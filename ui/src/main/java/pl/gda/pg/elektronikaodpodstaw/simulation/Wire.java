@@ -1,5 +1,6 @@
 package pl.gda.pg.elektronikaodpodstaw.simulation;
 
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
 import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
 import java.awt.*;
 
@@ -17,7 +18,7 @@ public class Wire extends Element {
      * @param end the ending point of the wire on the simulation plane.
      */
     public Wire(Point start, Point end) {
-        super(start, end);
+        super(ElementKind.WIRE, start, end);
     }
 
     /**
@@ -37,7 +38,7 @@ public class Wire extends Element {
      * @return a fixed placeholder value of 0.
      */
     @Override
-    public float getElementValue() {
+    public double getElementValue() {
         return 0f;
     }
 
@@ -48,7 +49,7 @@ public class Wire extends Element {
      * @param value the value to set (unused).
      */
     @Override
-    public void setElementValue(float value) {
+    public void setElementValue(double value) {
 
     }
 
@@ -62,7 +63,7 @@ public class Wire extends Element {
     public void draw(Graphics g) {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setColor(MainFrame.getTextTheme());
-        g2d.setStroke(new BasicStroke(3));
+        g2d.setStroke(ElementGlyphs.STROKE);
         g2d.drawLine(start.x, start.y, end.x, end.y);
     }
 
@@ -1,6 +1,5 @@
 package pl.gda.pg.elektronikaodpodstaw.ui;
 
-import pl.gda.pg.elektronikaodpodstaw.levels.Level;
 import pl.gda.pg.elektronikaodpodstaw.levels.LevelManager;
 import pl.gda.pg.elektronikaodpodstaw.levels.Levels;
 import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
@@ -11,17 +10,14 @@ import javax.swing.text.StyledDocument;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.util.ArrayList;
-import java.util.Objects;
 
 /**
  * Represents the panel displayed during a question-answer stage in the game.
  * It includes components for displaying the question, capturing user input, and handling user interactions.
+ * A single panel is reused by all question-answer stages, loading each of them in turn.
  */
 public class AnswerStagePanel extends JPanel {
 
-    /** The background image for the panel. */
-    private final Image backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
-
     /** The text field for user input. */
     private final JTextField answerField;
 
@@ -35,10 +31,13 @@ public class AnswerStagePanel extends JPanel {
     private final java.util.List<HoverButton> buttons = new ArrayList<>();
 
     /** The correct answer for the question. */
-    private final String correctAnswer;
+    private String correctAnswer;
 
     /** The theory content associated with the current level. */
-    private final String theory;
+    private String theory;
+
+    /** Updates the colors of the panel when the settings change. */
+    private final SettingsEvents.Listener settingsListener = _ -> updateBackgroundAndText();
 
     /**
      * Constructs an AnswerStagePanel with the specified frame, question, correct answer, and theory.
@@ -51,34 +50,16 @@ public class AnswerStagePanel extends JPanel {
     public AnswerStagePanel(MainFrame frame, String question, String correctAnswer, String theory) {
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
 
-        this.correctAnswer = correctAnswer;
-        this.theory = theory;
-
-        Level currentLevel = Levels.levelsList.get(MainFrame.currentLevel - 1);
-        String levelTitle = currentLevel.name();
-        levelTitleLabel = new JLabel(levelTitle);
+        levelTitleLabel = new JLabel();
         levelTitleLabel.setBorder(BorderFactory.createEmptyBorder(30, 0, 30, 0));
-        if (MainFrame.currentLevel == 3 || MainFrame.currentLevel == 5 || MainFrame.currentLevel == 7 || MainFrame.currentLevel == 11)
-            levelTitleLabel.setFont(new Font("Arial", Font.PLAIN, 35));
-        else
-            levelTitleLabel.setFont(new Font("Arial", Font.PLAIN, 40));
         levelTitleLabel.setAlignmentX(CENTER_ALIGNMENT);
         add(levelTitleLabel);
 
         questionPane = new JTextPane();
-        questionPane.setText(question);
         questionPane.setEditable(false);
         questionPane.setFocusable(false);
         questionPane.setOpaque(false);
-        SimpleAttributeSet attributes = new SimpleAttributeSet();
-        StyleConstants.setAlignment(attributes, StyleConstants.ALIGN_CENTER);
-        StyleConstants.setFontFamily(attributes, "Arial");
-        StyleConstants.setFontSize(attributes, 25);
-        StyleConstants.setLineSpacing(attributes, 0.2f);
-        StyledDocument doc = questionPane.getStyledDocument();
-        doc.setParagraphAttributes(0, doc.getLength(), attributes, false);
         add(questionPane);
-        adjustQuestionPaneHeight();
 
         add(Box.createRigidArea(new Dimension(0, 20)));
 
@@ -98,14 +79,50 @@ public class AnswerStagePanel extends JPanel {
             add(Box.createRigidArea(new Dimension(0, 10)));
         }
 
+        setupKeyBindings(frame);
+        loadStage(frame, question, correctAnswer, theory);
+    }
+
+    /**
+     * Loads a question-answer stage into the panel, replacing the previous one.
+     * Shows the title and the theory of the level first if the stage is its first one.
+     *
+     * @param frame the main application frame.
+     * @param question the question text to display.
+     * @param correctAnswer the correct answer for the question.
+     * @param theory the theory content associated with the current level.
+     */
+    public void loadStage(MainFrame frame, String question, String correctAnswer, String theory) {
+        this.correctAnswer = correctAnswer;
+        this.theory = theory;
+
+        String levelTitle = Levels.name(MainFrame.currentLevel);
+        levelTitleLabel.setText(levelTitle);
+        if (MainFrame.currentLevel == 3 || MainFrame.currentLevel == 5 || MainFrame.currentLevel == 7 || MainFrame.currentLevel == 11)
+            levelTitleLabel.setFont(new Font("Arial", Font.PLAIN, 35));
+        else
+            levelTitleLabel.setFont(new Font("Arial", Font.PLAIN, 40));
+
+        questionPane.setText(question);
+        SimpleAttributeSet attributes = new SimpleAttributeSet();
+        StyleConstants.setAlignment(attributes, StyleConstants.ALIGN_CENTER);
+        StyleConstants.setFontFamily(attributes, "Arial");
+        StyleConstants.setFontSize(attributes, 25);
+        StyleConstants.setLineSpacing(attributes, 0.2f);
+        StyledDocument doc = questionPane.getStyledDocument();
+        doc.setParagraphAttributes(0, doc.getLength(), attributes, false);
+        adjustQuestionPaneHeight();
+
+        answerField.setText("");
+        revalidate();
+        repaint();
+
         SwingUtilities.invokeLater(() -> {
             if (LevelManager.getCurrentStageIndex() == 0) {
                 JOptionPane.showMessageDialog(frame, levelTitle, "Poziom " + MainFrame.currentLevel, JOptionPane.INFORMATION_MESSAGE);
                 MainFrame.showTheory(frame, theory);
             }
         });
-
-        setupKeyBindings(frame);
     }
 
     /**
@@ -139,6 +156,8 @@ public class AnswerStagePanel extends JPanel {
      * Adjusts the height of the question pane to fit the content dynamically.
      */
     private void adjustQuestionPaneHeight() {
+        questionPane.setPreferredSize(null);
+        questionPane.setMaximumSize(null);
         questionPane.setSize(new Dimension(960, Integer.MAX_VALUE));
         int preferredHeight = questionPane.getPreferredSize().height;
         questionPane.setPreferredSize(new Dimension(960, preferredHeight));
@@ -197,6 +216,26 @@ public class AnswerStagePanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Subscribes the panel to the changes of the settings when it is added to the window,
+     * applying the current ones in case they changed while it was not.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        updateBackgroundAndText();
+        SettingsEvents.addListener(settingsListener);
+    }
+
+    /**
+     * Unsubscribes the panel from the changes of the settings when it is removed from the window.
+     */
+    @Override
+    public void removeNotify() {
+        SettingsEvents.removeListener(settingsListener);
+        super.removeNotify();
+    }
+
     /**
      * Paints the background image of the panel.
      *
@@ -204,16 +243,8 @@ public class AnswerStagePanel extends JPanel {
      */
     @Override
     public void paintComponent(Graphics g) {
-        updateBackgroundAndText();
         super.paintComponent(g);
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-
-            if (MainFrame.currentTheme.equals("dark")) g2d.setColor(new Color(0, 0, 0, 150));
-            else if (MainFrame.currentTheme.equals("light")) g2d.setColor(new Color(255, 255, 255, 150));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-        }
+        Backgrounds.paint(g, this);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Provides the background of the panels, shared by all of them.
+ * Each background image is decoded once. For every size, it is scaled into a display-compatible image
+ * with the overlay of the theme already composited in, so painting a background is a single unscaled blit.
+ * The most recently used scaled backgrounds are kept; all methods must be called on the event dispatch thread.
+ */
+public final class Backgrounds {
+
+    /** The largest number of scaled backgrounds kept. */
+    private static final int MAX_SCALED = 8;
+
+    /** The alpha of the overlay lightening or darkening the background. */
+    private static final int OVERLAY_ALPHA = 150;
+
+    /** The decoded background images by resource path. */
+    private static final HashMap<String, BufferedImage> sources = new HashMap<>();
+
+    /** The scaled backgrounds with their overlay, the least recently used first. */
+    private static final LinkedHashMap<Key, BufferedImage> scaled = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+            return size() > MAX_SCALED;
+        }
+    };
+
+    /**
+     * Identifies a scaled background.
+     *
+     * @param path the resource path of the background image.
+     * @param theme the theme of the overlay.
+     * @param width the width of the background.
+     * @param height the height of the background.
+     */
+    private record Key(String path, String theme, int width, int height) {
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private Backgrounds() {
+    }
+
+    /**
+     * Paints the current background with the overlay of the current theme over a whole component.
+     *
+     * @param g the graphics context used for rendering.
+     * @param component the component to paint the background of.
+     */
+    public static void paint(Graphics g, JComponent component) {
+        if (component.getWidth() <= 0 || component.getHeight() <= 0)
+            return;
+        g.drawImage(get(component.getGraphicsConfiguration(), component.getWidth(), component.getHeight()), 0, 0, null);
+    }
+
+    /**
+     * Returns the current background with the overlay of the current theme at a size, preparing it first if needed.
+     *
+     * @param configuration the configuration of the device the background is drawn on, or {@code null}.
+     * @param width the width of the background.
+     * @param height the height of the background.
+     * @return the background.
+     * @throws UncheckedIOException if the background image cannot be read.
+     */
+    public static BufferedImage get(GraphicsConfiguration configuration, int width, int height) {
+        Key key = new Key(MainFrame.currentBackground, MainFrame.currentTheme, width, height);
+        BufferedImage background = scaled.get(key);
+        if (background == null) {
+            background = configuration != null
+                    ? configuration.createCompatibleImage(width, height, Transparency.OPAQUE)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = background.createGraphics();
+            g2d.drawImage(source(key.path()), 0, 0, width, height, null);
+            if (key.theme().equals("dark")) g2d.setColor(new Color(0, 0, 0, OVERLAY_ALPHA));
+            else g2d.setColor(new Color(255, 255, 255, OVERLAY_ALPHA));
+            g2d.fillRect(0, 0, width, height);
+            g2d.dispose();
+            scaled.put(key, background);
+        }
+        return background;
+    }
+
+    /**
+     * Returns a decoded background image, decoding it first if needed.
+     *
+     * @param path the resource path of the background image.
+     * @return the decoded image.
+     * @throws UncheckedIOException if the image cannot be read.
+     */
+    private static BufferedImage source(String path) {
+        BufferedImage source = sources.get(path);
+        if (source == null) {
+            try {
+                source = ImageIO.read(Objects.requireNonNull(Backgrounds.class.getResource(path)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            sources.put(path, source);
+        }
+        return source;
+    }
+
+}
@@ -0,0 +1,126 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import pl.gda.pg.elektronikaodpodstaw.simulation.Element;
+
+/**
+ * Indexes the elements in the simulation area by position, so that finding the element under a click
+ * or the element between two points does not scan the whole circuit.
+ * The midpoints of the elements are bucketed into a uniform grid of square cells as large as the hit distance,
+ * so a click only looks at the 3x3 cells around it. The elements are also hashed by their pair of endpoints,
+ * in either order. Coordinates are packed into 16 bits each, which covers the simulation area.
+ */
+public class ElementIndex {
+
+    /** The largest horizontal and vertical distance between a click and the midpoint of a hit element. */
+    public static final int HIT_DISTANCE = 60;
+
+    /** The elements whose midpoints lie in each cell, by packed cell coordinates. */
+    private final HashMap<Long, ArrayList<Element>> cells = new HashMap<>();
+
+    /** The elements by their packed pair of endpoints, the smaller packed endpoint first. */
+    private final HashMap<Long, Element> edges = new HashMap<>();
+
+    /**
+     * Adds an element to the index.
+     *
+     * @param element the element to add.
+     */
+    public void add(Element element) {
+        cells.computeIfAbsent(cell(Math.floorDiv(element.midX, HIT_DISTANCE), Math.floorDiv(element.midY, HIT_DISTANCE)),
+                key -> new ArrayList<>(2)).add(element);
+        edges.put(edge(element.start, element.end), element);
+    }
+
+    /**
+     * Removes an element from the index.
+     *
+     * @param element the element to remove.
+     */
+    public void remove(Element element) {
+        long key = cell(Math.floorDiv(element.midX, HIT_DISTANCE), Math.floorDiv(element.midY, HIT_DISTANCE));
+        ArrayList<Element> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.remove(element);
+            if (bucket.isEmpty())
+                cells.remove(key);
+        }
+        edges.remove(edge(element.start, element.end), element);
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        cells.clear();
+        edges.clear();
+    }
+
+    /**
+     * Finds the element whose midpoint is nearest to a point, within {@value #HIT_DISTANCE} pixels on each axis.
+     *
+     * @param p the point, e.g. a click.
+     * @return the nearest element, or {@code null} if none is close enough.
+     */
+    public Element nearest(Point p) {
+        Element nearest = null;
+        long nearestDistance = Long.MAX_VALUE;
+        int cellX = Math.floorDiv(p.x, HIT_DISTANCE);
+        int cellY = Math.floorDiv(p.y, HIT_DISTANCE);
+        for (int y = cellY - 1; y <= cellY + 1; y++) {
+            for (int x = cellX - 1; x <= cellX + 1; x++) {
+                ArrayList<Element> bucket = cells.get(cell(x, y));
+                if (bucket == null)
+                    continue;
+                for (Element element : bucket) {
+                    long dx = p.x - element.midX;
+                    long dy = p.y - element.midY;
+                    long distance = dx * dx + dy * dy;
+                    if (Math.abs(dx) <= HIT_DISTANCE && Math.abs(dy) <= HIT_DISTANCE && distance < nearestDistance) {
+                        nearest = element;
+                        nearestDistance = distance;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Finds the element between two points, in either direction.
+     *
+     * @param start one endpoint.
+     * @param end the other endpoint.
+     * @return the element, or {@code null} if there is none.
+     */
+    public Element between(Point start, Point end) {
+        return edges.get(edge(start, end));
+    }
+
+    /**
+     * Packs the coordinates of a cell.
+     *
+     * @param x the column of the cell.
+     * @param y the row of the cell.
+     * @return the key of the cell.
+     */
+    private static long cell(int x, int y) {
+        return (long) x << 32 | y & 0xffffffffL;
+    }
+
+    /**
+     * Packs a pair of endpoints independently of their order.
+     *
+     * @param start one endpoint.
+     * @param end the other endpoint.
+     * @return the key of the pair.
+     */
+    private static long edge(Point start, Point end) {
+        long a = (long) (start.x & 0xffff) << 16 | start.y & 0xffff;
+        long b = (long) (end.x & 0xffff) << 16 | end.y & 0xffff;
+        return Math.min(a, b) << 32 | Math.max(a, b);
+    }
+
+}
@@ -0,0 +1,354 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.*;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.CircuitResults;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import pl.gda.pg.elektronikaodpodstaw.circuit.SimulationExecutor;
+import pl.gda.pg.elektronikaodpodstaw.circuit.SimulationOutcome;
+import pl.gda.pg.elektronikaodpodstaw.circuit.TopologyFault;
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import pl.gda.pg.elektronikaodpodstaw.simulation.ValueLabel;
+
+/**
+ * Keeps the results of a circuit up to date while it is being edited.
+ * Every modification marks the circuit as changed; once no further change arrived for a debounce delay,
+ * a solve is submitted to the background executor; during continuous edits a solve is still submitted every few
+ * debounce delays. All work on the event dispatch thread happens in a frame tick
+ * that runs only while something is pending: it applies at most one outcome per frame, dropping outcomes superseded
+ * before they could be shown, and postpones submitting when copying the circuit would not fit in the rest of the
+ * frame budget. The debounce delay grows with the solve time, so that large circuits are not solved again
+ * before the previous solve could finish, and edits stay responsive at 60 frames per second.
+ * All methods must be called on the event dispatch thread.
+ */
+public class LiveSimulation {
+
+    /** The length of one frame at 60 frames per second in milliseconds. */
+    private static final int FRAME_MILLIS = 16;
+
+    /** The part of a frame that may be spent on applying outcomes and submitting solves, in nanoseconds. */
+    private static final long FRAME_BUDGET_NANOS = 8_000_000;
+
+    /** The shortest delay between the last change and the solve, in nanoseconds. */
+    private static final long MIN_DEBOUNCE_NANOS = 50_000_000;
+
+    /** The longest delay between the last change and the solve, in nanoseconds. */
+    private static final long MAX_DEBOUNCE_NANOS = 500_000_000;
+
+    /** The number of debounce delays after which continuous edits are solved without waiting for them to settle. */
+    private static final int MAX_WAIT_DEBOUNCES = 4;
+
+    /** The font of the overlay labels. */
+    private static final Font OVERLAY_FONT = new Font("Arial", Font.PLAIN, 13);
+
+    /** The font of the indicator. */
+    private static final Font INDICATOR_FONT = new Font("Arial", Font.PLAIN, 16);
+
+    /** The circuit kept up to date. */
+    private final Circuit circuit;
+
+    /** Runs the solves in the background. */
+    private final SimulationExecutor executor;
+
+    /** Repaints the simulation area once new results were applied. */
+    private final Runnable repaint;
+
+    /** Ticks once per frame while a solve or an outcome is pending. */
+    private final Timer timer;
+
+    /** The latest outcome waiting to be applied on the next frame, or {@code null}. */
+    private final AtomicReference<SimulationOutcome> arrived = new AtomicReference<>();
+
+    /** Indicates whether the live mode is enabled. */
+    private boolean isEnabled = false;
+
+    /** Indicates whether the circuit changed since the last submitted solve. */
+    private boolean isDirty = false;
+
+    /** The time of the first change since the last submitted solve in nanoseconds. */
+    private long firstChangeNanos = 0;
+
+    /** The time of the last change in nanoseconds. */
+    private long lastChangeNanos = 0;
+
+    /** The duration of the last solve in nanoseconds, or -1 if none finished yet. */
+    private long lastSolveNanos = -1;
+
+    /** The estimated time of submitting a solve on the event dispatch thread in nanoseconds. */
+    private long submitNanos = 0;
+
+    /** Indicates whether the last applied outcome failed, so that its stale results are hidden. */
+    private boolean hasError = false;
+
+    /** The topology error of the last applied outcome, or {@code null}. */
+    private TopologyFault topologyFault = null;
+
+    /** The topology revision of the circuit {@link #topologyFault} was found in. */
+    private long faultTopology = -1;
+
+    /** The characters of the overlay label being drawn. */
+    private final char[] labelChars = new char[400];
+
+    /** The node labels already drawn in the current paint, marked with {@link #paintStamp}. */
+    private int[] drawnNodes = new int[64];
+
+    /** The number of the current paint, used to mark drawn node labels without clearing {@link #drawnNodes}. */
+    private int paintStamp = 0;
+
+    /**
+     * Constructs a disabled live simulation of a circuit.
+     *
+     * @param circuit the circuit to keep up to date.
+     * @param executor the executor running the solves.
+     * @param repaint repaints the simulation area.
+     */
+    public LiveSimulation(Circuit circuit, SimulationExecutor executor, Runnable repaint) {
+        this.circuit = circuit;
+        this.executor = executor;
+        this.repaint = repaint;
+        timer = new Timer(FRAME_MILLIS, _ -> tick());
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Checks whether the live mode is enabled.
+     *
+     * @return {@code true} if the live mode is enabled.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enables or disables the live mode. Enabling it solves the circuit at once;
+     * disabling it drops the pending solve and outcome.
+     *
+     * @param isEnabled {@code true} to enable the live mode.
+     */
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        arrived.set(null);
+        if (isEnabled) {
+            hasError = false;
+            isDirty = true;
+            lastChangeNanos = System.nanoTime() - MAX_DEBOUNCE_NANOS;
+            firstChangeNanos = lastChangeNanos;
+            timer.start();
+        } else {
+            isDirty = false;
+            timer.stop();
+        }
+        repaint.run();
+    }
+
+    /**
+     * Notes a modification of the circuit, scheduling a solve once the edits settle.
+     * Does nothing while the live mode is disabled.
+     */
+    public void circuitChanged() {
+        if (!isEnabled)
+            return;
+        lastChangeNanos = System.nanoTime();
+        if (!isDirty)
+            firstChangeNanos = lastChangeNanos;
+        isDirty = true;
+        if (!timer.isRunning())
+            timer.start();
+    }
+
+    /**
+     * Returns the duration of the last solve.
+     *
+     * @return the duration in nanoseconds, or -1 if no solve finished yet.
+     */
+    public long getLastSolveNanos() {
+        return lastSolveNanos;
+    }
+
+    /**
+     * Performs the work of one frame: applies the latest outcome and submits a solve
+     * if the edits settled and the frame budget allows it. Stops the timer once nothing is pending.
+     */
+    private void tick() {
+        long frameStart = System.nanoTime();
+        SimulationOutcome outcome = arrived.getAndSet(null);
+        if (outcome != null)
+            apply(outcome);
+
+        long debounceNanos = getDebounceNanos();
+        if (isDirty && (frameStart - lastChangeNanos >= debounceNanos || frameStart - firstChangeNanos >= MAX_WAIT_DEBOUNCES * debounceNanos)) {
+            long elapsed = System.nanoTime() - frameStart;
+            if (outcome == null || elapsed + submitNanos <= FRAME_BUDGET_NANOS)
+                submit();
+        }
+        if (!isDirty && arrived.get() == null)
+            timer.stop();
+    }
+
+    /**
+     * Returns the delay between the last change and the solve, twice the last solve time within fixed bounds.
+     *
+     * @return the delay in nanoseconds.
+     */
+    private long getDebounceNanos() {
+        return Math.clamp(2 * lastSolveNanos, MIN_DEBOUNCE_NANOS, MAX_DEBOUNCE_NANOS);
+    }
+
+    /**
+     * Submits a solve of the current state of the circuit and updates the estimated submit time.
+     */
+    private void submit() {
+        isDirty = false;
+        long start = System.nanoTime();
+        executor.submit(circuit, MainFrame.currentSolver, null, outcome -> {
+            arrived.set(outcome);
+            SwingUtilities.invokeLater(this::outcomeArrived);
+        });
+        long duration = System.nanoTime() - start;
+        submitNanos = submitNanos == 0 ? duration : (3 * submitNanos + duration) / 4;
+    }
+
+    /**
+     * Makes sure the timer runs to apply an outcome that arrived.
+     */
+    private void outcomeArrived() {
+        if (isEnabled && !timer.isRunning())
+            timer.start();
+    }
+
+    /**
+     * Returns the topology error found by the last live solve, so that its elements can be highlighted.
+     *
+     * @return the fault, or {@code null} if there is none, the live mode is disabled or elements were added or removed since.
+     */
+    public TopologyFault getTopologyFault() {
+        return isEnabled && faultTopology == circuit.topologyRevision() ? topologyFault : null;
+    }
+
+    /**
+     * Publishes the results of an outcome unless elements were added or removed since it was submitted.
+     * Results of a circuit whose values were changed in the meantime are shown as a preview,
+     * so that the overlay follows continuous edits.
+     *
+     * @param outcome the outcome of a solve.
+     */
+    private void apply(SimulationOutcome outcome) {
+        if (!isEnabled)
+            return;
+        lastSolveNanos = outcome.solveNanos();
+        if (outcome.circuit().topologyRevision() == circuit.topologyRevision()) {
+            hasError = !outcome.isSolved();
+            topologyFault = outcome.topologyFault();
+            faultTopology = circuit.topologyRevision();
+            if (outcome.isSolved() && !circuit.publish(outcome.results()))
+                circuit.publishPreview(outcome.results(), outcome.circuit().topologyRevision());
+        }
+        repaint.run();
+    }
+
+    /**
+     * Draws the node voltages and the element currents of the last results next to the elements.
+     * Each node is labelled once, at the first element end connected to it.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    public void drawOverlay(Graphics g) {
+        if (!isEnabled || hasError)
+            return;
+        CircuitResults results = circuit.results();
+        if (results.solution() == null)
+            return;
+        g.setFont(OVERLAY_FONT);
+        g.setColor(MainFrame.getTextTheme());
+        if (++paintStamp == 0) {
+            Arrays.fill(drawnNodes, 0);
+            paintStamp = 1;
+        }
+
+        for (int h = 0; h < circuit.handleLimit(); h++) {
+            if (!circuit.contains(h) || !circuit.isSolved(h))
+                continue;
+            drawNodeVoltage(g, results, results.nodeMinus(h), circuit.startX(h), circuit.startY(h));
+            drawNodeVoltage(g, results, results.nodePlus(h), circuit.endX(h), circuit.endY(h));
+            if (circuit.kind(h) != ElementKind.WIRE)
+                drawCurrent(g, h);
+        }
+    }
+
+    /**
+     * Draws the voltage of a node next to a terminal unless the node was labelled already.
+     * Nodes made only of wires are not connected to any component, so they have no voltage and are skipped.
+     *
+     * @param g the graphics context used for rendering.
+     * @param results the results to draw.
+     * @param node the node number.
+     * @param x the horizontal coordinate of the terminal.
+     * @param y the vertical coordinate of the terminal.
+     */
+    private void drawNodeVoltage(Graphics g, CircuitResults results, int node, int x, int y) {
+        if (node >= results.solution().nodeCount())
+            return;
+        if (node >= drawnNodes.length)
+            drawnNodes = Arrays.copyOf(drawnNodes, Math.max(2 * drawnNodes.length, node + 1));
+        if (drawnNodes[node] == paintStamp)
+            return;
+        drawnNodes[node] = paintStamp;
+        int length = ValueLabel.formatFixed(results.solution().nodeVoltage(node), 2, labelChars, 0);
+        labelChars[length++] = ' ';
+        labelChars[length++] = 'V';
+        g.drawChars(labelChars, 0, length, x + 8, y - 8);
+    }
+
+    /**
+     * Draws the current through an element beyond its value label.
+     *
+     * @param g the graphics context used for rendering.
+     * @param h the handle of the element.
+     */
+    private void drawCurrent(Graphics g, int h) {
+        int length = ValueLabel.formatFixed(circuit.current(h), 3, labelChars, 0);
+        labelChars[length++] = ' ';
+        labelChars[length++] = 'A';
+        int startX = circuit.startX(h);
+        int startY = circuit.startY(h);
+        int midX = (startX + circuit.endX(h)) / 2;
+        int midY = (startY + circuit.endY(h)) / 2;
+        int centerX;
+        int centerY;
+        if (startX == circuit.endX(h)) {
+            centerX = startX == SnapGrid.MARGIN_X ? startX + 60 : startX - 60;
+            centerY = midY + 24;
+        } else {
+            centerX = midX;
+            centerY = startY == SnapGrid.MARGIN_Y ? startY + 69 : startY - 69;
+        }
+        FontMetrics metrics = g.getFontMetrics();
+        g.drawChars(labelChars, 0, length, centerX - metrics.charsWidth(labelChars, 0, length) / 2, centerY + metrics.getAscent() / 2);
+    }
+
+    /**
+     * Draws the live mode indicator with the duration of the last solve.
+     *
+     * @param g the graphics context used for rendering.
+     * @param x the horizontal coordinate of the text baseline.
+     * @param y the vertical coordinate of the text baseline.
+     */
+    public void drawIndicator(Graphics g, int x, int y) {
+        if (!isEnabled)
+            return;
+        String text;
+        if (lastSolveNanos < 0)
+            text = "Symulacja na żywo (T)";
+        else if (hasError)
+            text = "Symulacja na żywo (T): brak rozwiązania, ostatnie rozwiązanie trwało " + lastSolveNanos / 1000 + " µs";
+        else
+            text = "Symulacja na żywo (T): ostatnie rozwiązanie trwało " + lastSolveNanos / 1000 + " µs";
+        g.setFont(INDICATOR_FONT);
+        g.setColor(MainFrame.getTextTheme());
+        g.drawString(text, x, y);
+    }
+
+}
@@ -6,8 +6,10 @@ import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
 import javax.swing.*;
 import javax.swing.text.BadLocationException;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowEvent;
 import java.util.ArrayList;
-import java.util.Objects;
 
 /**
  * Represents the main menu panel of the game.
@@ -15,15 +17,15 @@ import java.util.Objects;
  */
 public class MainMenuPanel extends JPanel {
 
-    /** The background image displayed in the main menu panel. */
-    private Image backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
-
     /** The label displaying the title of the game. */
     private final JLabel titleLabel;
 
     /** The list of hover buttons displayed on the main menu. */
     private final java.util.List<HoverButton> buttons = new ArrayList<>();
 
+    /** Updates the colors of the panel when the settings change. */
+    private final SettingsEvents.Listener settingsListener = _ -> updateBackgroundAndText();
+
     /**
      * Constructs the main menu panel and initializes its components.
      *
@@ -51,6 +53,13 @@ public class MainMenuPanel extends JPanel {
             add(button);
             add(Box.createRigidArea(new Dimension(0, 20)));
         }
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                updateButtonStates();
+            }
+        });
     }
 
     /**
@@ -81,19 +90,12 @@ public class MainMenuPanel extends JPanel {
                     CardLayout cl1 = (CardLayout) frame.getContentPane().getLayout();
                     cl1.show(frame.getContentPane(), "LevelMenu");
                 }
-                case "Wolna symulacja" -> {
-                    MainFrame.currentLevel = 11;
-                    JPanel currentStagePanel = new SimulationStagePanel(frame, "" , "" ,  "");
-                    frame.getContentPane().add(currentStagePanel, "CurrentLevel");
-                    ((CardLayout) frame.getContentPane().getLayout()).show(frame.getContentPane(), "CurrentLevel");
-                    frame.revalidate();
-                    frame.repaint();
-                }
+                case "Wolna symulacja" -> LevelManager.loadFreeSimulation(frame);
                 case "Ustawienia" -> {
                     CardLayout cl2 = (CardLayout) frame.getContentPane().getLayout();
                     cl2.show(frame.getContentPane(), "Settings");
                 }
-                case "Wyjdź z gry" -> System.exit(0);
+                case "Wyjdź z gry" -> frame.dispatchEvent(new WindowEvent(frame, WindowEvent.WINDOW_CLOSING));
             }
         });
         return button;
@@ -104,20 +106,18 @@ public class MainMenuPanel extends JPanel {
      * based on the current theme of the application.
      */
     private void updateBackgroundAndText() {
-        backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
         Color textColor = MainFrame.getTextTheme();
         titleLabel.setForeground(textColor);
         for (HoverButton button : buttons) button.setForeground(textColor);
+        updateButtonStates();
         repaint();
     }
 
     /**
-     * Paints the main menu panel, including its background image and button states.
-     *
-     * @param g the Graphics context used for rendering.
+     * Enables the "Kontynuuj" and "Wolna symulacja" buttons if the progress of the game allows it, and disables them otherwise.
+     * Called whenever the menu is shown, since the progress only changes on other panels.
      */
-    @Override
-    public void paintComponent(Graphics g) {
+    private void updateButtonStates() {
         if (MainFrame.availableLevel > 1) {
             for (HoverButton b : buttons)
                 if (b.getText().equals("Kontynuuj"))
@@ -138,17 +138,37 @@ public class MainMenuPanel extends JPanel {
                 if (b.getText().equals("Wolna symulacja"))
                     b.disableFreeSimButton();
         }
+    }
 
+    /**
+     * Subscribes the panel to the changes of the settings when it is added to the window,
+     * applying the current ones in case they changed while it was not.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
         updateBackgroundAndText();
-        super.paintComponent(g);
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        SettingsEvents.addListener(settingsListener);
+    }
 
-            if (MainFrame.currentTheme.equals("dark")) g2d.setColor(new Color(0, 0, 0, 150));
-            else if (MainFrame.currentTheme.equals("light")) g2d.setColor(new Color(255, 255, 255, 150));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-        }
+    /**
+     * Unsubscribes the panel from the changes of the settings when it is removed from the window.
+     */
+    @Override
+    public void removeNotify() {
+        SettingsEvents.removeListener(settingsListener);
+        super.removeNotify();
+    }
+
+    /**
+     * Paints the main menu panel, including its background image.
+     *
+     * @param g the Graphics context used for rendering.
+     */
+    @Override
+    public void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Backgrounds.paint(g, this);
     }
 
 }
@@ -6,7 +6,6 @@ import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
 import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.Objects;
 
 /**
  * Represents the panel for selecting levels in the game.
@@ -14,9 +13,6 @@ import java.util.Objects;
  */
 public class SetLevelPanel extends JPanel {
 
-    /** The background image for the level selection panel. */
-    private Image backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
-
     /** The button for navigating back to the main menu. */
     private final HoverButton backButton;
 
@@ -26,6 +22,9 @@ public class SetLevelPanel extends JPanel {
     /** A list of buttons representing the selectable levels. */
     private final java.util.List<HoverButton> buttons = new ArrayList<>();
 
+    /** Updates the colors of the panel when the settings change. */
+    private final SettingsEvents.Listener settingsListener = _ -> updateBackgroundAndText();
+
     /**
      * Constructs the SetLevelPanel and initializes its components.
      *
@@ -89,7 +88,7 @@ public class SetLevelPanel extends JPanel {
      * @return a configured HoverButton instance.
      */
     private HoverButton getHoverButton(int i) {
-        String level = Levels.levelsList.get(i).name();
+        String level = Levels.name(i + 1);
         HoverButton button = new HoverButton(level);
         button.setAlignmentX(CENTER_ALIGNMENT);
         button.setFont(new Font("Arial", Font.PLAIN, 25));
@@ -108,13 +107,32 @@ public class SetLevelPanel extends JPanel {
      * based on the current theme of the application.
      */
     private void updateBackgroundAndText() {
-        backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
         Color textColor = MainFrame.getTextTheme();
         titleLabel.setForeground(textColor);
         for (HoverButton button : buttons) button.setForeground(textColor);
         repaint();
     }
 
+    /**
+     * Subscribes the panel to the changes of the settings when it is added to the window,
+     * applying the current ones in case they changed while it was not.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        updateBackgroundAndText();
+        SettingsEvents.addListener(settingsListener);
+    }
+
+    /**
+     * Unsubscribes the panel from the changes of the settings when it is removed from the window.
+     */
+    @Override
+    public void removeNotify() {
+        SettingsEvents.removeListener(settingsListener);
+        super.removeNotify();
+    }
+
     /**
      * Paints the background of the level selection panel.
      *
@@ -122,16 +140,8 @@ public class SetLevelPanel extends JPanel {
      */
     @Override
     public void paintComponent(Graphics g) {
-        updateBackgroundAndText();
         super.paintComponent(g);
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-
-            if (MainFrame.currentTheme.equals("dark")) g2d.setColor(new Color(0, 0, 0, 150));
-            else if (MainFrame.currentTheme.equals("light")) g2d.setColor(new Color(255, 255, 255, 150));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-        }
+        Backgrounds.paint(g, this);
     }
 
 }
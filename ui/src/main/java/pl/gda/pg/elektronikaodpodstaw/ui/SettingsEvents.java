@@ -0,0 +1,80 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import java.util.ArrayList;
+
+/**
+ * Notifies the panels of the changes of the appearance settings, so that they update their colors and assets
+ * once per change instead of on every paint.
+ * Panels subscribe while they are part of the window and refresh themselves when they are added again,
+ * so that a panel kept aside does not miss a change. All methods must be called on the event dispatch thread.
+ */
+public final class SettingsEvents {
+
+    /**
+     * The appearance settings whose changes are announced.
+     */
+    public enum Setting {
+
+        /** The background image of the panels. */
+        BACKGROUND,
+
+        /** The light or dark theme. */
+        THEME,
+
+        /** The IEC or ANSI resistor symbol. */
+        RESISTOR_SYMBOL
+    }
+
+    /**
+     * Receives the changes of the appearance settings.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after a setting has changed; the new value is already in {@link pl.gda.pg.elektronikaodpodstaw.main.MainFrame}.
+         *
+         * @param setting the setting that changed.
+         */
+        void settingChanged(Setting setting);
+    }
+
+    /** The subscribed listeners, in the order of subscription. */
+    private static final ArrayList<Listener> listeners = new ArrayList<>();
+
+    /**
+     * Prevents instantiation.
+     */
+    private SettingsEvents() {
+    }
+
+    /**
+     * Subscribes a listener to the changes of the settings; subscribing it again has no effect.
+     *
+     * @param listener the listener to subscribe.
+     */
+    public static void addListener(Listener listener) {
+        if (!listeners.contains(listener))
+            listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribes a listener from the changes of the settings.
+     *
+     * @param listener the listener to unsubscribe.
+     */
+    public static void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies all subscribed listeners of a change. Listeners may subscribe or unsubscribe while being notified.
+     *
+     * @param setting the setting that changed.
+     */
+    public static void fire(Setting setting) {
+        for (Listener listener : listeners.toArray(new Listener[0]))
+            listener.settingChanged(setting);
+    }
+
+}
@@ -2,10 +2,10 @@ package pl.gda.pg.elektronikaodpodstaw.ui;
 
 import pl.gda.pg.elektronikaodpodstaw.config.ConfigManager;
 import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.SimulationBackend;
 import javax.swing.*;
 import java.awt.*;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -14,9 +14,6 @@ import java.util.stream.Stream;
  */
 public class SettingsPanel extends JPanel {
 
-    /** The background image displayed in the settings panel. */
-    private Image backgroundImage;
-
     /** The button for navigating back to the main menu. */
     private final HoverButton backButton;
 
@@ -26,13 +23,15 @@ public class SettingsPanel extends JPanel {
     /** A list of all radio buttons used in the settings panel. */
     private final List<JRadioButton> allRadioButtons;
 
+    /** Updates the colors of the panel when the settings change. */
+    private final SettingsEvents.Listener settingsListener = _ -> updateBackgroundAndText();
+
     /**
      * Constructs the SettingsPanel and initializes its components for customizing game settings.
      *
      * @param frame the main application frame.
      */
     public SettingsPanel(MainFrame frame) {
-        backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
         setLayout(new GridBagLayout());
 
         GridBagConstraints gbc = new GridBagConstraints();
@@ -103,6 +102,24 @@ public class SettingsPanel extends JPanel {
         gbc.gridy = 2;
         add(resistorPanel, gbc);
 
+        JPanel solverPanel = new JPanel();
+        JLabel solverLabel = new JLabel("Symulator:");
+        JRadioButton mnaSolver = new JRadioButton("Wbudowany");
+        JRadioButton jspiceSolver = new JRadioButton("JSpice");
+        Stream.of(solverLabel, mnaSolver, jspiceSolver).forEach(solverPanel::add);
+
+        if (MainFrame.currentSolver.equals(SimulationBackend.JSPICE)) jspiceSolver.setSelected(true);
+        else mnaSolver.setSelected(true);
+
+        mnaSolver.addActionListener(_ -> updateSolver(SimulationBackend.MNA, MainFrame.configManager));
+        jspiceSolver.addActionListener(_ -> updateSolver(SimulationBackend.JSPICE, MainFrame.configManager));
+
+        ButtonGroup solverGroup = new ButtonGroup();
+        Stream.of(mnaSolver, jspiceSolver).forEach(solverGroup::add);
+
+        gbc.gridy = 3;
+        add(solverPanel, gbc);
+
         backButton = new HoverButton("Powrót");
         backButton.setFont(labelFont);
         backButton.setOpaque(false);
@@ -112,12 +129,12 @@ public class SettingsPanel extends JPanel {
             cl.show(frame.getContentPane(), "MainMenu");
         });
 
-        gbc.gridy = 3;
+        gbc.gridy = 4;
         add(backButton, gbc);
 
-        List<JPanel> allPanels = List.of(backgroundPanel, themePanel, resistorPanel);
-        allLabels = List.of(backgroundLabel, themeLabel, resistorLabel);
-        allRadioButtons = List.of(background1, background2, background3, lightTheme, darkTheme, iecSymbol, ansiSymbol);
+        List<JPanel> allPanels = List.of(backgroundPanel, themePanel, resistorPanel, solverPanel);
+        allLabels = List.of(backgroundLabel, themeLabel, resistorLabel, solverLabel);
+        allRadioButtons = List.of(background1, background2, background3, lightTheme, darkTheme, iecSymbol, ansiSymbol, mnaSolver, jspiceSolver);
 
         for (JPanel panel : allPanels) {
             panel.setLayout(flowLayout);
@@ -144,7 +161,7 @@ public class SettingsPanel extends JPanel {
     private void updateBackground(String backgroundPath) {
         MainFrame.configManager.setProperty("background", backgroundPath);
         MainFrame.currentBackground = MainFrame.configManager.getProperty("background");
-        updateBackgroundAndText();
+        SettingsEvents.fire(SettingsEvents.Setting.BACKGROUND);
     }
 
     /**
@@ -153,7 +170,6 @@ public class SettingsPanel extends JPanel {
      * to match the updated theme.
      */
     private void updateBackgroundAndText() {
-        backgroundImage = new ImageIcon(Objects.requireNonNull(getClass().getResource(MainFrame.currentBackground))).getImage();
         Color textColor = MainFrame.getTextTheme();
         for (JLabel label : allLabels) label.setForeground(textColor);
         for (JRadioButton button : allRadioButtons) button.setForeground(textColor);
@@ -161,6 +177,24 @@ public class SettingsPanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Subscribes the panel to the changes of the settings when it is added to the window.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        SettingsEvents.addListener(settingsListener);
+    }
+
+    /**
+     * Unsubscribes the panel from the changes of the settings when it is removed from the window.
+     */
+    @Override
+    public void removeNotify() {
+        SettingsEvents.removeListener(settingsListener);
+        super.removeNotify();
+    }
+
     /**
      * Updates the theme of the game and applies the changes to the settings panel.
      *
@@ -173,7 +207,7 @@ public class SettingsPanel extends JPanel {
         UIManager.put("OptionPane.background", MainFrame.getBackgroundTheme());
         UIManager.put("Panel.background", MainFrame.getBackgroundTheme());
         UIManager.put("OptionPane.messageForeground", MainFrame.getTextTheme());
-        updateBackgroundAndText();
+        SettingsEvents.fire(SettingsEvents.Setting.THEME);
     }
 
     /**
@@ -185,6 +219,18 @@ public class SettingsPanel extends JPanel {
     private void updateResistorSymbol (String ResistorSymbol, ConfigManager configManager) {
         configManager.setProperty("resistorSymbol", ResistorSymbol);
         MainFrame.currentResistorSymbol = configManager.getProperty("resistorSymbol");
+        SettingsEvents.fire(SettingsEvents.Setting.RESISTOR_SYMBOL);
+    }
+
+    /**
+     * Updates the backend used to solve circuits in the simulation stage.
+     *
+     * @param Solver the configuration name of the new backend.
+     * @param configManager the configuration manager for saving and retrieving settings.
+     */
+    private void updateSolver (String Solver, ConfigManager configManager) {
+        configManager.setProperty("solver", Solver);
+        MainFrame.currentSolver = configManager.getProperty("solver");
     }
 
     /**
@@ -195,13 +241,6 @@ public class SettingsPanel extends JPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-
-            if (MainFrame.currentTheme.equals("dark")) g2d.setColor(new Color(0, 0, 0, 150));
-            else if (MainFrame.currentTheme.equals("light")) g2d.setColor(new Color(255, 255, 255, 150));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-        }
+        Backgrounds.paint(g, this);
     }
 }
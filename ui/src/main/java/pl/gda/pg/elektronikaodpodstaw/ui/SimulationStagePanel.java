@@ -0,0 +1,2192 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import pl.gda.pg.elektronikaodpodstaw.circuit.Circuit;
+import pl.gda.pg.elektronikaodpodstaw.circuit.CircuitResults;
+import pl.gda.pg.elektronikaodpodstaw.circuit.CircuitVerifier;
+import pl.gda.pg.elektronikaodpodstaw.circuit.ElementKind;
+import pl.gda.pg.elektronikaodpodstaw.circuit.SimulationExecutor;
+import pl.gda.pg.elektronikaodpodstaw.circuit.SimulationOutcome;
+import pl.gda.pg.elektronikaodpodstaw.circuit.TopologyFault;
+import pl.gda.pg.elektronikaodpodstaw.circuit.TopologyValidator;
+import pl.gda.pg.elektronikaodpodstaw.circuit.VerificationResult;
+import pl.gda.pg.elektronikaodpodstaw.circuit.spice.SpiceDeck;
+import pl.gda.pg.elektronikaodpodstaw.circuit.spice.SpicePlacement;
+import pl.gda.pg.elektronikaodpodstaw.circuit.spice.SpiceWriter;
+import pl.gda.pg.elektronikaodpodstaw.levels.LevelManager;
+import pl.gda.pg.elektronikaodpodstaw.levels.Levels;
+import pl.gda.pg.elektronikaodpodstaw.main.MainFrame;
+import pl.gda.pg.elektronikaodpodstaw.simulation.*;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.AcAnalysis;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.AcSweep;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.CircuitNetlist;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.ComponentType;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSweep;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.DcSweepResult;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.IntegrationMethod;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.MonteCarloAnalysis;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.MonteCarloResult;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.StreamingStatistics;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.TransientSolver;
+import pl.gda.pg.elektronikaodpodstaw.simulation.solver.TransientWaveform;
+
+/**
+ * Represents the simulation stage panel in the game.
+ * The panel enables players to build electrical circuits according to the task requirements.
+ * It supports interactive features, allowing players to add, edit, remove elements or validate circuit.
+ */
+public class SimulationStagePanel extends JPanel {
+
+    /** The first frequency of the AC sweep in hertz. */
+    private static final double AC_START_FREQUENCY = 1;
+
+    /** The last frequency of the AC sweep in hertz. */
+    private static final double AC_STOP_FREQUENCY = 1e6;
+
+    /** The number of frequency points of the AC sweep. */
+    private static final int AC_POINTS = 1000;
+
+    /** The number of samples of the Monte Carlo tolerance analysis. */
+    private static final int MONTE_CARLO_SAMPLES = 100000;
+
+    /** The seed of the Monte Carlo tolerance analysis, so that repeated runs show the same spread. */
+    private static final long MONTE_CARLO_SEED = 2137;
+
+    /** The number of steps the simulated interval of the transient analysis is at least divided into. */
+    private static final int TRANSIENT_STEPS = 500;
+
+    /** The number of samples kept by the transient analysis, enough for the steps refined around fast changes. */
+    private static final int TRANSIENT_SAMPLES = 4096;
+
+    /** The number of snap point rows in the simulation area of the levels. */
+    private static final int GRID_ROWS = 4;
+
+    /** The number of snap point columns in the simulation area of the levels. */
+    private static final int GRID_COLUMNS = 7;
+
+    /** The action commands of the control buttons in the toolbar. */
+    private static final String[] CONTROL_OPTIONS = {"back", "undo", "redo", "delete", "clear", "help", "quest", "simulate"};
+
+    /** The icons of the control buttons. */
+    private static final String[] CONTROL_ICONS = {"/icons/back.png", "/icons/undo.png", "/icons/redo.png", "/icons/delete.png", "/icons/clear.png", "/icons/help.png", "/icons/quest.png", "/icons/simulate.png"};
+
+    /** The action commands of the element buttons in the toolbar. */
+    private static final String[] ELEMENT_OPTIONS = {"V", "I", "voltmeter", "ammeter", "R", "C", "L", "wire"};
+
+    /** The icons of the element buttons, with the IEC resistor symbol. */
+    private static final String[] ELEMENT_ICONS = {"/icons/V.png", "/icons/I.png", "/icons/voltmeter.png", "/icons/ammeter.png", "/icons/R_IEC.png", "/icons/C.png", "/icons/L.png", "/icons/wire.png"};
+
+    /** The index of the resistor button among the element buttons. */
+    private static final int RESISTOR_OPTION = 4;
+
+    /** The icon of the resistor button with the ANSI resistor symbol. */
+    private static final String RESISTOR_ANSI_ICON = "/icons/R_ANSI.png";
+
+    /** The size of the control button icons. */
+    private static final int CONTROL_ICON_SIZE = 30;
+
+    /** The size of the element button icons. */
+    private static final int ELEMENT_ICON_SIZE = 45;
+
+    /** The color highlighting the elements at fault in a topology error. */
+    private static final Color FAULT_COLOR = new Color(230, 30, 30, 140);
+
+    /** The stroke highlighting the elements at fault in a topology error. */
+    private static final BasicStroke FAULT_STROKE = new BasicStroke(10, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+
+    /** A stack for redo operations during element manipulation. */
+    private final Stack<Element> redoStack;
+
+    /** A stack for tracking user actions performed in the simulation. */
+    private final Stack<Element> actions = new Stack<>();
+
+    /** Verifies the circuit against the correct parameters of the task, or {@code null} in free simulation. */
+    private CircuitVerifier verifier;
+
+    /** The theory content associated with the current level. */
+    private String theory;
+
+    /** The task text for the simulation stage. */
+    private String question;
+
+    /** A list of buttons available in the simulation toolbar. */
+    private final List<HoverButton> buttons = new ArrayList<>();
+
+    /** The toolbar component used in the simulation stage. */
+    private final JPanel toolbar;
+
+    /** The area in which the circuit is drawn and edited. */
+    private final JPanel simulationArea;
+
+    /** The label displaying the title of the level in the toolbar. */
+    private JLabel levelLabel;
+
+    /** Updates the colors and icons of the panel when the settings change. */
+    private final SettingsEvents.Listener settingsListener = _ -> updateAppearance();
+
+    /** Indicates whether the current simulation configuration is correct. */
+    private boolean isCorrect = false;
+
+    /** Indicates whether the delete mode is active. */
+    private boolean isDeleteMode = false;
+
+    /** The currently selected element in the simulation. */
+    private String selectedElement = null;
+
+    /** The starting point of element which is being created. */
+    private Point startPoint = null;
+
+    /** The ending point of element which is being created. */
+    private Point endPoint = null;
+
+    /** The drawn element of each circuit handle, or {@code null} for free handles. */
+    private Element[] elements = new Element[64];
+
+    /** The elements in the simulation area indexed by position. */
+    private final ElementIndex elementIndex = new ElementIndex();
+
+    /** The number of snap point columns: fixed in the levels, configurable in free simulation. */
+    private int gridColumns;
+
+    /** The number of snap point rows: fixed in the levels, configurable in free simulation. */
+    private int gridRows;
+
+    /** The snap points for the current size of the simulation area, or {@code null} before it is laid out. */
+    private SnapGrid grid = null;
+
+    /** The circuit arena holding the names, values and results of all elements in the simulation area. */
+    private final Circuit circuit = new Circuit();
+
+    /** Runs the simulations of the circuit in the background, keeping the backend and its factorization. */
+    private final SimulationExecutor simulationExecutor = new SimulationExecutor(MainFrame.solutionCache);
+
+    /** Keeps the results of the circuit up to date while it is edited, if enabled. */
+    private final LiveSimulation liveSimulation = new LiveSimulation(circuit, simulationExecutor, this::repaint);
+
+    /** The AC analysis of the last frequency sweep on a private copy of the netlist, reused while the topology is unchanged. */
+    private AcAnalysis acAnalysis = null;
+
+    /** The topology revision of the circuit {@link #acAnalysis} was copied from, or -1. */
+    private long acTopology = -1;
+
+    /** Indicates whether a frequency sweep is running in the background. */
+    private boolean isSweepingFrequency = false;
+
+    /** Indicates whether a copy of the circuit is being validated in the background before an analysis. */
+    private boolean isValidatingAnalysis = false;
+
+    /** Indicates whether a SPICE deck is being read in the background. */
+    private boolean isImportingSpice = false;
+
+    /** The topology error found by the last simulation or analysis, or {@code null}. */
+    private TopologyFault topologyFault = null;
+
+    /** The topology revision of the circuit {@link #topologyFault} was found in. */
+    private long faultTopology = -1;
+
+    /** The snap points, the topology fault and the elements rendered once, or {@code null} if not rendered yet. */
+    private BufferedImage staticLayer = null;
+
+    /** The circuit revision rendered in {@link #staticLayer}. */
+    private long layerRevision = -1;
+
+    /** The circuit results rendered in {@link #staticLayer}. */
+    private CircuitResults layerResults = null;
+
+    /** The topology fault rendered in {@link #staticLayer}. */
+    private TopologyFault layerFault = null;
+
+    /** The grid rendered in {@link #staticLayer}. */
+    private SnapGrid layerGrid = null;
+
+    /** The theme rendered in {@link #staticLayer}. */
+    private String layerTheme = null;
+
+    /** The resistor symbol rendered in {@link #staticLayer}. */
+    private String layerResistorSymbol = null;
+
+    /**
+     * Constructs the SimulationStagePanel with the specified parameters.
+     * The panel is reused by all simulation stages and by free simulation, loading each of them in turn.
+     *
+     * @param frame the main application frame.
+     * @param question the question text for the simulation stage.
+     * @param verifier the verification plan of the stage, or {@code null} in free simulation.
+     * @param theory the theory content associated with the current level.
+     */
+    public SimulationStagePanel(MainFrame frame, String question, CircuitVerifier verifier, String theory) {
+        setLayout(new BorderLayout());
+        redoStack = new Stack<>();
+        toolbar = createToolbar(frame);
+        add(toolbar, BorderLayout.NORTH);
+
+        simulationArea = new JPanel() {
+            @Override
+            public void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                drawStaticLayer(g, this);
+                drawDragPreview(g);
+                liveSimulation.drawOverlay(g);
+                liveSimulation.drawIndicator(g, 10, getHeight() - 10);
+            }
+        };
+        setupKeyBindings(simulationArea, frame);
+        simulationArea.setLayout(null);
+        simulationArea.setOpaque(false);
+
+        simulationArea.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                layOutGrid();
+            }
+        });
+
+        simulationArea.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!isDeleteMode)
+                    startPoint = getNearestSnapPoint(e.getPoint());
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (!isDeleteMode) {
+                    endPoint = getNearestSnapPoint(e.getPoint());
+
+                    if (isValidConnection(startPoint, endPoint, frame) && selectedElement != null) {
+                        Element createElement = createElement(selectedElement, startPoint, endPoint);
+                        addElement(createElement);
+                        repaint();
+                    }
+
+                    startPoint = null;
+                    endPoint = null;
+                }
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (isDeleteMode) {
+                    deleteElement(e.getPoint(), frame);
+                }
+                if (MainFrame.currentLevel > 1) {
+                    changeValue(e.getPoint(), frame);
+                }
+            }
+        });
+
+        simulationArea.addMouseMotionListener(new MouseAdapter() {
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                endPoint = e.getPoint();
+                repaint();
+            }
+        });
+
+        add(simulationArea, BorderLayout.CENTER);
+        revalidate();
+
+        loadStage(frame, question, verifier, theory);
+    }
+
+    /**
+     * Loads a simulation stage into the panel, replacing the previous one and its circuit.
+     * Places the initial elements of the stage once the panel is laid out again, since the title of the level
+     * may change the size of the simulation area, and shows the title, the theory and the task of the level
+     * as a new panel would.
+     *
+     * @param frame the main application frame.
+     * @param question the question text for the simulation stage, empty in free simulation.
+     * @param verifier the verification plan of the stage, or {@code null} in free simulation.
+     * @param theory the theory content associated with the current level.
+     */
+    public void loadStage(MainFrame frame, String question, CircuitVerifier verifier, String theory) {
+        this.theory = theory;
+        this.question = question;
+        this.verifier = verifier;
+        gridColumns = question.isEmpty() ? MainFrame.gridColumns : GRID_COLUMNS;
+        gridRows = question.isEmpty() ? MainFrame.gridRows : GRID_ROWS;
+        updateLevelTitle();
+
+        liveSimulation.setEnabled(false);
+        simulationExecutor.cancel();
+        Arrays.fill(elements, null);
+        elementIndex.clear();
+        circuit.clear();
+        actions.clear();
+        redoStack.clear();
+        setSelectedElementByAction(null);
+        isDeleteMode = false;
+        isCorrect = false;
+        startPoint = null;
+        endPoint = null;
+        acAnalysis = null;
+        acTopology = -1;
+        topologyFault = null;
+        faultTopology = -1;
+
+        grid = null;
+        revalidate();
+        repaint();
+        SwingUtilities.invokeLater(() -> {
+            Container window = getTopLevelAncestor();
+            if (window != null)
+                window.validate();
+            layOutGrid();
+        });
+
+        SwingUtilities.invokeLater(() -> {
+            if (LevelManager.getCurrentStageIndex() == 0 && !(question.isEmpty())) {
+                String levelTitle = Levels.name(MainFrame.currentLevel);
+                JOptionPane.showMessageDialog(frame, levelTitle, "Poziom " + MainFrame.currentLevel, JOptionPane.INFORMATION_MESSAGE);
+                MainFrame.showTheory(frame, theory);
+                MainFrame.showQuestion(frame, question);
+            } else if (!(question.isEmpty())) {
+                MainFrame.showQuestion(frame, question);
+            }
+        });
+    }
+
+    /**
+     * Builds the snap grid for the current size of the simulation area, unless it would place its points
+     * where the current grid does. Places the initial elements of the level on the first grid of a stage.
+     */
+    private void layOutGrid() {
+        if (simulationArea.getWidth() <= 0 || simulationArea.getHeight() <= 0)
+            return;
+        SnapGrid laidOut = new SnapGrid(gridColumns, gridRows, simulationArea.getWidth(), simulationArea.getHeight());
+        if (laidOut.hasSamePoints(grid))
+            return;
+        boolean isFirstLayout = grid == null;
+        grid = laidOut;
+        if (isFirstLayout)
+            initializeElements(MainFrame.currentLevel);
+    }
+
+    /**
+     * Creates and configures the toolbar for the simulation stage.
+     *
+     * @param frame the main application frame.
+     * @return the configured toolbar panel.
+     */
+    private JPanel createToolbar(MainFrame frame) {
+        JPanel toolbar = new JPanel();
+        toolbar.setLayout(new BorderLayout());
+        toolbar.setOpaque(false);
+
+        JPanel titlePanel = new JPanel();
+        titlePanel.setLayout(new FlowLayout(FlowLayout.CENTER));
+        titlePanel.setOpaque(false);
+
+        levelLabel = getjLabel();
+        titlePanel.add(levelLabel);
+
+        JPanel gridPanel = new JPanel();
+        gridPanel.setLayout(new GridLayout(2, 8, 10, 10));
+        gridPanel.setOpaque(false);
+
+        for (int i = 0; i < CONTROL_OPTIONS.length; i++) {
+            HoverButton button = getHoverButton(frame, CONTROL_OPTIONS[i], CONTROL_ICONS[i]);
+            buttons.add(button);
+            gridPanel.add(button);
+        }
+
+        for (int i = 0; i < ELEMENT_OPTIONS.length; i++) {
+            HoverButton button = getHoverButton(frame, ELEMENT_OPTIONS[i], elementIcon(i));
+            buttons.add(button);
+            gridPanel.add(button);
+        }
+
+        toolbar.add(titlePanel, BorderLayout.NORTH);
+        toolbar.add(gridPanel, BorderLayout.CENTER);
+
+        return toolbar;
+    }
+
+    /**
+     * Creates and configures a `JLabel` to display the current level's title or a default label for free simulation mode.
+     * The title itself is set by {@link #updateLevelTitle()} whenever a stage is loaded.
+     *
+     * @return a configured `JLabel` instance.
+     */
+    private JLabel getjLabel() {
+        JLabel levelLabel = new JLabel();
+        levelLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
+        levelLabel.setForeground(MainFrame.getTextTheme());
+        return levelLabel;
+    }
+
+    /**
+     * Shows the current level's title, or "Wolna symulacja" in free simulation mode, in the toolbar.
+     * Adjusts font size based on the level.
+     */
+    private void updateLevelTitle() {
+        String levelTitle = Levels.name(MainFrame.currentLevel);
+        if(question.isEmpty()) {
+            levelTitle = "Wolna symulacja";
+        }
+        levelLabel.setText(levelTitle);
+        if (MainFrame.currentLevel == 3 || MainFrame.currentLevel == 5 || MainFrame.currentLevel == 7 || MainFrame.currentLevel == 11)
+            levelLabel.setFont(new Font("Arial", Font.PLAIN, 35));
+        else
+            levelLabel.setFont(new Font("Arial", Font.PLAIN, 40));
+    }
+
+    /**
+     * Creates and configures a `HoverButton` with the specified action, icon, and behavior.
+     * The button is styled dynamically based on the provided parameters and is associated with
+     * specific actions depending on its purpose.
+     *
+     * @param frame the main application frame, used for context and action handling.
+     * @param option the action command associated with the button.
+     * @param iconPath the file path to the icon image used for the button.
+     * @return a fully configured `HoverButton` instance.
+     */
+    private HoverButton getHoverButton(MainFrame frame, String option, String iconPath) {
+        HoverButton button = new HoverButton();
+        button.setActionCommand(option);
+
+        if(option.equals("R") ||option.equals("C") || option.equals("L") || option.equals("wire") || option.equals("V") || option.equals("I") || option.equals("voltmeter") || option.equals("ammeter")) {
+            button.setIcon(ThemedIcons.get(iconPath, ELEMENT_ICON_SIZE, MainFrame.getTextTheme()));
+            button.addActionListener(_ -> setSelectedElement(option, button));
+        } else if (option.equals("delete")) {
+            button.addActionListener(_ -> setSelectedElement(option, button));
+            button.setIcon(ThemedIcons.get(iconPath, CONTROL_ICON_SIZE, MainFrame.getTextTheme()));
+        }
+        else
+            button.setIcon(ThemedIcons.get(iconPath, CONTROL_ICON_SIZE, MainFrame.getTextTheme()));
+
+        button.addActionListener(_ -> {
+            switch (option) {
+                case "back" -> {
+                    CardLayout cl = (CardLayout) frame.getContentPane().getLayout();
+                    cl.show(frame.getContentPane(), "MainMenu");
+                    LevelManager.currentStageIndex = 0;
+                }
+                case "undo" -> undo();
+                case "redo" -> redo();
+                case "clear" -> clear(frame);
+                case "help" -> MainFrame.showTheory(frame, theory);
+                case "quest" -> MainFrame.showQuestion(frame, question);
+                case "simulate" -> simulate(frame);
+            }
+        });
+        return button;
+    }
+
+    /**
+     * Releases the resources of the panel: stops the live simulation and shuts down the background executor,
+     * cancelling a running simulation. The panel must not be used afterwards.
+     */
+    public void dispose() {
+        liveSimulation.setEnabled(false);
+        simulationExecutor.close();
+    }
+
+    /**
+     * Returns the icon of an element button, with the current resistor symbol.
+     *
+     * @param option the index of the element button.
+     * @return the resource path of the icon.
+     */
+    private static String elementIcon(int option) {
+        return option == RESISTOR_OPTION && MainFrame.currentResistorSymbol.equals("ANSI") ? RESISTOR_ANSI_ICON : ELEMENT_ICONS[option];
+    }
+
+    /**
+     * Updates the title color and the toolbar icons to the current theme and resistor symbol.
+     * The simulation area follows on its own, since its cached layer is keyed by both.
+     */
+    private void updateAppearance() {
+        Color textColor = MainFrame.getTextTheme();
+        levelLabel.setForeground(textColor);
+        for (int i = 0; i < CONTROL_OPTIONS.length; i++)
+            buttons.get(i).setIcon(ThemedIcons.get(CONTROL_ICONS[i], CONTROL_ICON_SIZE, textColor));
+        for (int i = 0; i < ELEMENT_OPTIONS.length; i++)
+            buttons.get(CONTROL_OPTIONS.length + i).setIcon(ThemedIcons.get(elementIcon(i), ELEMENT_ICON_SIZE, textColor));
+        repaint();
+    }
+
+    /**
+     * Subscribes the panel to the changes of the settings when it is added to the window,
+     * applying the current ones in case they changed while it was not.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        updateAppearance();
+        SettingsEvents.addListener(settingsListener);
+    }
+
+    /**
+     * Unsubscribes the panel from the changes of the settings when it is removed from the window.
+     */
+    @Override
+    public void removeNotify() {
+        SettingsEvents.removeListener(settingsListener);
+        super.removeNotify();
+    }
+
+    /**
+     * Prepares the toolbar icons for the current theme in the background, so that building a toolbar
+     * does not process any icon.
+     */
+    public static void warmUpIcons() {
+        String[] paths = new String[CONTROL_ICONS.length + ELEMENT_ICONS.length + 1];
+        int[] sizes = new int[paths.length];
+        for (int i = 0; i < CONTROL_ICONS.length; i++) {
+            paths[i] = CONTROL_ICONS[i];
+            sizes[i] = CONTROL_ICON_SIZE;
+        }
+        for (int i = 0; i < ELEMENT_ICONS.length; i++) {
+            paths[CONTROL_ICONS.length + i] = ELEMENT_ICONS[i];
+            sizes[CONTROL_ICONS.length + i] = ELEMENT_ICON_SIZE;
+        }
+        paths[paths.length - 1] = RESISTOR_ANSI_ICON;
+        sizes[paths.length - 1] = ELEMENT_ICON_SIZE;
+        ThemedIcons.warmUp(paths, sizes, MainFrame.getTextTheme());
+    }
+
+    /**
+     * Draws the snap points of the grid on the simulation area.
+     * Snap points help align elements in the simulation to predefined grid positions.
+     *
+     * @param g the Graphics context used for rendering the snap points.
+     */
+    private void drawPoints(Graphics g) {
+        if (grid == null)
+            return;
+        g.setColor(MainFrame.getTextTheme());
+        grid.draw(g);
+    }
+
+    /**
+     * Finds the snap point nearest to the specified point.
+     *
+     * @param p the point to which the nearest snap point is to be determined.
+     * @return the nearest snap point if within the threshold distance, or {@code null} if no snap point is close enough.
+     */
+    private Point getNearestSnapPoint(Point p) {
+        return grid == null ? null : grid.snap(p);
+    }
+
+    /**
+     * Validates whether a connection between two points in the simulation is valid.
+     * Ensures the connection adheres to rules such as orientation, distance, and element placement restrictions.
+     *
+     * @param start the starting point of the connection.
+     * @param end the ending point of the connection.
+     * @param frame the main application frame, used for displaying warning dialogs.
+     * @return {@code true} if the connection is valid; {@code false} otherwise.
+     */
+    private boolean isValidConnection(Point start, Point end, MainFrame frame) {
+        if (start == null || end == null || start.equals(end))
+            return false;
+
+        if (selectedElement == null) {
+            JOptionPane.showMessageDialog(frame, "Nie wybrano elementu.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+
+        boolean isHorizontal = start.y == end.y;
+        boolean isVertical = start.x == end.x;
+
+        if (!isHorizontal && !isVertical) {
+            JOptionPane.showMessageDialog(frame, "Tylko prostopadłe połączenia.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+
+        if (!grid.isAdjacent(start, end)) {
+            JOptionPane.showMessageDialog(frame, "Połączenia tylko między najbliższymi punktami.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+
+        if (elementIndex.between(start, end) != null) {
+            JOptionPane.showMessageDialog(frame, "Tu już znajduje się element.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        if (MainFrame.currentLevel > 1 && MainFrame.currentLevel != 9 && isVertical) {
+            int column = grid.column(start.x);
+            if (column == 0 || column == 1) {
+                int neighbourX = grid.x(1 - column);
+                Element neighbour = elementIndex.between(new Point(neighbourX, start.y), new Point(neighbourX, end.y));
+                if (neighbour != null) {
+                    JOptionPane.showMessageDialog(frame, "Nie można dodać elementu w tym miejscu, ze względu na możliwość wystąpienia słabej czytelności wartości elementu.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Configures keyboard shortcuts for the simulation area.
+     * Binds key presses to specific actions, such as adding elements, performing undo/redo operations,
+     * switching modes, and controlling the simulation flow.
+     *
+     * @param simulationArea the panel representing the simulation area where key bindings are applied.
+     * @param frame the main application frame, used for navigating and displaying dialogs.
+     */
+    private void setupKeyBindings(JPanel simulationArea, MainFrame frame) {
+        InputMap inputMap = simulationArea.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap actionMap = simulationArea.getActionMap();
+
+        inputMap.put(KeyStroke.getKeyStroke("ESCAPE"), "back");
+        actionMap.put("back", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                CardLayout cl = (CardLayout) frame.getContentPane().getLayout();
+                cl.show(frame.getContentPane(), "MainMenu");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("control Z"), "undo");
+        actionMap.put("undo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                undo();
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("control shift Z"), "redo");
+        actionMap.put("redo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                redo();
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("H"), "showTheory");
+        actionMap.put("showTheory", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                MainFrame.showTheory(frame, theory);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("Q"), "showQuestion");
+        actionMap.put("showQuestion", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                MainFrame.showQuestion(frame, question);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("DELETE"), "clear");
+        actionMap.put("clear", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                clear(frame);
+            }
+        });
+        inputMap.put(KeyStroke.getKeyStroke("D"), "deleteMode");
+        actionMap.put("deleteMode", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("delete");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("ENTER"), "continue");
+        actionMap.put("continue", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (isCorrect)
+                    MainFrame.levelManager.nextStage(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("S"), "simulate");
+        actionMap.put("simulate", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                simulate(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("T"), "liveSimulation");
+        actionMap.put("liveSimulation", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                liveSimulation.setEnabled(!liveSimulation.isEnabled());
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("control E"), "exportSpice");
+        actionMap.put("exportSpice", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                exportSpice(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("control O"), "importSpice");
+        actionMap.put("importSpice", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                importSpice(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("F"), "frequencySweep");
+        actionMap.put("frequencySweep", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sweepFrequency(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("P"), "parameterSweep");
+        actionMap.put("parameterSweep", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sweepParameters(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("M"), "monteCarlo");
+        actionMap.put("monteCarlo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                analyzeTolerances(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("O"), "transient");
+        actionMap.put("transient", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                analyzeTransient(frame);
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("R"), "resistor");
+        actionMap.put("resistor", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("R");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("C"), "capacitor");
+        actionMap.put("capacitor", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("C");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("L"), "inductor");
+        actionMap.put("inductor", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("L");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("V"), "voltageSource");
+        actionMap.put("voltageSource", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("V");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("I"), "currentSource");
+        actionMap.put("currentSource", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("I");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("B"), "voltmeter");
+        actionMap.put("voltmeter", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("voltmeter");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("A"), "ammeter");
+        actionMap.put("ammeter", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("ammeter");
+            }
+        });
+
+        inputMap.put(KeyStroke.getKeyStroke("W"), "wire");
+        actionMap.put("wire", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setSelectedElementByAction("wire");
+            }
+        });
+    }
+
+    /**
+     * Updates the selected element type and highlights the corresponding button in the toolbar.
+     * Activates or deactivates delete mode based on the selected option.
+     *
+     * @param option the type of element selected.
+     * @param selectedButton the button corresponding to the selected option.
+     */
+    private void setSelectedElement(String option, HoverButton selectedButton) {
+        for (HoverButton button : buttons) {
+            if (button.getActionListeners().length > 0)
+                button.setSelected(false);
+        }
+        selectedButton.setSelected(true);
+        selectedElement = option;
+        isDeleteMode = selectedElement.equals("delete");
+    }
+
+    /**
+     * Updates the selected element and highlights the corresponding button in the toolbar based on the specified action command.
+     * If no matching button is found, clears the current selection.
+     *
+     * @param action the action command associated with the button to be selected.
+     */
+    private void setSelectedElementByAction(String action) {
+        for (HoverButton button : buttons) {
+            if (button.getActionCommand() != null && button.getActionCommand().equals(action)) {
+                setSelectedElement(action, button);
+                return;
+            } else {
+                button.setSelected(false);
+                selectedElement = null;
+            }
+        }
+    }
+
+    /**
+     * Deletes an element from the simulation plane based on the given click point.
+     * The element whose midpoint is nearest to the click point, within 60 pixels, is removed
+     * from the plane. If no element is found, a warning dialog is displayed.
+     *
+     * @param clickPoint the point where the user clicked to delete an element.
+     * @param frame the main application frame, used for displaying warning dialogs.
+     */
+    private void deleteElement(Point clickPoint, MainFrame frame) {
+        Element toRemove = elementIndex.nearest(clickPoint);
+        if (toRemove != null) {
+            removeElement(toRemove);
+            redoStack.clear();
+            actions.push(toRemove);
+            repaint();
+        } else
+            JOptionPane.showMessageDialog(frame, "Nie wybrano elementu do usunięcia.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Creates a new circuit element based on the provided type, start point and end point.
+     * The type of element is determined by the `option` parameter, and the element
+     * is defined by its start and end points.
+     *
+     * @param option the type of element to create.
+     * @param start the starting point of the element in the simulation area.
+     * @param end the ending point of the element in the simulation area.
+     * @return the created circuit element, or {@code null} if the option does not match any type.
+     */
+    private Element createElement (String option, Point start, Point end) {
+        Element element = null;
+
+        switch (option) {
+            case "R" -> element = new Resistor(start, end);
+            case "C" -> element = new Capacitor(start, end);
+            case "L" -> element = new Inductor(start, end);
+            case "V" -> element = new VoltageSource(start, end);
+            case "I" -> element = new CurrentSource(start, end);
+            case "voltmeter" -> element = new Voltmeter(start, end);
+            case "ammeter" -> element = new Ammeter(start, end);
+            case "wire" -> element = new Wire(start, end);
+        }
+        return element;
+    }
+
+    /**
+     * Creates a new circuit element of the specified kind.
+     *
+     * @param kind the kind of element to create.
+     * @param start the starting point of the element in the simulation area.
+     * @param end the ending point of the element in the simulation area.
+     * @return the created circuit element.
+     */
+    private static Element createElement(ElementKind kind, Point start, Point end) {
+        return switch (kind) {
+            case RESISTOR -> new Resistor(start, end);
+            case CAPACITOR -> new Capacitor(start, end);
+            case INDUCTOR -> new Inductor(start, end);
+            case VOLTAGE_SOURCE -> new VoltageSource(start, end);
+            case CURRENT_SOURCE -> new CurrentSource(start, end);
+            case VOLTMETER -> new Voltmeter(start, end);
+            case AMMETER -> new Ammeter(start, end);
+            case WIRE -> new Wire(start, end);
+        };
+    }
+
+    /**
+     * Adds a new element to the simulation area.
+     *
+     * @param element the element to add.
+     */
+    private void addElement(Element element) {
+        placeElement(element);
+        actions.push(element);
+        redoStack.clear();
+        repaint();
+    }
+
+    /**
+     * Places an element in the circuit and registers it for drawing under its handle.
+     *
+     * @param element the element to place.
+     */
+    private void placeElement(Element element) {
+        int handle = element.attach(circuit);
+        if (handle >= elements.length)
+            elements = Arrays.copyOf(elements, Math.max(2 * elements.length, handle + 1));
+        elements[handle] = element;
+        elementIndex.add(element);
+        liveSimulation.circuitChanged();
+    }
+
+    /**
+     * Removes an element from the circuit and from drawing. Its handle is reused by later elements.
+     *
+     * @param element the element to remove.
+     */
+    private void removeElement(Element element) {
+        elements[element.getHandle()] = null;
+        elementIndex.remove(element);
+        element.detach();
+        liveSimulation.circuitChanged();
+    }
+
+    /**
+     * Restores the last action related to adding an item.
+     * Moves the reverted action to the redo stack.
+     */
+    private void undo() {
+        if (!actions.isEmpty()) {
+            Element lastAction = actions.pop();
+            redoStack.push(lastAction);
+            if (lastAction.getHandle() >= 0)
+                removeElement(lastAction);
+            else
+                placeElement(lastAction);
+            repaint();
+        }
+    }
+
+    /**
+     * Re-applies the last undone action.
+     * Moves the redone action back to the actions stack.
+     */
+    private void redo() {
+        if (!redoStack.isEmpty()) {
+            Element lastRedo = redoStack.pop();
+            actions.push(lastRedo);
+            if (lastRedo.getHandle() >= 0)
+                removeElement(lastRedo);
+            else
+                placeElement(lastRedo);
+            repaint();
+        }
+    }
+
+    /**
+     * Changes the value of a circuit element selected by the user.
+     * Prompts the user to input a new value for the element, validates the input,
+     * and updates the element's value if valid.
+     *
+     * @param clickPoint the point where the user clicked to select an element to change its value.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void changeValue(Point clickPoint, MainFrame frame) {
+        if (isDeleteMode || MainFrame.currentLevel == 6 || (MainFrame.currentLevel == 5 && LevelManager.currentStageIndex == 7))
+            return;
+        Element toChange = elementIndex.nearest(clickPoint);
+        if (toChange != null)
+            setSelectedElementByAction(null);
+        if (!(toChange instanceof Voltmeter) && !(toChange instanceof Ammeter) && !(toChange instanceof Wire) && toChange != null) {
+            String newValueStr = JOptionPane.showInputDialog(this, "Wprowadź nową wartość dla elementu:", "Zmień wartość", JOptionPane.PLAIN_MESSAGE);
+            try {
+                if (newValueStr != null) {
+                    double newValue = Element.UnitToValue(newValueStr);
+                    if (newValue < 0)
+                        JOptionPane.showMessageDialog(frame, "Wartość nie może być ujemna.", "Błąd", JOptionPane.WARNING_MESSAGE);
+                    else {
+                        toChange.setElementValue(newValue);
+                        liveSimulation.circuitChanged();
+                        repaint();
+                    }
+                }
+            } catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(frame, "Nieprawidłowy format wartości.", "Błąd", JOptionPane.WARNING_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Changes the values of elements during the automatic circuit creation process required in certain levels.
+     *
+     * @param value the new value to assign to the element, required for the specified circuit.
+     * @param clickPoint the point where the element to be set is located.
+     */
+    private void InitChangeValue(Point clickPoint, String value) {
+        setSelectedElementByAction(null);
+        Element toChange = elementIndex.nearest(clickPoint);
+        double newValue = Element.UnitToValue(value);
+        assert toChange != null;
+        toChange.setElementValue(newValue);
+        liveSimulation.circuitChanged();
+        repaint();
+    }
+
+    /**
+     * Clears all elements and actions in the simulation stage.
+     * Resets counters, clears stacks, and refreshes the simulation area.
+     * Displays a warning message if no elements are present to clear.
+     *
+     * @param frame the main application frame, used for displaying warning dialogs.
+     */
+    private void clear(MainFrame frame) {
+        if (circuit.size() == 0) {
+            JOptionPane.showMessageDialog(frame, "Brak elementów.", "Błąd", JOptionPane.WARNING_MESSAGE);
+        } else {
+            Arrays.fill(elements, null);
+            elementIndex.clear();
+            circuit.clear();
+            liveSimulation.circuitChanged();
+            actions.clear();
+            redoStack.clear();
+            repaint();
+            setSelectedElementByAction(null);
+        }
+    }
+
+    /**
+     * Submits a simulation of the circuit to the background executor. Superseded simulations are cancelled,
+     * and the outcome is shown once it arrives on the event dispatch thread, unless the circuit was modified
+     * in the meantime.
+     *
+     * @param frame the main application frame, used for displaying dialogs and messages.
+     */
+    private void simulate(MainFrame frame) {
+        simulationExecutor.submit(circuit, MainFrame.currentSolver, verifier,
+                outcome -> SwingUtilities.invokeLater(() -> showOutcome(outcome, frame)));
+    }
+
+    /**
+     * Publishes the outcome of a simulation and displays its status.
+     * The results are swapped in as a whole, so painting never sees a partially updated circuit.
+     * Outcomes computed for an older state of the circuit are discarded.
+     *
+     * @param outcome the outcome of the simulation.
+     * @param frame the main application frame, used for displaying dialogs and messages.
+     */
+    private void showOutcome(SimulationOutcome outcome, MainFrame frame) {
+        if (outcome.revision() != circuit.revision())
+            return;
+        isCorrect = false;
+        if (outcome.countResult() != null && !verifyElementCounts(outcome.countResult(), frame))
+            return;
+        if (outcome.isUnexpectedError()) {
+            JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (outcome.topologyFault() != null) {
+            showTopologyFault(outcome.topologyFault(), frame);
+            return;
+        }
+        if (outcome.error() != null) {
+            showSimulationError(outcome.error(), frame);
+            return;
+        }
+        circuit.publish(outcome.results());
+        repaint();
+
+        if (verifier != null) {
+            if (!verifyElementParameters(outcome.parameterResult(), frame))
+                return;
+            else {
+                isCorrect = true;
+                JOptionPane.showMessageDialog(frame, "Obwód poprawny. Naciśnij Enter aby kontynuować.", "Zadanie ukończone", JOptionPane.INFORMATION_MESSAGE);
+            }
+        }
+        else
+            JOptionPane.showMessageDialog(frame, "Symulacja zakończona.", "Obwód poprawny", JOptionPane.INFORMATION_MESSAGE);
+        repaint();
+    }
+
+    /**
+     * Validates the topology of a copy of the circuit in the background before an analysis. The nodes and the netlist
+     * of the copy are built in the background as well. Once the copy passes, it is handed over to the analysis on the
+     * event dispatch thread; otherwise the elements at fault are highlighted and the error is displayed, unless
+     * the topology of the circuit changed in the meantime. Requests made while a validation runs are ignored.
+     *
+     * @param frame the main application frame, used for displaying error dialogs.
+     * @param analysis receives the validated copy of the circuit, with its netlist built.
+     */
+    private void validateForAnalysis(MainFrame frame, Consumer<Circuit> analysis) {
+        if (isValidatingAnalysis)
+            return;
+        isValidatingAnalysis = true;
+        Circuit copy = new Circuit(circuit);
+        new SwingWorker<TopologyFault, Void>() {
+            @Override
+            protected TopologyFault doInBackground() {
+                copy.assignNodes();
+                TopologyFault fault = TopologyValidator.validate(copy);
+                if (fault == null)
+                    copy.netlist();
+                return fault;
+            }
+
+            @Override
+            protected void done() {
+                isValidatingAnalysis = false;
+                TopologyFault fault;
+                try {
+                    fault = get();
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (fault == null)
+                    analysis.accept(copy);
+                else if (copy.topologyRevision() == circuit.topologyRevision())
+                    showTopologyFault(fault, frame);
+            }
+        }.execute();
+    }
+
+    /**
+     * Highlights the elements at fault in a topology error and displays the error message.
+     *
+     * @param fault the topology error.
+     * @param frame the main application frame, used for displaying error dialogs.
+     */
+    private void showTopologyFault(TopologyFault fault, MainFrame frame) {
+        topologyFault = fault;
+        faultTopology = circuit.topologyRevision();
+        repaint();
+        String message = switch (fault.problem()) {
+            case TOO_FEW_ELEMENTS -> "Obwód musi zawierać co najmniej dwa elementy.";
+            case SHORTED_ELEMENT -> "W obwodzie występuje zwarcie.";
+            case DANGLING_ELEMENT -> "W obwodzie występują niepodłączone elementy.";
+            case CURRENT_SOURCE_CUTSET -> "Źródła prądowe nie mogą być połączone szeregowo!";
+            case VOLTAGE_LOOP -> "Źródła napięciowe nie mogą tworzyć zamkniętej pętli!";
+            case DISCONNECTED_SUBCIRCUIT -> "Obwód składa się z niepołączonych ze sobą części.";
+        };
+        JOptionPane.showMessageDialog(frame, message, "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Returns the last topology error, found either by a simulation or by the live simulation,
+     * as long as no element was added or removed since.
+     *
+     * @return the topology fault, or {@code null} if there is none.
+     */
+    private TopologyFault currentTopologyFault() {
+        return faultTopology == circuit.topologyRevision() ? topologyFault : liveSimulation.getTopologyFault();
+    }
+
+    /**
+     * Highlights the elements at fault in a topology error.
+     *
+     * @param g the graphics context used for rendering.
+     * @param fault the topology fault, or {@code null}.
+     */
+    private void drawTopologyFault(Graphics g, TopologyFault fault) {
+        if (fault == null)
+            return;
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(FAULT_COLOR);
+        g2d.setStroke(FAULT_STROKE);
+        for (int h : fault.elements()) {
+            Element element = elements[h];
+            if (element != null)
+                g2d.drawLine(element.start.x, element.start.y, element.end.x, element.end.y);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Draws the snap points, the topology fault and the elements with their values from a cached image.
+     * The image is rendered again only after the circuit, its results, the topology fault, the grid, the theme
+     * or the resistor symbol changed, so repainting while dragging does not depend on the size of the circuit.
+     *
+     * @param g the graphics context used for rendering.
+     * @param area the simulation area.
+     */
+    private void drawStaticLayer(Graphics g, JComponent area) {
+        if (area.getWidth() <= 0 || area.getHeight() <= 0)
+            return;
+        TopologyFault fault = currentTopologyFault();
+        boolean isStale = staticLayer == null || staticLayer.getWidth() != area.getWidth() || staticLayer.getHeight() != area.getHeight()
+                || layerRevision != circuit.revision() || layerResults != circuit.results() || layerFault != fault || layerGrid != grid
+                || !MainFrame.currentTheme.equals(layerTheme) || !MainFrame.currentResistorSymbol.equals(layerResistorSymbol);
+        if (isStale) {
+            if (staticLayer == null || staticLayer.getWidth() != area.getWidth() || staticLayer.getHeight() != area.getHeight()) {
+                GraphicsConfiguration configuration = area.getGraphicsConfiguration();
+                staticLayer = configuration != null
+                        ? configuration.createCompatibleImage(area.getWidth(), area.getHeight(), Transparency.TRANSLUCENT)
+                        : new BufferedImage(area.getWidth(), area.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            }
+            Graphics2D layer = staticLayer.createGraphics();
+            layer.setComposite(AlphaComposite.Clear);
+            layer.fillRect(0, 0, staticLayer.getWidth(), staticLayer.getHeight());
+            layer.setComposite(AlphaComposite.SrcOver);
+            layer.setRenderingHints(((Graphics2D) g).getRenderingHints());
+            layer.setFont(area.getFont());
+            drawPoints(layer);
+            drawTopologyFault(layer, fault);
+            drawElements(layer);
+            layer.dispose();
+            layerRevision = circuit.revision();
+            layerResults = circuit.results();
+            layerFault = fault;
+            layerGrid = grid;
+            layerTheme = MainFrame.currentTheme;
+            layerResistorSymbol = MainFrame.currentResistorSymbol;
+        }
+        g.drawImage(staticLayer, 0, 0, null);
+    }
+
+    /**
+     * Draws all elements with their values.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    private void drawElements(Graphics g) {
+        for (int h = 0; h < circuit.handleLimit(); h++) {
+            Element element = elements[h];
+            if (element == null)
+                continue;
+            element.draw(g);
+            if (element instanceof Wire) {
+                continue;
+            }
+
+            if (MainFrame.currentLevel == 5 && LevelManager.currentStageIndex ==7) {
+                if (!(element instanceof Resistor) && !(element instanceof VoltageSource))
+                    element.drawValue(g);
+            } else
+                element.drawValue(g);
+        }
+    }
+
+    /**
+     * Draws a line from the starting point of the element being created to the cursor.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    private void drawDragPreview(Graphics g) {
+        if (startPoint == null || endPoint == null || isDeleteMode)
+            return;
+        g.setColor(MainFrame.getTextTheme());
+        g.drawLine(startPoint.x, startPoint.y, endPoint.x, endPoint.y);
+    }
+
+    /**
+     * Displays the error message matching a solver error.
+     *
+     * @param message the message of the exception thrown by the solver.
+     * @param frame the main application frame, used for displaying error dialogs.
+     */
+    private static void showSimulationError(String message, MainFrame frame) {
+        if (message.contains("A component cannot be connected to the same node twice!"))
+            JOptionPane.showMessageDialog(frame, "W obwodzie występuje zwarcie.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else if (message.contains("Must have at least 2 NetListParts!"))
+            JOptionPane.showMessageDialog(frame, "Obwód musi zawierać co najmniej dwa elementy.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else if (message.startsWith("Must have at least 2 Connections for node"))
+            JOptionPane.showMessageDialog(frame, "W obwodzie występują niepodłączone elementy.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else if (message.contains("Current sources cannot be in series!"))
+            JOptionPane.showMessageDialog(frame, "Źródła prądowe nie mogą być połączone szeregowo!", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else if (message.contains("Voltage sources cannot be in parallel!"))
+            JOptionPane.showMessageDialog(frame, "Źródła napięciowe nie mogą być połączone równolegle!", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else if (message.contains("Singular circuit matrix!"))
+            JOptionPane.showMessageDialog(frame, "Obwód nie ma jednoznacznego rozwiązania.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+        else
+            JOptionPane.showMessageDialog(frame, "Symulacja nie powiodła się: " + message, "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Exports the circuit to a SPICE deck chosen by the user.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void exportSpice(MainFrame frame) {
+        if (circuit.size() == 0) {
+            JOptionPane.showMessageDialog(frame, "Brak elementów.", "Błąd", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new java.io.File("obwod.cir"));
+        if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION)
+            return;
+        try (Writer writer = Files.newBufferedWriter(chooser.getSelectedFile().toPath(), StandardCharsets.UTF_8)) {
+            SpiceWriter.write(circuit, writer);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(frame, "Nie udało się zapisać pliku.", "Błąd", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Replaces the circuit with a SPICE deck chosen by the user, placing its components onto the snap grid.
+     * Available in free simulation only, for decks that fit the grid. The deck is read and placed in the background.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void importSpice(MainFrame frame) {
+        if (!question.isEmpty()) {
+            JOptionPane.showMessageDialog(frame, "Wczytywanie obwodu jest dostępne tylko w wolnej symulacji.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (isImportingSpice)
+            return;
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION)
+            return;
+        Path path = chooser.getSelectedFile().toPath();
+        isImportingSpice = true;
+        new SwingWorker<SpicePlacement, Void>() {
+            @Override
+            protected SpicePlacement doInBackground() throws IOException {
+                return new SpicePlacement(SpiceDeck.read(path));
+            }
+
+            @Override
+            protected void done() {
+                isImportingSpice = false;
+                SpicePlacement placement;
+                try {
+                    placement = get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException)
+                        JOptionPane.showMessageDialog(frame, "Nie udało się odczytać pliku.", "Błąd", JOptionPane.ERROR_MESSAGE);
+                    else if (e.getCause() instanceof IllegalArgumentException)
+                        JOptionPane.showMessageDialog(frame, "Plik zawiera nieobsługiwane lub niepoprawne elementy.", "Błąd", JOptionPane.ERROR_MESSAGE);
+                    else
+                        JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd", JOptionPane.ERROR_MESSAGE);
+                    return;
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (question.isEmpty() && grid != null)
+                    placeSpice(placement, frame);
+            }
+        }.execute();
+    }
+
+    /**
+     * Replaces the circuit with the components of a placed SPICE deck, unless they do not fit the grid.
+     *
+     * @param placement the placement of the deck.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void placeSpice(SpicePlacement placement, MainFrame frame) {
+        if (placement.columns() > grid.columns() || placement.rows() > grid.rows()) {
+            JOptionPane.showMessageDialog(frame, "Obwód nie mieści się na siatce (potrzeba " + placement.columns() + " kolumn i "
+                    + placement.rows() + " wierszy punktów).", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        Arrays.fill(elements, null);
+        elementIndex.clear();
+        circuit.clear();
+        liveSimulation.circuitChanged();
+        actions.clear();
+        redoStack.clear();
+        for (int i = 0; i < placement.size(); i++) {
+            Element element = createElement(placement.kind(i), grid.point(placement.startColumn(i), placement.startRow(i)),
+                    grid.point(placement.endColumn(i), placement.endRow(i)));
+            element.setElementValue(placement.value(i));
+            placeElement(element);
+            actions.push(element);
+        }
+        setSelectedElementByAction(null);
+        repaint();
+    }
+
+    /**
+     * Performs an AC frequency sweep of the circuit in the background and displays the Bode plots of all
+     * voltmeters and ammeters. Every source drives the circuit with an amplitude equal to its value.
+     * The circuit is validated on a copy in the background first. The analysis works on a private copy of the netlist,
+     * which takes over the current values before every sweep, so the circuit can be edited while the sweep runs;
+     * a new sweep waits until the last one is shown.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void sweepFrequency(MainFrame frame) {
+        if (!isSweepingFrequency)
+            validateForAnalysis(frame, copy -> sweepFrequency(copy, frame));
+    }
+
+    /**
+     * Performs an AC frequency sweep of a validated copy of the circuit in the background, see {@link #sweepFrequency(MainFrame)}.
+     *
+     * @param copy the validated copy of the circuit.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void sweepFrequency(Circuit copy, MainFrame frame) {
+        if (isSweepingFrequency)
+            return;
+        CircuitNetlist netlist = copy.netlist();
+        try {
+            if (acAnalysis == null || acTopology != copy.topologyRevision()) {
+                acAnalysis = new AcAnalysis(netlist);
+                acTopology = copy.topologyRevision();
+            } else {
+                for (int e = 0; e < netlist.size(); e++)
+                    acAnalysis.netlist().setValue(e, netlist.value(e));
+            }
+        } catch (IllegalArgumentException e) {
+            acAnalysis = null;
+            acTopology = -1;
+            showSimulationError(String.valueOf(e.getMessage()), frame);
+            return;
+        }
+        if (acAnalysis.probeCount() == 0) {
+            JOptionPane.showMessageDialog(frame, "Dodaj woltomierz lub amperomierz, aby wyznaczyć charakterystykę.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        AcAnalysis analysis = acAnalysis;
+        isSweepingFrequency = true;
+        new SwingWorker<AcSweep, Void>() {
+            @Override
+            protected AcSweep doInBackground() {
+                return analysis.sweep(AC_START_FREQUENCY, AC_STOP_FREQUENCY, AC_POINTS);
+            }
+
+            @Override
+            protected void done() {
+                isSweepingFrequency = false;
+                AcSweep sweep;
+                try {
+                    sweep = get();
+                } catch (ExecutionException e) {
+                    if (acAnalysis == analysis) {
+                        acAnalysis = null;
+                        acTopology = -1;
+                    }
+                    if (e.getCause() instanceof IllegalArgumentException)
+                        showSimulationError(String.valueOf(e.getCause().getMessage()), frame);
+                    else
+                        JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                JOptionPane.showMessageDialog(frame, createBodePlot(sweep, analysis.netlist()), "Charakterystyka częstotliwościowa", JOptionPane.PLAIN_MESSAGE);
+            }
+        }.execute();
+    }
+
+    /**
+     * Performs a DC sweep over the values of one or two sources or resistors chosen by the user
+     * and saves the voltages and currents of all elements at every grid point to a CSV file.
+     * Positive ranges are spaced logarithmically, others linearly. The circuit is validated on a copy and the sweep
+     * runs in the background, so the simulation area stays responsive.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void sweepParameters(MainFrame frame) {
+        validateForAnalysis(frame, copy -> sweepParameters(copy, frame));
+    }
+
+    /**
+     * Performs a DC sweep of a validated copy of the circuit, see {@link #sweepParameters(MainFrame)}.
+     *
+     * @param copy the validated copy of the circuit.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void sweepParameters(Circuit copy, MainFrame frame) {
+        CircuitNetlist netlist = copy.netlist();
+        List<String> names = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        for (int e = 0; e < netlist.size(); e++) {
+            ComponentType type = netlist.type(e);
+            if (type == ComponentType.RESISTOR || type == ComponentType.VOLTAGE_SOURCE || type == ComponentType.CURRENT_SOURCE) {
+                names.add(netlist.name(e));
+                indices.add(e);
+            }
+        }
+        if (names.isEmpty()) {
+            JOptionPane.showMessageDialog(frame, "Brak elementów, których wartość można zmieniać.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        JComboBox<String> firstBox = new JComboBox<>(names.toArray(new String[0]));
+        List<String> secondNames = new ArrayList<>(names);
+        secondNames.addFirst("brak");
+        JComboBox<String> secondBox = new JComboBox<>(secondNames.toArray(new String[0]));
+        JTextField firstStart = new JTextField("10");
+        JTextField firstStop = new JTextField("10k");
+        JTextField secondStart = new JTextField("10");
+        JTextField secondStop = new JTextField("10k");
+        JTextField pointsField = new JTextField("100");
+        JPanel form = new JPanel(new GridLayout(0, 2, 5, 5));
+        form.add(new JLabel("Element 1:"));
+        form.add(firstBox);
+        form.add(new JLabel("Od:"));
+        form.add(firstStart);
+        form.add(new JLabel("Do:"));
+        form.add(firstStop);
+        form.add(new JLabel("Element 2:"));
+        form.add(secondBox);
+        form.add(new JLabel("Od:"));
+        form.add(secondStart);
+        form.add(new JLabel("Do:"));
+        form.add(secondStop);
+        form.add(new JLabel("Liczba punktów:"));
+        form.add(pointsField);
+        if (JOptionPane.showConfirmDialog(frame, form, "Przemiatanie parametrów", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION)
+            return;
+
+        int firstElement = indices.get(firstBox.getSelectedIndex());
+        int secondElement = secondBox.getSelectedIndex() == 0 ? -1 : indices.get(secondBox.getSelectedIndex() - 1);
+        double[] firstValues;
+        double[] secondValues;
+        try {
+            int points = Integer.parseInt(pointsField.getText().trim());
+            if (points < 1 || points > 1000 || firstElement == secondElement)
+                throw new NumberFormatException();
+            firstValues = getSweepValues(Element.UnitToValue(firstStart.getText().trim()), Element.UnitToValue(firstStop.getText().trim()), points);
+            secondValues = secondElement < 0 ? new double[] {0}
+                    : getSweepValues(Element.UnitToValue(secondStart.getText().trim()), Element.UnitToValue(secondStop.getText().trim()), points);
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(frame, "Nieprawidłowy format wartości.", "Błąd", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        DcSweep sweep;
+        try {
+            sweep = new DcSweep(netlist);
+        } catch (IllegalArgumentException e) {
+            showSimulationError(String.valueOf(e.getMessage()), frame);
+            return;
+        }
+        new SwingWorker<DcSweepResult, Void>() {
+            @Override
+            protected DcSweepResult doInBackground() {
+                return sweep.sweep(firstElement, firstValues, secondElement, secondValues);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    saveSweepResult(get(), frame);
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Performs a Monte Carlo tolerance analysis of the circuit in the background and displays the spread
+     * of the voltage and current of every element: the mean, the standard deviation and the 5th and
+     * 95th percentiles. Resistors vary by 5%, capacitors and inductors by 10%, sources are exact.
+     * The circuit is validated on a copy in the background first.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void analyzeTolerances(MainFrame frame) {
+        validateForAnalysis(frame, copy -> analyzeTolerances(copy, frame));
+    }
+
+    /**
+     * Performs a Monte Carlo tolerance analysis of a validated copy of the circuit, see {@link #analyzeTolerances(MainFrame)}.
+     *
+     * @param copy the validated copy of the circuit.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void analyzeTolerances(Circuit copy, MainFrame frame) {
+        CircuitNetlist netlist = copy.netlist();
+        MonteCarloAnalysis analysis;
+        try {
+            analysis = new MonteCarloAnalysis(netlist);
+        } catch (IllegalArgumentException e) {
+            showSimulationError(String.valueOf(e.getMessage()), frame);
+            return;
+        }
+        new SwingWorker<MonteCarloResult, Void>() {
+            @Override
+            protected MonteCarloResult doInBackground() throws InterruptedException {
+                return analysis.run(MONTE_CARLO_SAMPLES, MONTE_CARLO_SEED, 100);
+            }
+
+            @Override
+            protected void done() {
+                MonteCarloResult result;
+                try {
+                    result = get();
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                StringBuilder text = new StringBuilder("Liczba prób: " + result.samples() + "\n\n");
+                for (int e = 0; e < netlist.size(); e++) {
+                    text.append(netlist.name(e)).append('\n');
+                    appendStatistics(text, "V", result.voltage(e));
+                    appendStatistics(text, "I", result.current(e));
+                }
+                JTextArea area = new JTextArea(text.toString(), 20, 60);
+                area.setEditable(false);
+                area.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+                JOptionPane.showMessageDialog(frame, new JScrollPane(area), "Analiza tolerancji (Monte Carlo)", JOptionPane.PLAIN_MESSAGE);
+            }
+        }.execute();
+    }
+
+    /**
+     * Performs a transient analysis of the circuit in the background and plots the voltages of all voltmeters
+     * and the currents of all ammeters after the sources are switched on, from discharged capacitors and
+     * currentless inductors, over an interval chosen by the user. The circuit is validated on a copy in the background first.
+     *
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void analyzeTransient(MainFrame frame) {
+        validateForAnalysis(frame, copy -> analyzeTransient(copy, frame));
+    }
+
+    /**
+     * Performs a transient analysis of a validated copy of the circuit, see {@link #analyzeTransient(MainFrame)}.
+     *
+     * @param copy the validated copy of the circuit.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private void analyzeTransient(Circuit copy, MainFrame frame) {
+        CircuitNetlist netlist = copy.netlist();
+        boolean hasProbes = false;
+        for (int e = 0; e < netlist.size(); e++) {
+            if (netlist.type(e) == ComponentType.VOLTMETER || netlist.type(e) == ComponentType.AMMETER)
+                hasProbes = true;
+        }
+        if (!hasProbes) {
+            JOptionPane.showMessageDialog(frame, "Dodaj woltomierz lub amperomierz, aby wyznaczyć przebieg czasowy.", "Uwaga", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        JTextField stopField = new JTextField("10m");
+        JComboBox<String> methodBox = new JComboBox<>(new String[] {"trapezów", "Eulera (wsteczna)"});
+        JPanel form = new JPanel(new GridLayout(0, 2, 5, 5));
+        form.add(new JLabel("Czas symulacji [s]:"));
+        form.add(stopField);
+        form.add(new JLabel("Metoda całkowania:"));
+        form.add(methodBox);
+        if (JOptionPane.showConfirmDialog(frame, form, "Stan nieustalony", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION)
+            return;
+        double stopTime;
+        try {
+            stopTime = Element.UnitToValue(stopField.getText().trim());
+            if (!(stopTime > 0) || Double.isInfinite(stopTime))
+                throw new NumberFormatException();
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(frame, "Nieprawidłowy format wartości.", "Błąd", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        IntegrationMethod method = methodBox.getSelectedIndex() == 0 ? IntegrationMethod.TRAPEZOIDAL : IntegrationMethod.BACKWARD_EULER;
+
+        TransientSolver solver;
+        try {
+            solver = new TransientSolver(netlist, method);
+        } catch (IllegalArgumentException e) {
+            showSimulationError(String.valueOf(e.getMessage()), frame);
+            return;
+        }
+        new SwingWorker<TransientWaveform, Void>() {
+            @Override
+            protected TransientWaveform doInBackground() {
+                TransientWaveform waveform = new TransientWaveform(netlist.size(), TRANSIENT_SAMPLES);
+                solver.run(stopTime, stopTime / TRANSIENT_STEPS, waveform);
+                return waveform;
+            }
+
+            @Override
+            protected void done() {
+                TransientWaveform waveform;
+                try {
+                    waveform = get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IllegalArgumentException)
+                        showSimulationError(String.valueOf(e.getCause().getMessage()), frame);
+                    else
+                        JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(frame, "Wystąpił nieoczekiwany błąd.", "Błąd symulacji", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                JOptionPane.showMessageDialog(frame, createTransientPlot(waveform, netlist), "Stan nieustalony", JOptionPane.PLAIN_MESSAGE);
+            }
+        }.execute();
+    }
+
+    /**
+     * Appends one line describing the spread of a quantity to a tolerance analysis report.
+     *
+     * @param text the report being built.
+     * @param symbol the symbol of the quantity.
+     * @param statistics the statistics of the quantity.
+     */
+    private static void appendStatistics(StringBuilder text, String symbol, StreamingStatistics statistics) {
+        text.append(String.format(Locale.US, "  %s = %.4g ± %.2g   (5%%: %.4g, 95%%: %.4g)%n", symbol,
+                statistics.mean(), statistics.standardDeviation(), statistics.percentile(5), statistics.percentile(95)));
+    }
+
+    /**
+     * Returns the values of a swept element: logarithmically spaced for positive ranges, linearly otherwise.
+     *
+     * @param start the first value.
+     * @param stop the last value.
+     * @param points the number of values.
+     * @return the swept values.
+     */
+    private static double[] getSweepValues(double start, double stop, int points) {
+        if (start > 0 && stop > 0)
+            return DcSweep.logSpace(start, stop, points);
+        return DcSweep.linSpace(start, stop, points);
+    }
+
+    /**
+     * Asks the user for a file and saves the result of a parameter sweep to it as CSV.
+     *
+     * @param result the result of the sweep.
+     * @param frame the main application frame, used for displaying dialogs.
+     */
+    private static void saveSweepResult(DcSweepResult result, MainFrame frame) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new java.io.File("przemiatanie.csv"));
+        if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION)
+            return;
+        try (Writer writer = Files.newBufferedWriter(chooser.getSelectedFile().toPath(), StandardCharsets.UTF_8)) {
+            result.writeCsv(writer);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(frame, "Nie udało się zapisać pliku.", "Błąd", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Creates a panel drawing the magnitude (in decibels) and phase of every probe of an AC sweep
+     * against a logarithmic frequency axis.
+     *
+     * @param sweep the result of the AC sweep.
+     * @param netlist the netlist the sweep was computed for, used for probe names.
+     * @return the panel with the Bode plots.
+     */
+    private static JPanel createBodePlot(AcSweep sweep, CircuitNetlist netlist) {
+        Color[] colors = {Color.BLUE, Color.RED, new Color(0, 140, 0), Color.MAGENTA, Color.ORANGE, Color.CYAN};
+        JPanel plot = new JPanel() {
+            @Override
+            public void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2d = (Graphics2D) g;
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                int left = 60;
+                int right = getWidth() - 20;
+                int height = (getHeight() - 60) / 2;
+                int[] tops = {20, 40 + height};
+
+                double minDb = Double.POSITIVE_INFINITY;
+                double maxDb = Double.NEGATIVE_INFINITY;
+                for (int p = 0; p < sweep.probeCount(); p++) {
+                    for (int k = 0; k < sweep.pointCount(); k++) {
+                        double db = sweep.magnitudeDb(p, k);
+                        if (Double.isFinite(db)) {
+                            minDb = Math.min(minDb, db);
+                            maxDb = Math.max(maxDb, db);
+                        }
+                    }
+                }
+                if (!(maxDb > minDb)) {
+                    minDb = Double.isFinite(minDb) ? minDb - 1 : -1;
+                    maxDb = minDb + 2;
+                }
+                double[] low = {minDb, -180};
+                double[] high = {maxDb, 180};
+                String[] titles = {"|X| [dB]", "φ [°]"};
+
+                double logStart = Math.log10(sweep.frequency(0));
+                double logSpan = Math.max(Math.log10(sweep.frequency(sweep.pointCount() - 1)) - logStart, 1e-9);
+                for (int chart = 0; chart < 2; chart++) {
+                    int top = tops[chart];
+                    g2d.setColor(Color.LIGHT_GRAY);
+                    for (int decade = (int) Math.ceil(logStart); decade <= logStart + logSpan + 1e-9; decade++) {
+                        int x = left + (int) ((decade - logStart) / logSpan * (right - left));
+                        g2d.drawLine(x, top, x, top + height);
+                        if (chart == 1) {
+                            g2d.setColor(Color.DARK_GRAY);
+                            g2d.drawString(formatDecade(decade) + "Hz", x - 15, top + height + 15);
+                            g2d.setColor(Color.LIGHT_GRAY);
+                        }
+                    }
+                    g2d.setColor(Color.DARK_GRAY);
+                    g2d.drawRect(left, top, right - left, height);
+                    g2d.drawString(titles[chart], 5, top + 12);
+                    g2d.drawString(String.valueOf(Math.round(high[chart])), 5, top + 28);
+                    g2d.drawString(String.valueOf(Math.round(low[chart])), 5, top + height);
+
+                    for (int p = 0; p < sweep.probeCount(); p++) {
+                        g2d.setColor(colors[p % colors.length]);
+                        int previousX = -1;
+                        int previousY = -1;
+                        for (int k = 0; k < sweep.pointCount(); k++) {
+                            double value = chart == 0 ? sweep.magnitudeDb(p, k) : sweep.phase(p, k);
+                            if (!Double.isFinite(value)) {
+                                previousX = -1;
+                                continue;
+                            }
+                            int x = left + (int) ((Math.log10(sweep.frequency(k)) - logStart) / logSpan * (right - left));
+                            int y = top + (int) ((high[chart] - value) / (high[chart] - low[chart]) * height);
+                            if (previousX >= 0)
+                                g2d.drawLine(previousX, previousY, x, y);
+                            previousX = x;
+                            previousY = y;
+                        }
+                        if (chart == 0)
+                            g2d.drawString(netlist.name(sweep.probe(p)), right - 60, top + 15 + 15 * p);
+                    }
+                }
+            }
+        };
+        plot.setPreferredSize(new Dimension(640, 480));
+        return plot;
+    }
+
+    /**
+     * Creates a panel drawing the voltage of every voltmeter and the current of every ammeter of a transient
+     * analysis against time, each kind of meter on its own chart.
+     *
+     * @param waveform the result of the transient analysis.
+     * @param netlist the netlist the analysis was computed for, used for meter names.
+     * @return the panel with the plots.
+     */
+    private static JPanel createTransientPlot(TransientWaveform waveform, CircuitNetlist netlist) {
+        Color[] colors = {Color.BLUE, Color.RED, new Color(0, 140, 0), Color.MAGENTA, Color.ORANGE, Color.CYAN};
+        ComponentType[] meters = {ComponentType.VOLTMETER, ComponentType.AMMETER};
+        String[] titles = {"U", "I"};
+        String[] units = {"V", "A"};
+        JPanel plot = new JPanel() {
+            @Override
+            public void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2d = (Graphics2D) g;
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                int left = 60;
+                int right = getWidth() - 20;
+                int height = (getHeight() - 60) / 2;
+                int samples = waveform.size();
+                double startTime = waveform.time(0);
+                double timeSpan = Math.max(waveform.time(samples - 1) - startTime, 1e-30);
+
+                for (int chart = 0; chart < 2; chart++) {
+                    int top = chart == 0 ? 20 : 40 + height;
+                    boolean isCurrent = meters[chart] == ComponentType.AMMETER;
+                    double low = Double.POSITIVE_INFINITY;
+                    double high = Double.NEGATIVE_INFINITY;
+                    for (int e = 0; e < netlist.size(); e++) {
+                        if (netlist.type(e) != meters[chart])
+                            continue;
+                        for (int k = 0; k < samples; k++) {
+                            double value = isCurrent ? waveform.current(e, k) : waveform.voltage(e, k);
+                            low = Math.min(low, value);
+                            high = Math.max(high, value);
+                        }
+                    }
+                    if (!(high > low)) {
+                        low = Double.isFinite(low) ? low - 1 : -1;
+                        high = low + 2;
+                    }
+                    double range = high - low;
+
+                    g2d.setColor(Color.LIGHT_GRAY);
+                    for (int tick = 1; tick < 5; tick++) {
+                        int x = left + tick * (right - left) / 5;
+                        g2d.drawLine(x, top, x, top + height);
+                    }
+                    g2d.setColor(Color.DARK_GRAY);
+                    g2d.drawRect(left, top, right - left, height);
+                    g2d.drawString(titles[chart], 5, top + 12);
+                    g2d.drawString(formatMetric(high, range, units[chart]), 5, top + 28);
+                    g2d.drawString(formatMetric(low, range, units[chart]), 5, top + height);
+                    if (chart == 1) {
+                        for (int tick = 0; tick <= 5; tick++) {
+                            int x = left + tick * (right - left) / 5;
+                            g2d.drawString(formatMetric(startTime + tick * timeSpan / 5, timeSpan, "s"), tick == 5 ? x - 45 : x - 20, top + height + 15);
+                        }
+                    }
+
+                    int line = 0;
+                    for (int e = 0; e < netlist.size(); e++) {
+                        if (netlist.type(e) != meters[chart])
+                            continue;
+                        g2d.setColor(colors[line % colors.length]);
+                        int previousX = -1;
+                        int previousY = -1;
+                        for (int k = 0; k < samples; k++) {
+                            double value = isCurrent ? waveform.current(e, k) : waveform.voltage(e, k);
+                            int x = left + (int) ((waveform.time(k) - startTime) / timeSpan * (right - left));
+                            int y = top + (int) ((high - value) / (high - low) * height);
+                            if (previousX >= 0)
+                                g2d.drawLine(previousX, previousY, x, y);
+                            previousX = x;
+                            previousY = y;
+                        }
+                        g2d.drawString(netlist.name(e), right - 60, top + 15 + 15 * line);
+                        line++;
+                    }
+                }
+            }
+        };
+        plot.setPreferredSize(new Dimension(640, 480));
+        return plot;
+    }
+
+    /**
+     * Formats a value with a metric prefix and three significant digits, for labelling the axes of the transient plot.
+     * Values negligible against the range of the axis are shown as zero.
+     *
+     * @param value the value.
+     * @param range the range of the axis.
+     * @param unit the unit symbol.
+     * @return the formatted value, e.g. "2.50 ms".
+     */
+    private static String formatMetric(double value, double range, String unit) {
+        String[] prefixes = {"p", "n", "µ", "m", "", "k", "M", "G"};
+        if (Math.abs(value) < 1e-6 * range)
+            return "0 " + unit;
+        int group = Math.clamp((int) Math.floor(Math.log10(Math.abs(value)) / 3), -4, 3);
+        return String.format(Locale.US, "%.3g %s%s", value / Math.pow(1000, group), prefixes[group + 4], unit);
+    }
+
+    /**
+     * Formats a power of ten with a metric prefix, for labelling the frequency axis.
+     *
+     * @param decade the exponent of the power of ten, from 0 to 11.
+     * @return the formatted value, e.g. "100" or "10k".
+     */
+    private static String formatDecade(int decade) {
+        String[] prefixes = {"", "k", "M", "G"};
+        int group = Math.clamp(decade / 3, 0, prefixes.length - 1);
+        return (int) Math.pow(10, decade - 3 * group) + prefixes[group];
+    }
+
+    /**
+     * Verifies whether the circuit contains the correct number and types of elements as specified in the requirements.
+     * Displays an error dialog if the counts do not match the required configuration.
+     *
+     * @param result the result of the verification.
+     * @param frame the main application frame, used for displaying error dialogs.
+     * @return {@code true} if the circuit satisfies the requirements; {@code false} otherwise.
+     */
+    private boolean verifyElementCounts(VerificationResult result, MainFrame frame) {
+        switch (result) {
+            case WRONG_ELEMENT_COUNT -> {
+                JOptionPane.showMessageDialog(frame, "Niewłaściwa liczba elementów wymaganych elementów.", "Błąd weryfikacji wymaganych elementów", JOptionPane.ERROR_MESSAGE);
+                return false;
+            }
+            case UNEXPECTED_ELEMENT -> {
+                JOptionPane.showMessageDialog(frame, "Obwód zawiera niewłaściwe elementy", "Błąd weryfikacji wymaganych elementów", JOptionPane.ERROR_MESSAGE);
+                return false;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Verifies whether the simulated results of the elements match the specified requirements.
+     * Displays an error dialog if any mismatch is found.
+     *
+     * @param result the result of the verification.
+     * @param frame the main application frame, used for displaying error dialogs.
+     * @return {@code true} if all element parameters match the requirements; {@code false} otherwise.
+     */
+    private boolean verifyElementParameters(VerificationResult result, MainFrame frame) {
+        if (result == VerificationResult.CORRECT)
+            return true;
+        JOptionPane.showMessageDialog(frame, "Otrzymane wyniki symulacji nie są zgodne wymaganiami obwodu.", "Błąd weryfikacji parametrów", JOptionPane.ERROR_MESSAGE);
+        return false;
+    }
+
+    /**
+     * Initializes the elements in some levels, once the grid is laid out for the first time.
+     *
+     * @param currentLevel the current level of the game.
+     */
+    private void initializeElements(int currentLevel) {
+        switch (currentLevel) {
+            case 5 -> {
+                if (LevelManager.currentStageIndex == 7) {
+                    addElement(createElement("V", grid.point(1, 2), grid.point(1, 1)));
+                    addElement(createElement("wire", grid.point(1, 1), grid.point(2, 1)));
+                    addElement(createElement("wire", grid.point(1, 2), grid.point(2, 2)));
+                    addElement(createElement("R", grid.point(2, 1), grid.point(2, 2)));
+                    InitChangeValue(grid.midpoint(1, 1, 1, 2), "10");
+                    InitChangeValue(grid.midpoint(2, 1, 2, 2), "1250");
+                }
+            }
+            case 6 -> {
+                if (LevelManager.currentStageIndex == 4) {
+                    addElement(createElement("wire", grid.point(1, 3), grid.point(2, 3)));
+                    addElement(createElement("wire", grid.point(2, 3), grid.point(3, 3)));
+                    addElement(createElement("wire", grid.point(3, 3), grid.point(4, 3)));
+                    addElement(createElement("wire", grid.point(4, 3), grid.point(5, 3)));
+                    addElement(createElement("wire", grid.point(1, 0), grid.point(2, 0)));
+                    addElement(createElement("wire", grid.point(2, 0), grid.point(3, 0)));
+                    addElement(createElement("wire", grid.point(3, 0), grid.point(4, 0)));
+                    addElement(createElement("wire", grid.point(4, 0), grid.point(5, 0)));
+                    addElement(createElement("wire", grid.point(1, 3), grid.point(1, 2)));
+                    addElement(createElement("wire", grid.point(1, 1), grid.point(1, 0)));
+                    addElement(createElement("wire", grid.point(3, 3), grid.point(3, 2)));
+                    addElement(createElement("wire", grid.point(3, 1), grid.point(3, 0)));
+                    addElement(createElement("wire", grid.point(5, 3), grid.point(5, 2)));
+                    addElement(createElement("wire", grid.point(5, 1), grid.point(5, 0)));
+                    addElement(createElement("V", grid.point(1, 2), grid.point(1, 1)));
+                    addElement(createElement("R", grid.point(3, 2), grid.point(3, 1)));
+                    addElement(createElement("R", grid.point(5, 2), grid.point(5, 1)));
+                    InitChangeValue(grid.midpoint(1, 1, 1, 2), "12");
+                    InitChangeValue(grid.midpoint(3, 1, 3, 2), "500");
+                    InitChangeValue(grid.midpoint(5, 1, 5, 2), "3k");
+                }
+                if (LevelManager.currentStageIndex == 5) {
+                    addElement(createElement("wire", grid.point(1, 3), grid.point(2, 3)));
+                    addElement(createElement("wire", grid.point(2, 3), grid.point(3, 3)));
+                    addElement(createElement("wire", grid.point(3, 3), grid.point(4, 3)));
+                    addElement(createElement("wire", grid.point(4, 3), grid.point(5, 3)));
+                    addElement(createElement("wire", grid.point(1, 1), grid.point(2, 1)));
+                    addElement(createElement("R", grid.point(2, 1), grid.point(3, 1)));
+                    addElement(createElement("wire", grid.point(3, 1), grid.point(4, 1)));
+                    addElement(createElement("R", grid.point(4, 1), grid.point(5, 1)));
+                    addElement(createElement("V", grid.point(1, 3), grid.point(1, 2)));
+                    addElement(createElement("wire", grid.point(1, 2), grid.point(1, 1)));
+                    addElement(createElement("R", grid.point(3, 3), grid.point(3, 2)));
+                    addElement(createElement("wire", grid.point(3, 2), grid.point(3, 1)));
+                    addElement(createElement("R", grid.point(5, 3), grid.point(5, 2)));
+                    addElement(createElement("wire", grid.point(5, 2), grid.point(5, 1)));
+                    InitChangeValue(grid.midpoint(1, 2, 1, 3), "20");
+                    InitChangeValue(grid.midpoint(3, 2, 3, 3), "60");
+                    InitChangeValue(grid.midpoint(5, 2, 5, 3), "100");
+                    InitChangeValue(grid.midpoint(2, 1, 3, 1), "20");
+                    InitChangeValue(grid.midpoint(4, 1, 5, 1), "150");
+
+                }
+            }
+            case 7 -> {
+                if (LevelManager.currentStageIndex == 4) {
+                    addElement(createElement("wire", grid.point(0, 2), grid.point(1, 2)));
+                    addElement(createElement("wire", grid.point(1, 2), grid.point(2, 2)));
+                    addElement(createElement("wire", grid.point(2, 2), grid.point(3, 2)));
+                    addElement(createElement("wire", grid.point(3, 2), grid.point(4, 2)));
+                    addElement(createElement("wire", grid.point(4, 2), grid.point(5, 2)));
+
+                    addElement(createElement("wire", grid.point(0, 1), grid.point(1, 1)));
+                    addElement(createElement("wire", grid.point(1, 1), grid.point(2, 1)));
+                    addElement(createElement("R", grid.point(2, 1), grid.point(3, 1)));
+                    addElement(createElement("wire", grid.point(3, 1), grid.point(4, 1)));
+                    addElement(createElement("R", grid.point(4, 1), grid.point(5, 1)));
+
+                    addElement(createElement("V", grid.point(0, 2), grid.point(0, 1)));
+                    addElement(createElement("R", grid.point(5, 2), grid.point(5, 1)));
+                    InitChangeValue(grid.midpoint(0, 1, 0, 2), "10");
+                    InitChangeValue(grid.midpoint(2, 1, 3, 1), "10");
+                    InitChangeValue(grid.midpoint(4, 1, 5, 1), "15");
+                    InitChangeValue(grid.midpoint(5, 1, 5, 2), "25");
+                }
+                if (LevelManager.currentStageIndex == 5) {
+                    addElement(createElement("wire", grid.point(1, 2), grid.point(2, 2)));
+                    addElement(createElement("wire", grid.point(2, 2), grid.point(3, 2)));
+                    addElement(createElement("wire", grid.point(3, 2), grid.point(4, 2)));
+                    addElement(createElement("wire", grid.point(4, 2), grid.point(5, 2)));
+                    addElement(createElement("wire", grid.point(1, 0), grid.point(2, 0)));
+                    addElement(createElement("wire", grid.point(2, 0), grid.point(3, 0)));
+                    addElement(createElement("wire", grid.point(3, 0), grid.point(4, 0)));
+                    addElement(createElement("wire", grid.point(4, 0), grid.point(5, 0)));
+                    addElement(createElement("V", grid.point(1, 2), grid.point(1, 1)));
+                    addElement(createElement("V", grid.point(1, 1), grid.point(1, 0)));
+                    addElement(createElement("R", grid.point(3, 2), grid.point(3, 1)));
+                    addElement(createElement("wire", grid.point(3, 1), grid.point(3, 0)));
+                    addElement(createElement("R", grid.point(4, 2), grid.point(4, 1)));
+                    addElement(createElement("wire", grid.point(4, 1), grid.point(4, 0)));
+                    addElement(createElement("R", grid.point(5, 2), grid.point(5, 1)));
+                    addElement(createElement("wire", grid.point(5, 1), grid.point(5, 0)));
+                    InitChangeValue(grid.midpoint(3, 1, 3, 2), "50");
+                    InitChangeValue(grid.midpoint(4, 1, 4, 2), "10");
+                    InitChangeValue(grid.midpoint(5, 1, 5, 2), "100");
+                }
+            }
+            case 9 -> {
+                addElement(createElement("wire", grid.point(0, 3), grid.point(1, 3)));
+                addElement(createElement("wire", grid.point(1, 3), grid.point(2, 3)));
+                addElement(createElement("wire", grid.point(2, 3), grid.point(3, 3)));
+                addElement(createElement("wire", grid.point(3, 3), grid.point(4, 3)));
+                addElement(createElement("wire", grid.point(4, 3), grid.point(5, 3)));
+
+                addElement(createElement("wire", grid.point(0, 0), grid.point(1, 0)));
+                addElement(createElement("R", grid.point(1, 0), grid.point(2, 0)));
+                addElement(createElement("wire", grid.point(2, 0), grid.point(3, 0)));
+                addElement(createElement("wire", grid.point(3, 0), grid.point(4, 0)));
+                addElement(createElement("wire", grid.point(4, 0), grid.point(5, 0)));
+
+                addElement(createElement("wire", grid.point(0, 3), grid.point(0, 2)));
+                addElement(createElement("V", grid.point(0, 2), grid.point(0, 1)));
+                addElement(createElement("wire", grid.point(0, 1), grid.point(0, 0)));
+
+                addElement(createElement("wire", grid.point(3, 3), grid.point(3, 2)));
+                addElement(createElement("R", grid.point(3, 2), grid.point(3, 1)));
+                addElement(createElement("wire", grid.point(3, 1), grid.point(3, 0)));
+
+                addElement(createElement("R", grid.point(5, 3), grid.point(5, 2)));
+                addElement(createElement("R", grid.point(5, 2), grid.point(5, 1)));
+                addElement(createElement("wire", grid.point(5, 1), grid.point(5, 0)));
+
+
+                InitChangeValue(grid.midpoint(0, 1, 0, 2), "12");
+                InitChangeValue(grid.midpoint(1, 0, 2, 0), "50");
+                InitChangeValue(grid.midpoint(3, 1, 3, 2), "50");
+                InitChangeValue(grid.midpoint(5, 1, 5, 2), "30");
+                InitChangeValue(grid.midpoint(5, 2, 5, 3), "70");
+            }
+        }
+        actions.clear();
+    }
+
+    /**
+     * Paints the simulation area, including elements and snap points.
+     *
+     * @param g the Graphics context used for rendering.
+     */
+    @Override
+    public void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Backgrounds.paint(g, this);
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setColor(MainFrame.getTextTheme());
+        g2d.setStroke(new BasicStroke(2));
+        g.drawLine(0, toolbar.getHeight() + 10, getWidth(), toolbar.getHeight() + 10);
+        g.drawLine(0, toolbar.getHeight() - 126, getWidth(), toolbar.getHeight() - 126);
+    }
+
+}
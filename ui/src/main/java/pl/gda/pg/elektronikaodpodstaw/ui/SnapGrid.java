@@ -0,0 +1,207 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import java.awt.*;
+
+/**
+ * Represents the grid of snap points spread over the simulation area.
+ * The grid is computed once for a size of the area, and the positions of its points and the snapping of
+ * arbitrary points to it are plain arithmetic, so they cost the same for a 4x7 grid as for a 100x100 one.
+ */
+public class SnapGrid {
+
+    /** The horizontal distance between the area border and the first column. */
+    public static final int MARGIN_X = 40;
+
+    /** The vertical distance between the area border and the first row. */
+    public static final int MARGIN_Y = 50;
+
+    /** The total horizontal and vertical margin left around the grid. */
+    private static final int MARGINS = 80;
+
+    /** The largest distance at which a point snaps to the grid. */
+    private static final int SNAP_DISTANCE = 50;
+
+    /** The largest diameter of a drawn snap point. */
+    private static final int MAX_POINT_SIZE = 10;
+
+    /** The number of columns. */
+    private final int columns;
+
+    /** The number of rows. */
+    private final int rows;
+
+    /** The distance between adjacent columns. */
+    private final int stepX;
+
+    /** The distance between adjacent rows. */
+    private final int stepY;
+
+    /** Half the distance between adjacent columns, rounded up. */
+    private final int halfStepX;
+
+    /** Half the distance between adjacent rows, rounded up. */
+    private final int halfStepY;
+
+    /**
+     * Constructs a grid spread over an area of the specified size.
+     *
+     * @param columns the number of columns, at least 2.
+     * @param rows the number of rows, at least 2.
+     * @param width the width of the area.
+     * @param height the height of the area.
+     */
+    public SnapGrid(int columns, int rows, int width, int height) {
+        this.columns = columns;
+        this.rows = rows;
+        stepX = Math.max(1, (width - MARGINS) / (columns - 1));
+        stepY = Math.max(1, (height - MARGINS) / (rows - 1));
+        halfStepX = (stepX + 1) / 2;
+        halfStepY = (stepY + 1) / 2;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns.
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the horizontal position of a column.
+     *
+     * @param col the column.
+     * @return the horizontal coordinate.
+     */
+    public int x(int col) {
+        return MARGIN_X + col * stepX;
+    }
+
+    /**
+     * Returns the vertical position of a row.
+     *
+     * @param row the row.
+     * @return the vertical coordinate.
+     */
+    public int y(int row) {
+        return MARGIN_Y + row * stepY;
+    }
+
+    /**
+     * Returns the position of a snap point.
+     *
+     * @param col the column of the snap point.
+     * @param row the row of the snap point.
+     * @return the position of the snap point.
+     */
+    public Point point(int col, int row) {
+        return new Point(x(col), y(row));
+    }
+
+    /**
+     * Returns the midpoint between two snap points.
+     *
+     * @param col the column of the first snap point.
+     * @param row the row of the first snap point.
+     * @param endCol the column of the second snap point.
+     * @param endRow the row of the second snap point.
+     * @return the midpoint.
+     */
+    public Point midpoint(int col, int row, int endCol, int endRow) {
+        return new Point((x(col) + x(endCol)) / 2, (y(row) + y(endRow)) / 2);
+    }
+
+    /**
+     * Returns the column of a horizontal coordinate lying exactly on the grid.
+     *
+     * @param x the horizontal coordinate.
+     * @return the column, or -1 if the coordinate is not on a column.
+     */
+    public int column(int x) {
+        int offset = x - MARGIN_X;
+        return offset >= 0 && offset % stepX == 0 && offset / stepX < columns ? offset / stepX : -1;
+    }
+
+    /**
+     * Returns the row of a vertical coordinate lying exactly on the grid.
+     *
+     * @param y the vertical coordinate.
+     * @return the row, or -1 if the coordinate is not on a row.
+     */
+    public int row(int y) {
+        int offset = y - MARGIN_Y;
+        return offset >= 0 && offset % stepY == 0 && offset / stepY < rows ? offset / stepY : -1;
+    }
+
+    /**
+     * Finds the snap point nearest to a point by rounding its position to the grid. The point snaps if it lies
+     * within {@value #SNAP_DISTANCE} pixels of the snap point, or within half a step on a denser grid.
+     *
+     * @param p the point to snap.
+     * @return the nearest snap point if it is close enough, or {@code null} otherwise.
+     */
+    public Point snap(Point p) {
+        int col = Math.clamp(Math.round((p.x - MARGIN_X) / (float) stepX), 0, columns - 1);
+        int row = Math.clamp(Math.round((p.y - MARGIN_Y) / (float) stepY), 0, rows - 1);
+        int dx = p.x - x(col);
+        int dy = p.y - y(row);
+        boolean close = Math.abs(dx) <= halfStepX && Math.abs(dy) <= halfStepY && dx * dx + dy * dy < SNAP_DISTANCE * SNAP_DISTANCE;
+        return close ? point(col, row) : null;
+    }
+
+    /**
+     * Checks whether two snap points are neighbours in the same row or column.
+     *
+     * @param start the first snap point.
+     * @param end the second snap point.
+     * @return {@code true} if the points are one step apart.
+     */
+    public boolean isAdjacent(Point start, Point end) {
+        int dx = Math.abs(end.x - start.x);
+        int dy = Math.abs(end.y - start.y);
+        return dx == stepX && dy == 0 || dx == 0 && dy == stepY;
+    }
+
+    /**
+     * Returns the diameter of the drawn snap points, shrinking with the distance between them.
+     *
+     * @return the diameter.
+     */
+    public int pointSize() {
+        return Math.clamp(Math.min(stepX, stepY) / 3, 2, MAX_POINT_SIZE);
+    }
+
+    /**
+     * Draws all snap points.
+     *
+     * @param g the graphics context used for rendering.
+     */
+    public void draw(Graphics g) {
+        int size = pointSize();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++)
+                g.fillOval(x(col) - size / 2, y(row) - size / 2, size, size);
+        }
+    }
+
+    /**
+     * Checks whether this grid places its points where another one does.
+     *
+     * @param other the other grid, or {@code null}.
+     * @return {@code true} if both grids have the same points.
+     */
+    public boolean hasSamePoints(SnapGrid other) {
+        return other != null && columns == other.columns && rows == other.rows && stepX == other.stepX && stepY == other.stepY;
+    }
+
+}
@@ -0,0 +1,101 @@
+package pl.gda.pg.elektronikaodpodstaw.ui;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the toolbar icons recolored to a theme and scaled to their size, shared by all panels of the process.
+ * An icon is recolored in a single pass over its pixel array that paints every visible pixel in the theme color,
+ * and every transparent one in the same color without alpha, so that smoothing does not blend in other colors.
+ * It is then scaled once and kept per icon, size and color. Icons can be prepared on a background thread, so that
+ * building a toolbar only looks them up.
+ */
+public final class ThemedIcons {
+
+    /** The prepared icons by icon, size and color. */
+    private static final ConcurrentHashMap<Key, ImageIcon> icons = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a prepared icon.
+     *
+     * @param path the resource path of the icon image.
+     * @param size the width and height of the icon.
+     * @param rgb the color of the icon.
+     */
+    private record Key(String path, int size, int rgb) {
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private ThemedIcons() {
+    }
+
+    /**
+     * Returns an icon recolored and scaled, preparing it first if needed.
+     *
+     * @param path the resource path of the icon image.
+     * @param size the width and height of the icon.
+     * @param color the color of the visible pixels.
+     * @return the prepared icon.
+     * @throws UncheckedIOException if the image cannot be read.
+     */
+    public static ImageIcon get(String path, int size, Color color) {
+        return icons.computeIfAbsent(new Key(path, size, color.getRGB()), ThemedIcons::prepare);
+    }
+
+    /**
+     * Prepares icons on a background thread.
+     *
+     * @param paths the resource paths of the icon images.
+     * @param sizes the size of each icon.
+     * @param color the color of the visible pixels.
+     */
+    public static void warmUp(String[] paths, int[] sizes, Color color) {
+        Thread.ofVirtual().name("icon-warm-up").start(() -> {
+            for (int i = 0; i < paths.length; i++)
+                get(paths[i], sizes[i], color);
+        });
+    }
+
+    /**
+     * Reads, recolors and scales an icon.
+     *
+     * @param key the icon to prepare.
+     * @return the prepared icon.
+     * @throws UncheckedIOException if the image cannot be read.
+     */
+    private static ImageIcon prepare(Key key) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(Objects.requireNonNull(ThemedIcons.class.getResource(key.path())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        BufferedImage recolored = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = recolored.createGraphics();
+        g2d.drawImage(source, 0, 0, null);
+        g2d.dispose();
+
+        int[] pixels = ((DataBufferInt) recolored.getRaster().getDataBuffer()).getData();
+        int visible = key.rgb();
+        int hidden = key.rgb() & 0x00ffffff;
+        for (int i = 0; i < pixels.length; i++)
+            pixels[i] = pixels[i] >>> 24 == 0 ? hidden : visible;
+
+        ImageIcon scaled = new ImageIcon(recolored.getScaledInstance(key.size(), key.size(), Image.SCALE_SMOOTH));
+        BufferedImage icon = new BufferedImage(key.size(), key.size(), BufferedImage.TYPE_INT_ARGB);
+        g2d = icon.createGraphics();
+        g2d.drawImage(scaled.getImage(), 0, 0, null);
+        g2d.dispose();
+        return new ImageIcon(icon);
+    }
+
+}